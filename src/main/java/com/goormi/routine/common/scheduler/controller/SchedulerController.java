@@ -1,23 +1,31 @@
 package com.goormi.routine.common.scheduler.controller;
 
 import com.goormi.routine.common.response.ApiResponse;
+import com.goormi.routine.common.scheduler.job.JobExecutor;
 import com.goormi.routine.common.scheduler.service.MonthlySchedulerService;
+import com.goormi.routine.domain.userActivity.service.DailyActivityRollupService;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDate;
+import java.util.Map;
+
 @RestController
 @RequestMapping("/api/scheduler")
 @RequiredArgsConstructor
 @Slf4j
-@Tag(name = "스케줄러", description = "스케줄러 관리 API")
+@Tag(name = "스케줄러", description = "스케줄러 관리 API (관리자 전용, SecurityConfig 의 /api/scheduler/** ADMIN 규칙 적용)")
 public class SchedulerController {
 
 	private final MonthlySchedulerService monthlySchedulerService;
+	private final DailyActivityRollupService dailyActivityRollupService;
+	private final JobExecutor jobExecutor;
 
 	@Operation(
 		summary = "수동 월간 초기화 실행",
@@ -43,4 +51,65 @@ public class SchedulerController {
 		monthlySchedulerService.manualRetryReviewMessages(monthYear);
 		return ApiResponse.success("수동 회고 메시지 재전송이 완료되었습니다.", null);
 	}
-}
\ No newline at end of file
+
+	@Operation(
+		summary = "수동 월간 회고 메시지 전송",
+		description = "[관리자 전용] 대상 월의 회고 메시지를 전체 사용자에게 파티션 단위로 전송합니다.",
+		hidden = true
+	)
+	@PostMapping("/review-messages")
+	public ApiResponse<JobExecutor.JobRunResult> executeManualSendReviewMessages(
+		@Parameter(description = "대상 월 (YYYY-MM), 생략 시 전월")
+		@RequestParam(required = false) String monthYear) {
+
+		JobExecutor.JobRunResult result = monthlySchedulerService.manualSendMonthlyReviewMessages(monthYear);
+		return ApiResponse.success("수동 월간 회고 메시지 전송이 완료되었습니다.", result);
+	}
+
+	@Operation(
+		summary = "일별 활동 집계 재적재",
+		description = "기간 내 일별 활동 집계(daily_activity_rollup)를 원본 활동 기준으로 다시 적재합니다.",
+		hidden = true
+	)
+	@PostMapping("/activity-rollup/backfill")
+	public ApiResponse<Integer> backfillActivityRollup(
+		@Parameter(description = "시작일 (YYYY-MM-DD), 필수")
+		@RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+		@Parameter(description = "종료일 (YYYY-MM-DD), 필수")
+		@RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate) {
+
+		int inserted = dailyActivityRollupService.backfill(startDate, endDate);
+		return ApiResponse.success("일별 활동 집계 재적재가 완료되었습니다.", inserted);
+	}
+
+	@Operation(
+		summary = "배치 작업 진행 상황 조회",
+		description = "[관리자 전용] 배치 작업 실행 요약과 파티션별 상태(시도 횟수, 처리 건수, 소요 시간)를 기간별로 조회합니다.",
+		hidden = true
+	)
+	@GetMapping("/jobs/{jobName}/progress")
+	public ApiResponse<Map<String, Object>> getJobProgress(
+		@Parameter(description = "작업 이름 (monthly_review, monthly_ranking_reset)")
+		@PathVariable String jobName,
+		@Parameter(description = "실행 기간 (YYYY-MM), 생략 시 마지막 실행")
+		@RequestParam(required = false) String period) {
+
+		return ApiResponse.success(jobExecutor.getProgress(jobName, period));
+	}
+
+	@Operation(
+		summary = "실패 파티션 재실행",
+		description = "[관리자 전용] 배치 작업의 해당 기간 실행에서 실패한 파티션만 다시 실행합니다.",
+		hidden = true
+	)
+	@PostMapping("/jobs/{jobName}/retry")
+	public ApiResponse<JobExecutor.JobRunResult> retryFailedPartitions(
+		@Parameter(description = "작업 이름 (monthly_review, monthly_ranking_reset)")
+		@PathVariable String jobName,
+		@Parameter(description = "실행 기간 (YYYY-MM), 생략 시 마지막 실행")
+		@RequestParam(required = false) String period) {
+
+		JobExecutor.JobRunResult result = monthlySchedulerService.manualRetryFailedPartitions(jobName, period);
+		return ApiResponse.success("실패 파티션 재실행이 완료되었습니다.", result);
+	}
+}
@@ -0,0 +1,30 @@
+package com.goormi.routine.common.scheduler.job;
+
+import java.util.List;
+
+/**
+ * 파티션 단위로 나누어 실행하는 배치 작업 정의
+ * - 파티션은 서로 독립적으로 처리 가능해야 하며, 실패한 파티션만 다시 실행될 수 있음
+ */
+public interface JobDefinition {
+
+	String getName();
+
+	/**
+	 * 작업을 ID 범위 파티션으로 분할
+	 * @param parameter 실행 파라미터 (예: 대상 월 yyyy-MM)
+	 */
+	List<JobPartition> createPartitions(String parameter);
+
+	/**
+	 * 파티션 하나를 처리하고 처리/실패 건수를 반환, 예외가 발생하면 파티션 실패로 기록
+	 * 개별 건의 실패는 예외 대신 failed 로 돌려주면 파티션은 PARTIAL 로 기록됨
+	 */
+	JobPartitionResult process(JobPartition partition, String parameter);
+
+	/**
+	 * 모든 파티션이 개별 실패 없이 성공한 뒤 한 번 실행
+	 */
+	default void onCompleted(String parameter) {
+	}
+}
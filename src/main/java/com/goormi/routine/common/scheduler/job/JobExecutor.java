@@ -0,0 +1,240 @@
+package com.goormi.routine.common.scheduler.job;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BooleanSupplier;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import com.goormi.routine.common.scheduler.repository.JobRunRedisRepository;
+import com.goormi.routine.common.scheduler.service.SchedulerLeaseManager;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 파티션 단위 배치 작업 실행기
+ * - 파티션을 설정된 크기의 워커 풀에서 병렬 처리
+ * - 파티션별 상태/소요 시간을 JobRunRedisRepository 에 기록하여 실행 중 진행 상황 조회 가능
+ * - 실패한 파티션만 max-attempts 까지 다시 실행하고, 이후에는 retryFailed 로 수동 재실행
+ * - 파티션 안의 개별 실패 건수를 집계하여 실행을 PARTIAL 로 기록
+ * - 실행 현황은 작업 이름과 실행 파라미터(기간) 별로 따로 기록
+ * - 스케줄러 임대를 잃으면 아직 시작하지 않은 파티션은 실행하지 않고 실패로 기록
+ */
+@Slf4j
+@Component
+public class JobExecutor {
+
+	private static final String FAILED = "FAILED";
+	private static final String PARTIAL = "PARTIAL";
+
+	private final Map<String, JobDefinition> jobs;
+	private final JobRunRedisRepository jobRunRedisRepository;
+	private final SchedulerLeaseManager schedulerLeaseManager;
+
+	@Value("${scheduler.job.workers:4}")
+	private int workers;
+
+	@Value("${scheduler.job.max-attempts:3}")
+	private int maxAttempts;
+
+	private ExecutorService jobExecutor;
+
+	public JobExecutor(List<JobDefinition> jobDefinitions, JobRunRedisRepository jobRunRedisRepository,
+		SchedulerLeaseManager schedulerLeaseManager) {
+		this.jobs = jobDefinitions.stream()
+			.collect(Collectors.toMap(JobDefinition::getName, Function.identity()));
+		this.jobRunRedisRepository = jobRunRedisRepository;
+		this.schedulerLeaseManager = schedulerLeaseManager;
+	}
+
+	@PostConstruct
+	void init() {
+		jobExecutor = Executors.newFixedThreadPool(workers, new CustomizableThreadFactory("scheduler-job-"));
+	}
+
+	@PreDestroy
+	void shutdown() {
+		jobExecutor.shutdownNow();
+	}
+
+	public JobRunResult run(String jobName, String parameter) {
+		JobDefinition job = getJob(jobName);
+		List<JobPartition> partitions = job.createPartitions(parameter);
+		jobRunRedisRepository.startRun(jobName, parameter, partitions);
+		log.info("배치 작업 시작: 작업 = {}, 파라미터 = {}, 파티션 = {}개", jobName, parameter, partitions.size());
+
+		return execute(job, parameter, partitions, partitions.size(), 0L, 0L);
+	}
+
+	/**
+	 * 해당 기간 실행에서 실패한 파티션만 다시 실행
+	 * @param parameter 실행 파라미터 (예: 대상 월 yyyy-MM), null 이면 마지막 실행
+	 */
+	public JobRunResult retryFailed(String jobName, String parameter) {
+		JobDefinition job = getJob(jobName);
+		String targetParameter = parameter != null ? parameter : jobRunRedisRepository.getLatestParameter(jobName);
+		if (targetParameter == null) {
+			log.info("재실행할 실행 기록이 없습니다: 작업 = {}", jobName);
+			return JobRunResult.empty(jobName, null);
+		}
+		Map<String, String> summary = jobRunRedisRepository.getSummary(jobName, targetParameter);
+		List<JobPartition> failedPartitions = jobRunRedisRepository.findPartitionsByState(jobName, targetParameter, FAILED);
+		if (summary.isEmpty() || failedPartitions.isEmpty()) {
+			log.info("재실행할 실패 파티션이 없습니다: 작업 = {}, 파라미터 = {}", jobName, targetParameter);
+			return JobRunResult.empty(jobName, targetParameter);
+		}
+
+		int totalPartitions = Integer.parseInt(summary.getOrDefault("totalPartitions", "0"));
+		long alreadyProcessed = Long.parseLong(summary.getOrDefault("processed", "0"));
+		long alreadyFailedItems = Long.parseLong(summary.getOrDefault("failedItems", "0"));
+		jobRunRedisRepository.updateSummary(jobName, targetParameter, Map.of("state", "RUNNING", "failed", "0"));
+		log.info("실패 파티션 재실행: 작업 = {}, 파라미터 = {}, 파티션 = {}개", jobName, targetParameter, failedPartitions.size());
+
+		return execute(job, targetParameter, failedPartitions, totalPartitions, alreadyProcessed, alreadyFailedItems);
+	}
+
+	/**
+	 * @param parameter 실행 파라미터, null 이면 마지막 실행
+	 */
+	public Map<String, Object> getProgress(String jobName, String parameter) {
+		getJob(jobName);
+		String targetParameter = parameter != null ? parameter : jobRunRedisRepository.getLatestParameter(jobName);
+		Map<String, Object> progress = new HashMap<>();
+		if (targetParameter == null) {
+			progress.put("summary", Map.of());
+			progress.put("partitions", List.of());
+			return progress;
+		}
+		progress.put("summary", jobRunRedisRepository.getSummary(jobName, targetParameter));
+		progress.put("partitions", jobRunRedisRepository.getPartitions(jobName, targetParameter));
+		return progress;
+	}
+
+	private JobRunResult execute(JobDefinition job, String parameter, List<JobPartition> partitions,
+		int totalPartitions, long alreadyProcessed, long alreadyFailedItems) {
+		String jobName = job.getName();
+		int alreadySucceeded = totalPartitions - partitions.size();
+		AtomicInteger succeeded = new AtomicInteger();
+		AtomicLong processed = new AtomicLong(alreadyProcessed);
+		AtomicLong failedItems = new AtomicLong(alreadyFailedItems);
+		// 워커 스레드에서도 확인할 수 있도록 작업을 시작한 스레드의 임대 상태를 가져옴
+		BooleanSupplier leaseHeld = schedulerLeaseManager.currentLeaseCheck();
+
+		List<JobPartition> pending = partitions;
+		for (int attempt = 1; attempt <= maxAttempts && !pending.isEmpty(); attempt++) {
+			int currentAttempt = attempt;
+			List<CompletableFuture<JobPartition>> futures = pending.stream()
+				.map(partition -> CompletableFuture.supplyAsync(
+					() -> runPartition(job, partition, parameter, currentAttempt, succeeded, processed, failedItems,
+						alreadySucceeded, leaseHeld),
+					jobExecutor))
+				.toList();
+
+			List<JobPartition> failed = new ArrayList<>();
+			for (CompletableFuture<JobPartition> future : futures) {
+				JobPartition failedPartition = future.join();
+				if (failedPartition != null) {
+					failed.add(failedPartition);
+				}
+			}
+			pending = failed;
+			if (!leaseHeld.getAsBoolean()) {
+				log.error("스케줄러 임대 유실로 배치 작업을 중단합니다: 작업 = {}, 남은 파티션 = {}개", jobName, pending.size());
+				break;
+			}
+		}
+
+		// 실패 파티션이 있으면 FAILED, 파티션은 모두 끝났지만 개별 실패가 있으면 PARTIAL
+		String state = !pending.isEmpty() ? FAILED : failedItems.get() > 0 ? PARTIAL : "COMPLETED";
+		if (pending.isEmpty() && failedItems.get() == 0) {
+			job.onCompleted(parameter);
+		}
+
+		Map<String, String> summary = new HashMap<>();
+		summary.put("state", state);
+		summary.put("succeeded", String.valueOf(alreadySucceeded + succeeded.get()));
+		summary.put("failed", String.valueOf(pending.size()));
+		summary.put("processed", String.valueOf(processed.get()));
+		summary.put("failedItems", String.valueOf(failedItems.get()));
+		summary.put("finishedAt", LocalDateTime.now().toString());
+		jobRunRedisRepository.updateSummary(jobName, parameter, summary);
+
+		log.info("배치 작업 종료: 작업 = {}, 파라미터 = {}, 상태 = {}, 성공 파티션 = {}, 실패 파티션 = {}, 처리 건수 = {}, 실패 건수 = {}",
+			jobName, parameter, state, alreadySucceeded + succeeded.get(), pending.size(), processed.get(), failedItems.get());
+		return new JobRunResult(jobName, parameter, state, alreadySucceeded + succeeded.get(), pending.size(),
+			processed.get(), failedItems.get());
+	}
+
+	/**
+	 * @return 실패한 경우 해당 파티션, 성공(개별 실패가 있는 PARTIAL 포함)하면 null
+	 */
+	private JobPartition runPartition(JobDefinition job, JobPartition partition, String parameter, int attempt,
+		AtomicInteger succeeded, AtomicLong processed, AtomicLong failedItems, int alreadySucceeded,
+		BooleanSupplier leaseHeld) {
+		String jobName = job.getName();
+		if (!leaseHeld.getAsBoolean()) {
+			jobRunRedisRepository.updatePartition(jobName, parameter, partition, FAILED, attempt, 0, 0,
+				"스케줄러 임대 유실로 실행하지 않음");
+			return partition;
+		}
+		long startedAt = System.currentTimeMillis();
+		jobRunRedisRepository.updatePartition(jobName, parameter, partition, "RUNNING", attempt, 0, 0, "");
+
+		try {
+			JobPartitionResult result = job.process(partition, parameter);
+			long duration = System.currentTimeMillis() - startedAt;
+			// 개별 실패 건은 각 작업의 재처리 경로(예: 회고 재전송)로 다루므로 파티션을 다시 실행하지 않음
+			if (result.failed() > 0) {
+				log.warn("파티션 일부 실패: 작업 = {}, 파티션 = {} ({} ~ {}), 실패 건수 = {}",
+					jobName, partition.index(), partition.startId(), partition.endId(), result.failed());
+				jobRunRedisRepository.updatePartition(jobName, parameter, partition, PARTIAL, attempt, result.processed(),
+					duration, "개별 실패 " + result.failed() + "건");
+			} else {
+				jobRunRedisRepository.updatePartition(jobName, parameter, partition, "SUCCESS", attempt,
+					result.processed(), duration, "");
+			}
+			jobRunRedisRepository.updateSummary(jobName, parameter, Map.of(
+				"succeeded", String.valueOf(alreadySucceeded + succeeded.incrementAndGet()),
+				"processed", String.valueOf(processed.addAndGet(result.processed())),
+				"failedItems", String.valueOf(failedItems.addAndGet(result.failed()))));
+			return null;
+		} catch (Exception e) {
+			long duration = System.currentTimeMillis() - startedAt;
+			log.error("파티션 처리 실패: 작업 = {}, 파티션 = {} ({} ~ {}), 시도 = {}/{}",
+				jobName, partition.index(), partition.startId(), partition.endId(), attempt, maxAttempts, e);
+			jobRunRedisRepository.updatePartition(jobName, parameter, partition, FAILED, attempt, 0, duration,
+				e.getMessage());
+			return partition;
+		}
+	}
+
+	private JobDefinition getJob(String jobName) {
+		JobDefinition job = jobs.get(jobName);
+		if (job == null) {
+			throw new IllegalArgumentException("존재하지 않는 작업입니다: " + jobName);
+		}
+		return job;
+	}
+
+	public record JobRunResult(String jobName, String parameter, String state, int succeededPartitions,
+		int failedPartitions, long processed, long failedItems) {
+
+		static JobRunResult empty(String jobName, String parameter) {
+			return new JobRunResult(jobName, parameter, "NONE", 0, 0, 0, 0);
+		}
+	}
+}
@@ -0,0 +1,22 @@
+package com.goormi.routine.common.scheduler.job;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * ID 범위 [startId, endId] 로 표현되는 작업 파티션
+ */
+public record JobPartition(int index, long startId, long endId) {
+
+	/**
+	 * [1, maxId] 범위를 size 크기의 파티션으로 분할
+	 */
+	public static List<JobPartition> ofIdRange(long maxId, long size) {
+		List<JobPartition> partitions = new ArrayList<>();
+		int index = 0;
+		for (long start = 1; start <= maxId; start += size) {
+			partitions.add(new JobPartition(index++, start, Math.min(start + size - 1, maxId)));
+		}
+		return partitions;
+	}
+}
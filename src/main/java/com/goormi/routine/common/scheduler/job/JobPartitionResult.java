@@ -0,0 +1,13 @@
+package com.goormi.routine.common.scheduler.job;
+
+/**
+ * 파티션 하나의 처리 결과
+ * @param processed 처리한 건수
+ * @param failed 파티션은 끝났지만 개별 처리에 실패한 건수 (예: 사용자별 전송 실패)
+ */
+public record JobPartitionResult(long processed, long failed) {
+
+	public static JobPartitionResult of(long processed) {
+		return new JobPartitionResult(processed, 0);
+	}
+}
@@ -0,0 +1,145 @@
+package com.goormi.routine.common.scheduler.repository;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.stereotype.Repository;
+
+import com.goormi.routine.common.scheduler.job.JobPartition;
+import com.goormi.routine.domain.auth.repository.RedisRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 배치 작업 실행 현황 (Redis Hash), 작업과 실행 기간(파라미터) 별로 따로 보관
+ * - scheduler:job:{job}:{parameter} : 실행 요약 (state, parameter, 파티션 수, 성공/실패 수, 처리/실패 건수, 시작/종료 시각)
+ * - scheduler:job:{job}:{parameter}:partitions : 파티션 번호 -> "state|attempts|startId|endId|processed|durationMs|message"
+ * - scheduler:job:{job}:latest : 마지막으로 시작한 실행의 파라미터
+ */
+@Repository
+@RequiredArgsConstructor
+@Slf4j
+public class JobRunRedisRepository {
+
+	private static final String JOB_PREFIX = "scheduler:job:";
+	private static final String PARTITIONS_SUFFIX = ":partitions";
+	private static final String LATEST_SUFFIX = ":latest";
+	private static final int EXPIRE_DAYS = 7;
+
+	private final RedisRepository redisRepository;
+
+	public void startRun(String jobName, String parameter, List<JobPartition> partitions) {
+		redisRepository.deleteDataBatch(List.of(summaryKey(jobName, parameter), partitionsKey(jobName, parameter)));
+
+		Map<String, String> summary = new HashMap<>();
+		summary.put("state", "RUNNING");
+		summary.put("parameter", parameter);
+		summary.put("totalPartitions", String.valueOf(partitions.size()));
+		summary.put("succeeded", "0");
+		summary.put("failed", "0");
+		summary.put("processed", "0");
+		summary.put("failedItems", "0");
+		summary.put("startedAt", LocalDateTime.now().toString());
+		redisRepository.saveHash(summaryKey(jobName, parameter), summary, EXPIRE_DAYS * 24 * 60 * 60);
+
+		Map<String, String> fields = new HashMap<>();
+		partitions.forEach(partition -> fields.put(String.valueOf(partition.index()),
+			formatPartition("PENDING", 0, partition, 0, 0, "")));
+		if (!fields.isEmpty()) {
+			redisRepository.saveHash(partitionsKey(jobName, parameter), fields, EXPIRE_DAYS * 24 * 60 * 60);
+		}
+		redisRepository.saveData(latestKey(jobName), parameter, EXPIRE_DAYS * 24 * 60 * 60);
+	}
+
+	/**
+	 * 마지막으로 시작한 실행의 파라미터, 실행 기록이 없으면 null
+	 */
+	public String getLatestParameter(String jobName) {
+		return redisRepository.getData(latestKey(jobName));
+	}
+
+	public void updateSummary(String jobName, String parameter, Map<String, String> fields) {
+		try {
+			redisRepository.saveHash(summaryKey(jobName, parameter), fields, EXPIRE_DAYS * 24 * 60 * 60);
+		} catch (Exception e) {
+			log.error("작업 요약 업데이트 실패: {}", jobName, e);
+		}
+	}
+
+	public void updatePartition(String jobName, String parameter, JobPartition partition, String state, int attempts,
+		long processed, long durationMs, String message) {
+		try {
+			redisRepository.saveHash(partitionsKey(jobName, parameter),
+				Map.of(String.valueOf(partition.index()), formatPartition(state, attempts, partition, processed, durationMs, message)),
+				EXPIRE_DAYS * 24 * 60 * 60);
+		} catch (Exception e) {
+			log.error("파티션 상태 업데이트 실패: 작업 = {}, 파티션 = {}", jobName, partition.index(), e);
+		}
+	}
+
+	public Map<String, String> getSummary(String jobName, String parameter) {
+		return redisRepository.getHash(summaryKey(jobName, parameter));
+	}
+
+	/**
+	 * 마지막 실행의 요약, 실행 기록이 없으면 빈 Map
+	 */
+	public Map<String, String> getLatestSummary(String jobName) {
+		String parameter = getLatestParameter(jobName);
+		return parameter == null ? Map.of() : getSummary(jobName, parameter);
+	}
+
+	public List<Map<String, Object>> getPartitions(String jobName, String parameter) {
+		List<Map<String, Object>> partitions = new ArrayList<>();
+		redisRepository.getHash(partitionsKey(jobName, parameter)).forEach((index, value) -> {
+			String[] parts = value.split("\\|", 7);
+			Map<String, Object> partition = new HashMap<>();
+			partition.put("index", Integer.parseInt(index));
+			partition.put("state", parts[0]);
+			partition.put("attempts", Integer.parseInt(parts[1]));
+			partition.put("startId", Long.parseLong(parts[2]));
+			partition.put("endId", Long.parseLong(parts[3]));
+			partition.put("processed", Long.parseLong(parts[4]));
+			partition.put("durationMs", Long.parseLong(parts[5]));
+			partition.put("message", parts.length > 6 ? parts[6] : "");
+			partitions.add(partition);
+		});
+		partitions.sort(Comparator.comparingInt(partition -> (Integer) partition.get("index")));
+		return partitions;
+	}
+
+	/**
+	 * 해당 실행에서 지정한 상태로 끝난 파티션 목록 (실패 파티션 재실행용)
+	 */
+	public List<JobPartition> findPartitionsByState(String jobName, String parameter, String state) {
+		return getPartitions(jobName, parameter).stream()
+			.filter(partition -> state.equals(partition.get("state")))
+			.map(partition -> new JobPartition((Integer) partition.get("index"),
+				(Long) partition.get("startId"), (Long) partition.get("endId")))
+			.toList();
+	}
+
+	private String formatPartition(String state, int attempts, JobPartition partition,
+		long processed, long durationMs, String message) {
+		String safeMessage = message == null ? "" : message.replace("|", "/");
+		return String.format("%s|%d|%d|%d|%d|%d|%s", state, attempts, partition.startId(), partition.endId(),
+			processed, durationMs, safeMessage);
+	}
+
+	private String summaryKey(String jobName, String parameter) {
+		return JOB_PREFIX + jobName + ":" + parameter;
+	}
+
+	private String partitionsKey(String jobName, String parameter) {
+		return summaryKey(jobName, parameter) + PARTITIONS_SUFFIX;
+	}
+
+	private String latestKey(String jobName) {
+		return JOB_PREFIX + jobName + LATEST_SUFFIX;
+	}
+}
@@ -0,0 +1,91 @@
+package com.goormi.routine.common.scheduler.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+
+import com.goormi.routine.domain.auth.repository.RedisRepository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 스케줄러 작업 임대(lease) 저장소
+ * - scheduler:lease:{job} : 소유자 값(인스턴스 ID:펜싱 토큰), PX 만료
+ * - scheduler:lease:{job}:fence : 임대를 얻을 때마다 증가하는 펜싱 토큰
+ * - scheduler:done:{job}:{period} : 기간별 작업 완료 표시
+ */
+@Repository
+@RequiredArgsConstructor
+public class SchedulerLeaseRedisRepository {
+
+	private static final String LEASE_PREFIX = "scheduler:lease:";
+	private static final String FENCE_SUFFIX = ":fence";
+	private static final String DONE_PREFIX = "scheduler:done:";
+
+	// 임대 획득 시 펜싱 토큰 발급, 이미 다른 소유자가 있으면 0 (ARGV: 인스턴스 ID, 만료 ms)
+	private static final RedisScript<Long> ACQUIRE_SCRIPT = new DefaultRedisScript<>(
+		"if redis.call('SET', KEYS[1], ARGV[1], 'NX', 'PX', ARGV[2]) then " +
+			"  local token = redis.call('INCR', KEYS[2]) " +
+			"  redis.call('SET', KEYS[1], ARGV[1] .. ':' .. token, 'PX', ARGV[2]) " +
+			"  return token " +
+			"end " +
+			"return 0", Long.class);
+
+	// 소유자가 같을 때만 만료 연장 (ARGV: 소유자 값, 만료 ms)
+	private static final RedisScript<Long> RENEW_SCRIPT = new DefaultRedisScript<>(
+		"if redis.call('GET', KEYS[1]) == ARGV[1] then " +
+			"  return redis.call('PEXPIRE', KEYS[1], ARGV[2]) " +
+			"end " +
+			"return 0", Long.class);
+
+	// 소유자가 같을 때만 해제 (ARGV: 소유자 값)
+	private static final RedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>(
+		"if redis.call('GET', KEYS[1]) == ARGV[1] then " +
+			"  return redis.call('DEL', KEYS[1]) " +
+			"end " +
+			"return 0", Long.class);
+
+	private final RedisRepository redisRepository;
+
+	/**
+	 * @return 펜싱 토큰, 획득 실패 시 0
+	 */
+	public long acquire(String jobName, String instanceId, long leaseMillis) {
+		Long token = redisRepository.executeScript(ACQUIRE_SCRIPT,
+			List.of(leaseKey(jobName), leaseKey(jobName) + FENCE_SUFFIX), instanceId, String.valueOf(leaseMillis));
+		return token != null ? token : 0L;
+	}
+
+	public boolean renew(String jobName, String owner, long leaseMillis) {
+		Long renewed = redisRepository.executeScript(RENEW_SCRIPT, List.of(leaseKey(jobName)),
+			owner, String.valueOf(leaseMillis));
+		return renewed != null && renewed == 1L;
+	}
+
+	public void release(String jobName, String owner) {
+		redisRepository.executeScript(RELEASE_SCRIPT, List.of(leaseKey(jobName)), owner);
+	}
+
+	public String getOwner(String jobName) {
+		return redisRepository.getData(leaseKey(jobName));
+	}
+
+	public void markCompleted(String jobName, String period, long expireSeconds) {
+		redisRepository.saveData(doneKey(jobName, period), LocalDateTime.now().toString(), expireSeconds);
+	}
+
+	public boolean isCompleted(String jobName, String period) {
+		return redisRepository.hasKey(doneKey(jobName, period));
+	}
+
+	private String doneKey(String jobName, String period) {
+		return DONE_PREFIX + jobName + ":" + period;
+	}
+
+	private String leaseKey(String jobName) {
+		return LEASE_PREFIX + jobName;
+	}
+}
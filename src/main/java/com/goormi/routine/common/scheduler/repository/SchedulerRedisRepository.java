@@ -17,14 +17,14 @@ public class SchedulerRedisRepository {
 
 	private final RedisRepository redisRepository;
 
+	private static final String SCHEDULER_STATUS_KEY = "scheduler:statuses";
 	private static final String SCHEDULER_STATUS_PREFIX = "scheduler:status:";
 	private static final int STATUS_EXPIRE_DAYS = 7;
 
 	public void updateSchedulerStatus(String schedulerName, String status, String message) {
 		try {
-			String key = SCHEDULER_STATUS_PREFIX + schedulerName;
 			String value = String.format("%s|%s|%s", LocalDateTime.now(), status, message);
-			redisRepository.saveData(key, value, STATUS_EXPIRE_DAYS * 24 * 60 * 60);
+			redisRepository.saveHash(SCHEDULER_STATUS_KEY, Map.of(schedulerName, value), STATUS_EXPIRE_DAYS * 24 * 60 * 60);
 			log.debug("스케줄러 상태 업데이트: {} = {}", schedulerName, status);
 		} catch (Exception e) {
 			log.error("스케줄러 상태 업데이트 실패: {}", schedulerName, e);
@@ -33,8 +33,9 @@ public class SchedulerRedisRepository {
 
 	public String getSchedulerStatus(String schedulerName) {
 		try {
-			String key = SCHEDULER_STATUS_PREFIX + schedulerName;
-			return redisRepository.getData(key);
+			String status = redisRepository.getHashField(SCHEDULER_STATUS_KEY, schedulerName);
+			// 해시 도입 이전에 저장된 개별 키 호환
+			return status != null ? status : redisRepository.getData(SCHEDULER_STATUS_PREFIX + schedulerName);
 		} catch (Exception e) {
 			log.error("스케줄러 상태 조회 실패: {}", schedulerName, e);
 			return null;
@@ -43,16 +44,7 @@ public class SchedulerRedisRepository {
 
 	public Map<String, String> getAllSchedulerStatus() {
 		try {
-			String pattern = SCHEDULER_STATUS_PREFIX + "*";
-			Map<String, String> statusMap = new HashMap<>();
-
-			redisRepository.getKeysByPattern(pattern).forEach(key -> {
-				String schedulerName = key.replace(SCHEDULER_STATUS_PREFIX, "");
-				String status = redisRepository.getData(key);
-				statusMap.put(schedulerName, status);
-			});
-
-			return statusMap;
+			return new HashMap<>(redisRepository.getHash(SCHEDULER_STATUS_KEY));
 		} catch (Exception e) {
 			log.error("전체 스케줄러 상태 조회 실패", e);
 			return new HashMap<>();
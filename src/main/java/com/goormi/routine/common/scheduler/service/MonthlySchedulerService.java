@@ -1,5 +1,7 @@
 package com.goormi.routine.common.scheduler.service;
 
+import com.goormi.routine.common.scheduler.job.JobExecutor;
+
 public interface MonthlySchedulerService {
 	void executeMonthlyReset();
 	void retryFailedReviewMessages();
@@ -7,4 +9,8 @@ public interface MonthlySchedulerService {
 	void manualMonthlyReset();
 
 	void manualRetryReviewMessages(String monthYear);
+
+	JobExecutor.JobRunResult manualSendMonthlyReviewMessages(String monthYear);
+
+	JobExecutor.JobRunResult manualRetryFailedPartitions(String jobName, String period);
 }
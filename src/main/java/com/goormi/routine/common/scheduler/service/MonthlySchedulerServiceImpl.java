@@ -6,9 +6,12 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
+import com.goormi.routine.common.scheduler.job.JobExecutor;
 import com.goormi.routine.common.scheduler.repository.SchedulerRedisRepository;
+import com.goormi.routine.domain.review.service.MonthlyReviewJob;
 
 import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicReference;
 
 @Service
 @RequiredArgsConstructor
@@ -17,6 +20,8 @@ public class MonthlySchedulerServiceImpl implements MonthlySchedulerService {
 
 	private final SchedulerManagementService schedulerManagementService;
 	private final SchedulerRedisRepository schedulerRedisRepository;
+	private final SchedulerLeaseManager schedulerLeaseManager;
+	private final JobExecutor jobExecutor;
 
 	// 매월 1일 00:30에 월단위 초기화 실행
 	@Override
@@ -25,12 +30,16 @@ public class MonthlySchedulerServiceImpl implements MonthlySchedulerService {
 		LocalDateTime startTime = LocalDateTime.now();
 
 		try {
-			schedulerRedisRepository.updateSchedulerStatus("monthly_reset", "RUNNING", "월간 초기화 시작");
+			// 여러 인스턴스 중 임대를 얻은 한 곳에서, 월마다 한 번만 실행
+			String currentMonth = java.time.LocalDate.now().format(java.time.format.DateTimeFormatter.ofPattern("yyyy-MM"));
+			schedulerLeaseManager.runOncePerPeriod("monthly_reset", currentMonth, () -> {
+				schedulerRedisRepository.updateSchedulerStatus("monthly_reset", "RUNNING", "월간 초기화 시작");
 
-			schedulerManagementService.executeMonthlyReset();
+				schedulerManagementService.executeMonthlyReset();
 
-			schedulerRedisRepository.updateSchedulerStatus("monthly_reset", "SUCCESS", "월간 초기화 완료");
-			log.info("자동 월간 초기화 완료");
+				schedulerRedisRepository.updateSchedulerStatus("monthly_reset", "SUCCESS", "월간 초기화 완료");
+				log.info("자동 월간 초기화 완료");
+			});
 
 		} catch (Exception e) {
 			String errorMsg = "월간 초기화 실패: " + e.getMessage();
@@ -47,14 +56,16 @@ public class MonthlySchedulerServiceImpl implements MonthlySchedulerService {
 			int dayOfMonth = java.time.LocalDate.now().getDayOfMonth();
 
 			if (dayOfMonth <= 3) {
-				schedulerRedisRepository.updateSchedulerStatus("retry_message", "RUNNING", "재전송 스케줄러 시작");
-				String previousMonth = java.time.LocalDate.now().minusMonths(1)
-					.format(java.time.format.DateTimeFormatter.ofPattern("yyyy-MM"));
+				schedulerLeaseManager.runOncePerPeriod("retry_message", java.time.LocalDate.now().toString(), () -> {
+					schedulerRedisRepository.updateSchedulerStatus("retry_message", "RUNNING", "재전송 스케줄러 시작");
+					String previousMonth = java.time.LocalDate.now().minusMonths(1)
+						.format(java.time.format.DateTimeFormatter.ofPattern("yyyy-MM"));
 
-				schedulerManagementService.retryFailedMessages(previousMonth);
+					schedulerManagementService.retryFailedMessages(previousMonth);
 
-				schedulerRedisRepository.updateSchedulerStatus("retry_message", "SUCCESS", "재전송 완료");
-				log.info("회고 메시지 재전송 완료");
+					schedulerRedisRepository.updateSchedulerStatus("retry_message", "SUCCESS", "재전송 완료");
+					log.info("회고 메시지 재전송 완료");
+				});
 			}
 
 		} catch (Exception e) {
@@ -68,12 +79,48 @@ public class MonthlySchedulerServiceImpl implements MonthlySchedulerService {
 	@Override
 	public void manualMonthlyReset() {
 		log.info("수동 월간 초기화 실행");
-		schedulerManagementService.executeMonthlyReset();
+		boolean executed = schedulerLeaseManager.runExclusive("monthly_reset",
+			schedulerManagementService::executeMonthlyReset);
+		if (!executed) {
+			throw new IllegalStateException("월간 초기화가 이미 실행 중입니다.");
+		}
 	}
 
 	@Override
 	public void manualRetryReviewMessages(String monthYear){
 		log.info("수동 회고 메시지 재전송 실행: 월 = {}", monthYear);
-		schedulerManagementService.retryFailedMessages(monthYear);
+		boolean executed = schedulerLeaseManager.runExclusive("retry_message",
+			() -> schedulerManagementService.retryFailedMessages(monthYear));
+		if (!executed) {
+			throw new IllegalStateException("회고 메시지 재전송이 이미 실행 중입니다.");
+		}
+	}
+
+	@Override
+	public JobExecutor.JobRunResult manualSendMonthlyReviewMessages(String monthYear) {
+		String targetMonth = monthYear != null ? monthYear :
+			java.time.LocalDate.now().minusMonths(1).format(java.time.format.DateTimeFormatter.ofPattern("yyyy-MM"));
+		log.info("수동 월간 회고 메시지 전송 실행: 월 = {}", targetMonth);
+		// 회고 전송은 월간 초기화의 일부이므로 같은 임대로 중복 실행을 막고, 파티션 단위로 진행 상황을 남김
+		AtomicReference<JobExecutor.JobRunResult> result = new AtomicReference<>();
+		boolean executed = schedulerLeaseManager.runExclusive("monthly_reset",
+			() -> result.set(jobExecutor.run(MonthlyReviewJob.NAME, targetMonth)));
+		if (!executed) {
+			throw new IllegalStateException("월간 초기화가 이미 실행 중입니다.");
+		}
+		return result.get();
+	}
+
+	@Override
+	public JobExecutor.JobRunResult manualRetryFailedPartitions(String jobName, String period) {
+		log.info("실패 파티션 수동 재실행: 작업 = {}, 기간 = {}", jobName, period);
+		// 파티션 작업은 월간 초기화의 일부이므로 같은 임대로 중복 실행을 막음
+		AtomicReference<JobExecutor.JobRunResult> result = new AtomicReference<>();
+		boolean executed = schedulerLeaseManager.runExclusive("monthly_reset",
+			() -> result.set(jobExecutor.retryFailed(jobName, period)));
+		if (!executed) {
+			throw new IllegalStateException("월간 초기화가 이미 실행 중입니다.");
+		}
+		return result.get();
 	}
-}
\ No newline at end of file
+}
@@ -0,0 +1,176 @@
+package com.goormi.routine.common.scheduler.service;
+
+import java.net.InetAddress;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BooleanSupplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import com.goormi.routine.common.scheduler.repository.SchedulerLeaseRedisRepository;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 여러 인스턴스 중 한 곳에서만 스케줄 작업을 실행하도록 Redis 임대(lease)로 조정
+ * - SET NX PX 로 임대를 얻고, 획득할 때마다 증가하는 펜싱 토큰을 소유자 값에 붙여 연장/해제를 소유자 본인으로 제한
+ * - 작업이 도는 동안 만료 시간의 1/3 주기로 임대를 연장
+ * - 연장에 실패하면(임대 유실) 작업을 중단 상태로 표시: JobExecutor 는 남은 파티션을 실행하지 않고,
+ *   작업이 끝나면 예외를 던져 실패로 기록
+ * - runOncePerPeriod 는 기간별 완료 표시를 남겨, 시계가 어긋난 인스턴스가 같은 기간 작업을 다시 실행하지 않도록 함
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SchedulerLeaseManager {
+
+	// 기간별 완료 표시 보관 기간 (월 단위 작업보다 길게)
+	private static final long COMPLETION_EXPIRE_SECONDS = 60L * 60 * 24 * 40;
+
+	// 현재 스레드에서 실행 중인 작업의 임대 보유 여부
+	private static final ThreadLocal<AtomicBoolean> CURRENT_LEASE = new ThreadLocal<>();
+
+	private final SchedulerLeaseRedisRepository schedulerLeaseRedisRepository;
+
+	@Value("${scheduler.lease.ttl-ms:60000}")
+	private long leaseMillis;
+
+	private final String instanceId = resolveInstanceId();
+
+	private ScheduledExecutorService renewalExecutor;
+
+	@PostConstruct
+	void init() {
+		renewalExecutor = Executors.newSingleThreadScheduledExecutor(new CustomizableThreadFactory("scheduler-lease-"));
+	}
+
+	@PreDestroy
+	void shutdown() {
+		renewalExecutor.shutdownNow();
+	}
+
+	/**
+	 * 임대를 얻은 경우에만 작업을 실행
+	 * @return 작업 실행 여부 (다른 인스턴스가 실행 중이면 false)
+	 * @throws IllegalStateException 작업 도중 임대를 잃은 경우
+	 */
+	public boolean runExclusive(String jobName, Runnable job) {
+		return run(jobName, null, job);
+	}
+
+	/**
+	 * 기간(period) 당 한 번만 작업을 실행, 성공하면 완료 표시를 남김
+	 * @param period 실행 기간 (예: 월간 작업은 yyyy-MM)
+	 * @return 작업 실행 여부 (이미 완료된 기간이거나 다른 인스턴스가 실행 중이면 false)
+	 */
+	public boolean runOncePerPeriod(String jobName, String period, Runnable job) {
+		if (schedulerLeaseRedisRepository.isCompleted(jobName, period)) {
+			log.info("이미 완료된 기간의 작업입니다: 작업 = {}, 기간 = {}", jobName, period);
+			return false;
+		}
+		return run(jobName, period, job);
+	}
+
+	/**
+	 * 현재 스레드에서 실행 중인 작업의 임대 보유 여부를 확인하는 함수 (임대 없이 실행 중이면 항상 true)
+	 * - 다른 스레드에서 호출할 수 있도록 작업을 시작한 스레드에서 미리 얻어 둠
+	 */
+	public BooleanSupplier currentLeaseCheck() {
+		AtomicBoolean held = CURRENT_LEASE.get();
+		return held == null ? () -> true : held::get;
+	}
+
+	private boolean run(String jobName, String period, Runnable job) {
+		long fencingToken = schedulerLeaseRedisRepository.acquire(jobName, instanceId, leaseMillis);
+		if (fencingToken == 0L) {
+			log.info("다른 인스턴스가 작업을 실행 중입니다: 작업 = {}, 소유자 = {}",
+				jobName, schedulerLeaseRedisRepository.getOwner(jobName));
+			return false;
+		}
+
+		String owner = instanceId + ":" + fencingToken;
+		AtomicBoolean held = new AtomicBoolean(true);
+		ScheduledFuture<?> renewal = scheduleRenewal(jobName, owner, held);
+		log.info("스케줄러 임대 획득: 작업 = {}, 소유자 = {}", jobName, owner);
+
+		try {
+			// 임대를 얻기 직전에 다른 인스턴스가 끝냈을 수 있으므로 다시 확인
+			if (period != null && schedulerLeaseRedisRepository.isCompleted(jobName, period)) {
+				log.info("이미 완료된 기간의 작업입니다: 작업 = {}, 기간 = {}", jobName, period);
+				return false;
+			}
+
+			CURRENT_LEASE.set(held);
+			try {
+				job.run();
+			} finally {
+				CURRENT_LEASE.remove();
+			}
+
+			if (!held.get()) {
+				throw new IllegalStateException("작업 도중 스케줄러 임대를 잃었습니다: " + jobName);
+			}
+			if (period != null) {
+				schedulerLeaseRedisRepository.markCompleted(jobName, period, COMPLETION_EXPIRE_SECONDS);
+			}
+			return true;
+		} finally {
+			renewal.cancel(false);
+			try {
+				schedulerLeaseRedisRepository.release(jobName, owner);
+			} catch (Exception e) {
+				// 해제하지 못해도 만료 시간이 지나면 자동으로 풀림
+				log.warn("스케줄러 임대 해제 실패: 작업 = {}, message = {}", jobName, e.getMessage());
+			}
+		}
+	}
+
+	/**
+	 * 만료 시간의 1/3 주기로 임대 연장
+	 * - 소유자가 바뀌었거나, 연장 오류가 계속되어 마지막 연장 이후 만료 시간이 지나면 임대 유실로 표시
+	 */
+	private ScheduledFuture<?> scheduleRenewal(String jobName, String owner, AtomicBoolean held) {
+		long renewInterval = Math.max(leaseMillis / 3, 1000L);
+		AtomicLong lastRenewedAt = new AtomicLong(System.currentTimeMillis());
+		return renewalExecutor.scheduleAtFixedRate(() -> {
+			if (!held.get()) {
+				return;
+			}
+			try {
+				if (schedulerLeaseRedisRepository.renew(jobName, owner, leaseMillis)) {
+					lastRenewedAt.set(System.currentTimeMillis());
+				} else {
+					held.set(false);
+					log.error("스케줄러 임대 유실, 작업을 중단합니다: 작업 = {}, 소유자 = {}", jobName, owner);
+				}
+			} catch (Exception e) {
+				if (System.currentTimeMillis() - lastRenewedAt.get() >= leaseMillis) {
+					held.set(false);
+					log.error("스케줄러 임대 연장이 계속 실패하여 작업을 중단합니다: 작업 = {}, 소유자 = {}", jobName, owner, e);
+				} else {
+					log.warn("스케줄러 임대 연장 실패: 작업 = {}, message = {}", jobName, e.getMessage());
+				}
+			}
+		}, renewInterval, renewInterval, TimeUnit.MILLISECONDS);
+	}
+
+	private static String resolveInstanceId() {
+		String host;
+		try {
+			host = InetAddress.getLocalHost().getHostName();
+		} catch (Exception e) {
+			host = "unknown";
+		}
+		return host + "-" + UUID.randomUUID().toString().substring(0, 8);
+	}
+}
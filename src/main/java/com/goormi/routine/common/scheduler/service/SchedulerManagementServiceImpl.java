@@ -4,8 +4,12 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
+import com.goormi.routine.common.scheduler.job.JobExecutor;
+import com.goormi.routine.common.scheduler.job.JobExecutor.JobRunResult;
+import com.goormi.routine.common.scheduler.repository.JobRunRedisRepository;
 import com.goormi.routine.common.scheduler.repository.SchedulerRedisRepository;
-import com.goormi.routine.domain.ranking.service.RankingService;
+import com.goormi.routine.domain.ranking.service.MonthlyRankingResetJob;
+import com.goormi.routine.domain.review.service.MonthlyReviewJob;
 import com.goormi.routine.domain.review.service.ReviewService;
 import com.goormi.routine.domain.user.repository.UserRepository;
 
@@ -20,17 +24,28 @@ import java.util.Map;
 @Slf4j
 public class SchedulerManagementServiceImpl implements SchedulerManagementService{
 
-	private final RankingService rankingService;
 	private final ReviewService reviewService;
 	private final SchedulerRedisRepository schedulerRedisRepository;
+	private final JobExecutor jobExecutor;
+	private final JobRunRedisRepository jobRunRedisRepository;
 	private final UserRepository userRepository;
 
 	@Override
 	public void executeMonthlyReset() {
 		String previousMonth = LocalDate.now().minusMonths(1).format(DateTimeFormatter.ofPattern("yyyy-MM"));
+		String currentMonth = LocalDate.now().format(DateTimeFormatter.ofPattern("yyyy-MM"));
 
-		reviewService.sendMonthlyReviewMessages(previousMonth);
-		rankingService.resetMonthlyRankings();
+		JobRunResult reviewResult = jobExecutor.run(MonthlyReviewJob.NAME, previousMonth);
+		JobRunResult rankingResult = jobExecutor.run(MonthlyRankingResetJob.NAME, currentMonth);
+
+		if (reviewResult.failedPartitions() > 0 || rankingResult.failedPartitions() > 0) {
+			throw new RuntimeException(String.format("일부 파티션 실패: 회고 %d개, 랭킹 %d개 (실패 파티션만 재실행 가능)",
+				reviewResult.failedPartitions(), rankingResult.failedPartitions()));
+		}
+		if (reviewResult.failedItems() > 0) {
+			// 전송에 실패한 사용자는 재전송 대상으로 기록되어 있으므로 재전송 스케줄러가 처리
+			log.warn("월간 회고 일부 전송 실패: 월 = {}, 실패 = {}건", previousMonth, reviewResult.failedItems());
+		}
 
 		log.info("월간 초기화 완료");
 	}
@@ -54,6 +69,9 @@ public class SchedulerManagementServiceImpl implements SchedulerManagementServic
 		String retryStatus = schedulerRedisRepository.getSchedulerStatus("retry_message"); // 변경된 부분
 		status.put("retryMessage", parseStatus(retryStatus));
 
+		status.put("monthlyReviewJob", jobRunRedisRepository.getLatestSummary(MonthlyReviewJob.NAME));
+		status.put("monthlyRankingResetJob", jobRunRedisRepository.getLatestSummary(MonthlyRankingResetJob.NAME));
+
 		String currentMonth = LocalDate.now().format(DateTimeFormatter.ofPattern("yyyy-MM"));
 		int failedCount = reviewService.getFailedMessageCount(currentMonth);
 		long totalUsers = userRepository.count();
@@ -0,0 +1,25 @@
+package com.goormi.routine.common.security;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+/**
+ * 토큰 원문 대신 저장/비교에 쓰는 SHA-256 다이제스트(hex)
+ * - 블랙리스트 키(BL:{digest}), 블룸 필터, JWT 파싱 캐시 키가 같은 값을 쓰도록 한 곳에서 계산
+ */
+public final class TokenDigest {
+
+    private TokenDigest() {
+    }
+
+    public static String of(String token) {
+        try {
+            MessageDigest messageDigest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(messageDigest.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 알고리즘을 사용할 수 없습니다.", e);
+        }
+    }
+}
@@ -2,6 +2,7 @@ package com.goormi.routine.config;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.goormi.routine.domain.auth.service.TokenBlacklistBloomFilter;
 import com.goormi.routine.domain.chat.service.RedisMessageSubscriber;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
@@ -75,15 +76,23 @@ public class RedisConfig {
 		return new ChannelTopic("chat");
 	}
 	
+	@Bean
+	public ChannelTopic blacklistTopic() {
+		return new ChannelTopic(TokenBlacklistBloomFilter.CHANNEL);
+	}
+	
 	@Bean
 	public RedisMessageListenerContainer redisMessageListenerContainer(
 			RedisConnectionFactory connectionFactory,
 			MessageListenerAdapter listenerAdapter,
-			ChannelTopic chatTopic) {
+			ChannelTopic chatTopic,
+			MessageListenerAdapter blacklistListenerAdapter,
+			ChannelTopic blacklistTopic) {
 		
 		RedisMessageListenerContainer container = new RedisMessageListenerContainer();
 		container.setConnectionFactory(connectionFactory);
 		container.addMessageListener(listenerAdapter, chatTopic);
+		container.addMessageListener(blacklistListenerAdapter, blacklistTopic);
 		return container;
 	}
 	
@@ -91,4 +100,10 @@ public class RedisConfig {
 	public MessageListenerAdapter listenerAdapter(RedisMessageSubscriber subscriber) {
 		return new MessageListenerAdapter(subscriber, "onMessage");
 	}
+	
+	// 다른 인스턴스의 로그아웃(토큰 다이제스트) 수신
+	@Bean
+	public MessageListenerAdapter blacklistListenerAdapter(TokenBlacklistBloomFilter tokenBlacklistBloomFilter) {
+		return new MessageListenerAdapter(tokenBlacklistBloomFilter, "onMessage");
+	}
 }
@@ -37,6 +37,12 @@ public class SecurityConfig {
             .csrf(csrf -> csrf.disable())
             .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
             .authorizeHttpRequests(auth -> auth
+                // 운영 지표 조회와 배치 수동 실행/재적재는 관리자만 허용
+                .requestMatchers(
+                    "/notifications/subscribe/metrics",
+                    "/api/calendar/kakao-api/metrics",
+                    "/api/scheduler/**"
+                ).hasRole("ADMIN")
                 .requestMatchers(
                     "/api/health/**",
                     "/swagger-ui/**",
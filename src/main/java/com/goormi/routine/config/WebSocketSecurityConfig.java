@@ -40,8 +40,9 @@ public class WebSocketSecurityConfig implements WebSocketMessageBrokerConfigurer
                     if (authToken != null && authToken.startsWith("Bearer ")) {
                         String token = authToken.substring(7);
                         
-                        if (jwtTokenProvider.validateToken(token)) {
-                            Long userId = jwtTokenProvider.getUserId(token);
+                        JwtTokenProvider.ParsedToken parsedToken = jwtTokenProvider.parseToken(token);
+                        if (parsedToken.result() == JwtTokenProvider.TokenValidationResult.VALID) {
+                            Long userId = parsedToken.getUserId();
                             UsernamePasswordAuthenticationToken authentication = 
                                 new UsernamePasswordAuthenticationToken(userId, null, null);
                             SecurityContextHolder.getContext().setAuthentication(authentication);
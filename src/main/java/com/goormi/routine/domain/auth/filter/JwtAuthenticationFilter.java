@@ -2,10 +2,9 @@ package com.goormi.routine.domain.auth.filter;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.goormi.routine.common.response.ApiResponse;
+import com.goormi.routine.domain.auth.service.AuthenticatedPrincipalCache;
 import com.goormi.routine.domain.auth.service.JwtTokenProvider;
 import com.goormi.routine.domain.auth.service.TokenService;
-import com.goormi.routine.domain.user.entity.User;
-import com.goormi.routine.domain.user.repository.UserRepository;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -22,6 +21,7 @@ import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
 import java.util.List;
+import java.util.Optional;
 
 @Slf4j
 @Component
@@ -29,7 +29,7 @@ import java.util.List;
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
     
     private final JwtTokenProvider jwtTokenProvider;
-    private final UserRepository userRepository;
+    private final AuthenticatedPrincipalCache authenticatedPrincipalCache;
     private final TokenService tokenService;
     private final ObjectMapper objectMapper = new ObjectMapper();
     
@@ -52,9 +52,9 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             return;
         }
         
-        // 토큰 유효성 상세 검증
-        JwtTokenProvider.TokenValidationResult validationResult = 
-            jwtTokenProvider.validateTokenWithDetails(token);
+        // 토큰 유효성 상세 검증 (한 번만 파싱하고 Claims 를 재사용)
+        JwtTokenProvider.ParsedToken parsedToken = jwtTokenProvider.parseToken(token);
+        JwtTokenProvider.TokenValidationResult validationResult = parsedToken.result();
         
         if (validationResult == JwtTokenProvider.TokenValidationResult.EXPIRED) {
             sendErrorResponse(response, HttpServletResponse.SC_UNAUTHORIZED, 
@@ -76,36 +76,34 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             return;
         }
         
-        // 사용자 정보 설정
-        Long userId = jwtTokenProvider.getUserId(token);
-        userRepository.findById(userId).ifPresentOrElse(
-            user -> {
-                List<SimpleGrantedAuthority> authorities = List.of(
-                    new SimpleGrantedAuthority("ROLE_" + user.getRole().name())
-                );
-                
-                UsernamePasswordAuthenticationToken authentication = 
-                    new UsernamePasswordAuthenticationToken(userId, null, authorities);
-                    
-                SecurityContextHolder.getContext().setAuthentication(authentication);
-                log.debug("Authenticated user: {} with ID: {}", user.getEmail(), userId);
-            },
-            () -> {
-                log.warn("User not found for token: {}", userId);
-                try {
-                    sendErrorResponse(response, HttpServletResponse.SC_UNAUTHORIZED, 
-                        "사용자를 찾을 수 없습니다.");
-                } catch (IOException e) {
-                    log.error("Error sending response", e);
-                }
-            }
-        );
+        // 사용자 정보 설정 (캐시에 없을 때만 DB 조회)
+        Long userId = parsedToken.getUserId();
+        Optional<AuthenticatedPrincipalCache.CachedPrincipal> principal = authenticatedPrincipalCache.get(userId);
+        if (principal.isEmpty()) {
+            log.warn("User not found for token: {}", userId);
+            sendErrorResponse(response, HttpServletResponse.SC_UNAUTHORIZED, 
+                "사용자를 찾을 수 없습니다.");
+            return;
+        }
         
-        // 사용자가 없으면 여기서 리턴
-        if (SecurityContextHolder.getContext().getAuthentication() == null) {
+        // 탈퇴(비활성) 사용자는 토큰이 남아 있어도 인증하지 않음
+        if (!principal.get().active()) {
+            log.warn("Inactive user token used: {}", userId);
+            sendErrorResponse(response, HttpServletResponse.SC_UNAUTHORIZED, 
+                "비활성화된 사용자입니다.");
             return;
         }
         
+        List<SimpleGrantedAuthority> authorities = List.of(
+            new SimpleGrantedAuthority("ROLE_" + principal.get().role().name())
+        );
+        
+        UsernamePasswordAuthenticationToken authentication = 
+            new UsernamePasswordAuthenticationToken(userId, null, authorities);
+            
+        SecurityContextHolder.getContext().setAuthentication(authentication);
+        log.debug("Authenticated user: {} with ID: {}", principal.get().email(), userId);
+        
         filterChain.doFilter(request, response);
     }
     
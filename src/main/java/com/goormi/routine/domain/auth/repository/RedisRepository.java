@@ -1,16 +1,28 @@
 package com.goormi.routine.domain.auth.repository;
 
+import org.springframework.data.redis.connection.RedisStringCommands;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.ScanOptions;
 import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.core.types.Expiration;
+import org.springframework.data.redis.serializer.RedisSerializer;
 import org.springframework.stereotype.Repository;
 
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
 @Repository
 public class RedisRepository {
+	private static final long SCAN_COUNT = 500;
+
 	private final StringRedisTemplate redisTemplate;
 
 	public RedisRepository(StringRedisTemplate redisTemplate) {
@@ -29,12 +41,19 @@ public class RedisRepository {
 		redisTemplate.delete("RT:" + userId);
 	}
 
-	public void saveBlackList(String token, long duration) {
-		redisTemplate.opsForValue().set("BL:" + token, "blacklisted", duration, TimeUnit.MILLISECONDS);
+	// 블랙리스트 키는 토큰 원문 대신 SHA-256 다이제스트 사용 (BL:{digest})
+	public void saveBlackList(String tokenDigest, long duration) {
+		redisTemplate.opsForValue().set("BL:" + tokenDigest, "blacklisted", duration, TimeUnit.MILLISECONDS);
+	}
+
+	public boolean isBlackListed(String tokenDigest, String token) {
+		// 다이제스트 도입 이전에 토큰 원문으로 저장된 키 호환
+		return Boolean.TRUE.equals(redisTemplate.hasKey("BL:" + tokenDigest))
+			|| Boolean.TRUE.equals(redisTemplate.hasKey("BL:" + token));
 	}
 
-	public boolean isBlackListed(String token) {
-		return redisTemplate.hasKey("BL:" + token);
+	public void publish(String channel, String message) {
+		redisTemplate.convertAndSend(channel, message);
 	}
 
 	// 데이터 저장/조회용
@@ -46,18 +65,137 @@ public class RedisRepository {
 		}
 	}
 
+	public boolean saveDataIfAbsent(String key, String value, long expireSeconds) {
+		return Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(key, value, Duration.ofSeconds(expireSeconds)));
+	}
+
 	public String getData(String key) {
 		Object value = redisTemplate.opsForValue().get(key);
 		return value != null ? value.toString() : null;
 	}
 
+	// 조회와 동시에 만료 시간 갱신 (GETEX), 자주 조회되는 키만 남도록 하는 슬라이딩 만료용
+	public String getDataAndExpire(String key, long expireSeconds) {
+		return redisTemplate.opsForValue().getAndExpire(key, Duration.ofSeconds(expireSeconds));
+	}
+
+	// 여러 키를 MGET 한 번으로 조회, 결과는 keys 순서와 같고 없는 키는 null
+	public List<String> getDataList(List<String> keys) {
+		if (keys.isEmpty()) {
+			return List.of();
+		}
+		List<String> values = redisTemplate.opsForValue().multiGet(keys);
+		return values != null ? values : List.of();
+	}
+
+	/**
+	 * 여러 키를 키별 만료 시간과 함께 파이프라인으로 한 번에 저장
+	 * 만료 시간이 0 이하인 항목은 만료 없이 저장
+	 */
+	public void saveDataBatch(Collection<Entry> entries) {
+		if (entries.isEmpty()) {
+			return;
+		}
+		RedisSerializer<String> serializer = redisTemplate.getStringSerializer();
+		redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+			for (Entry entry : entries) {
+				Expiration expiration = entry.expireSeconds() > 0
+					? Expiration.seconds(entry.expireSeconds())
+					: Expiration.persistent();
+				connection.stringCommands().set(serializer.serialize(entry.key()), serializer.serialize(entry.value()),
+					expiration, RedisStringCommands.SetOption.upsert());
+			}
+			return null;
+		});
+	}
+
+	public void deleteDataBatch(Collection<String> keys) {
+		if (!keys.isEmpty()) {
+			redisTemplate.delete(keys);
+		}
+	}
+
+	/**
+	 * 여러 명령을 원자적으로 처리해야 할 때 사용하는 Lua 스크립트 실행
+	 */
+	public <T> T executeScript(RedisScript<T> script, List<String> keys, String... args) {
+		return redisTemplate.execute(script, keys, (Object[]) args);
+	}
+
 	public void deleteData(String key) {
 		redisTemplate.delete(key);
 	}
 
+	public void saveHash(String key, Map<String, String> fields, long expireSeconds) {
+		redisTemplate.opsForHash().putAll(key, fields);
+		if (expireSeconds > 0) {
+			redisTemplate.expire(key, Duration.ofSeconds(expireSeconds));
+		}
+	}
+
+	public Map<String, String> getHash(String key) {
+		Map<Object, Object> entries = redisTemplate.opsForHash().entries(key);
+		return entries.entrySet().stream()
+			.collect(Collectors.toMap(entry -> entry.getKey().toString(), entry -> entry.getValue().toString()));
+	}
+
+	public String getHashField(String key, String field) {
+		Object value = redisTemplate.opsForHash().get(key, field);
+		return value != null ? value.toString() : null;
+	}
+
+	public void deleteHashField(String key, String field) {
+		redisTemplate.opsForHash().delete(key, field);
+	}
+
+	public long getHashSize(String key) {
+		Long size = redisTemplate.opsForHash().size(key);
+		return size != null ? size : 0L;
+	}
+
+	// Set 기반 인덱스 (KEYS 패턴 조회 대체용)
+	public void addToSet(String key, String member, long expireSeconds) {
+		redisTemplate.opsForSet().add(key, member);
+		if (expireSeconds > 0) {
+			redisTemplate.expire(key, Duration.ofSeconds(expireSeconds));
+		}
+	}
+
+	public void addAllToSet(String key, Collection<String> members, long expireSeconds) {
+		if (members.isEmpty()) {
+			return;
+		}
+		redisTemplate.opsForSet().add(key, members.toArray(String[]::new));
+		if (expireSeconds > 0) {
+			redisTemplate.expire(key, Duration.ofSeconds(expireSeconds));
+		}
+	}
+
+	public void removeFromSet(String key, String member) {
+		redisTemplate.opsForSet().remove(key, member);
+	}
+
+	public Set<String> getSetMembers(String key) {
+		Set<String> members = redisTemplate.opsForSet().members(key);
+		return members != null ? members : Set.of();
+	}
+
+	public long getSetSize(String key) {
+		Long size = redisTemplate.opsForSet().size(key);
+		return size != null ? size : 0L;
+	}
+
+	/**
+	 * 패턴에 맞는 키 조회 (SCAN 커서 순회)
+	 * KEYS 와 달리 서버를 블로킹하지 않지만 전체 키 공간을 순회하므로, 자주 호출되는 경로에는 Set/Hash 인덱스를 사용
+	 */
 	public List<String> getKeysByPattern(String pattern) {
-		Set<String> keys = redisTemplate.keys(pattern);
-		return keys != null ? keys.stream().collect(Collectors.toList()) : List.of();
+		ScanOptions options = ScanOptions.scanOptions().match(pattern).count(SCAN_COUNT).build();
+		List<String> keys = new ArrayList<>();
+		try (Cursor<String> cursor = redisTemplate.scan(options)) {
+			cursor.forEachRemaining(keys::add);
+		}
+		return keys;
 	}
 
 	public boolean hasKey(String key) {
@@ -67,4 +205,7 @@ public class RedisRepository {
 	public void setExpire(String key, long seconds) {
 		redisTemplate.expire(key, Duration.ofSeconds(seconds));
 	}
+
+	public record Entry(String key, String value, long expireSeconds) {
+	}
 }
@@ -0,0 +1,59 @@
+package com.goormi.routine.domain.auth.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.goormi.routine.domain.user.entity.User;
+import com.goormi.routine.domain.user.repository.UserRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * JWT 필터에서 사용하는 인증 사용자 정보 로컬 캐시
+ * - 요청마다 사용자 테이블을 조회하지 않도록 사용자 ID 별 권한 정보를 짧은 시간 보관
+ * - 권한/상태가 바뀌면 evict 로 즉시 무효화하고, 다른 인스턴스는 TTL 이 지나면 반영됨
+ * - 존재하지 않는 사용자는 캐시하지 않음
+ */
+@Slf4j
+@Component
+public class AuthenticatedPrincipalCache {
+    
+    private final UserRepository userRepository;
+    private final Cache<Long, CachedPrincipal> cache;
+    
+    public AuthenticatedPrincipalCache(UserRepository userRepository,
+                                       @Value("${auth.principal-cache.ttl-seconds:30}") long ttlSeconds,
+                                       @Value("${auth.principal-cache.max-size:10000}") long maxSize) {
+        this.userRepository = userRepository;
+        this.cache = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .maximumSize(maxSize)
+                .build();
+    }
+    
+    public Optional<CachedPrincipal> get(Long userId) {
+        CachedPrincipal cached = cache.getIfPresent(userId);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+        
+        Optional<CachedPrincipal> loaded = userRepository.findById(userId).map(CachedPrincipal::from);
+        loaded.ifPresent(principal -> cache.put(userId, principal));
+        return loaded;
+    }
+    
+    public void evict(Long userId) {
+        cache.invalidate(userId);
+        log.debug("인증 사용자 캐시 무효화: 사용자 ID = {}", userId);
+    }
+    
+    public record CachedPrincipal(Long userId, String email, User.UserRole role, boolean active) {
+        
+        static CachedPrincipal from(User user) {
+            return new CachedPrincipal(user.getId(), user.getEmail(), user.getRole(), user.isActive());
+        }
+    }
+}
@@ -1,7 +1,12 @@
 package com.goormi.routine.domain.auth.service;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.goormi.routine.common.security.TokenDigest;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.MalformedJwtException;
 import io.jsonwebtoken.security.Keys;
@@ -12,7 +17,9 @@ import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
 import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.util.Date;
+import java.util.concurrent.TimeUnit;
 
 @Component
 public class JwtTokenProvider {
@@ -20,13 +27,27 @@ public class JwtTokenProvider {
     private final SecretKey key;
     private final long accessTokenExpiration;
     private final long refreshTokenExpiration;
+    private final JwtParser jwtParser;
+    
+    // 검증을 마친 토큰(SHA-256 다이제스트) -> Claims, 토큰 만료 시각을 넘겨 보관하지 않음
+    private final Cache<String, Claims> verifiedClaims;
     
     public JwtTokenProvider(@Value("${jwt.secret}") String secret,
                            @Value("${jwt.expiration}") long accessTokenExpiration,
-                           @Value("${jwt.refresh-expiration}") long refreshTokenExpiration) {
+                           @Value("${jwt.refresh-expiration}") long refreshTokenExpiration,
+                           @Value("${jwt.verified-cache.max-size:10000}") long verifiedCacheMaxSize,
+                           @Value("${jwt.verified-cache.max-ttl-seconds:300}") long verifiedCacheMaxTtlSeconds) {
         this.key = Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
         this.accessTokenExpiration = accessTokenExpiration;
         this.refreshTokenExpiration = refreshTokenExpiration;
+        // JwtParser 는 불변이며 스레드 안전하므로 한 번만 생성
+        this.jwtParser = Jwts.parser()
+                .verifyWith(key)
+                .build();
+        this.verifiedClaims = Caffeine.newBuilder()
+                .maximumSize(verifiedCacheMaxSize)
+                .expireAfter(new ClaimsExpiry(Duration.ofSeconds(verifiedCacheMaxTtlSeconds).toNanos()))
+                .build();
     }
     
     public String createAccessToken(Long userId, String email) {
@@ -74,17 +95,23 @@ public class JwtTokenProvider {
     }
     
     public TokenValidationResult validateTokenWithDetails(String token) {
+        return parseToken(token).result();
+    }
+    
+    /**
+     * 토큰을 한 번만 파싱하여 검증 결과와 Claims 를 함께 반환 (유효하지 않으면 claims 는 null)
+     */
+    public ParsedToken parseToken(String token) {
         try {
-            getClaims(token);
-            return TokenValidationResult.VALID;
+            return new ParsedToken(TokenValidationResult.VALID, getClaims(token));
         } catch (ExpiredJwtException e) {
-            return TokenValidationResult.EXPIRED;
+            return new ParsedToken(TokenValidationResult.EXPIRED, null);
         } catch (MalformedJwtException e) {
-            return TokenValidationResult.MALFORMED;
+            return new ParsedToken(TokenValidationResult.MALFORMED, null);
         } catch (SignatureException e) {
-            return TokenValidationResult.INVALID_SIGNATURE;
+            return new ParsedToken(TokenValidationResult.INVALID_SIGNATURE, null);
         } catch (Exception e) {
-            return TokenValidationResult.INVALID;
+            return new ParsedToken(TokenValidationResult.INVALID, null);
         }
     }
     
@@ -96,6 +123,13 @@ public class JwtTokenProvider {
         INVALID
     }
     
+    public record ParsedToken(TokenValidationResult result, Claims claims) {
+        
+        public Long getUserId() {
+            return Long.parseLong(claims.getSubject());
+        }
+    }
+    
     public long getRefreshTokenExpiration() {
         return refreshTokenExpiration;
     }
@@ -110,10 +144,38 @@ public class JwtTokenProvider {
     }
     
     private Claims getClaims(String token) {
-        return Jwts.parser()
-                .verifyWith(key)
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
+        String tokenDigest = TokenDigest.of(token);
+        Claims cached = verifiedClaims.getIfPresent(tokenDigest);
+        if (cached != null && cached.getExpiration().after(new Date())) {
+            return cached;
+        }
+        
+        Claims claims = jwtParser.parseSignedClaims(token).getPayload();
+        if (claims.getExpiration() != null) {
+            verifiedClaims.put(tokenDigest, claims);
+        }
+        return claims;
+    }
+    
+    /**
+     * 캐시 항목을 토큰 만료 시각까지만 유지 (최대 maxTtlNanos)
+     */
+    private record ClaimsExpiry(long maxTtlNanos) implements Expiry<String, Claims> {
+        
+        @Override
+        public long expireAfterCreate(String tokenDigest, Claims claims, long currentTime) {
+            long remainingMillis = claims.getExpiration().getTime() - System.currentTimeMillis();
+            return Math.max(0L, Math.min(TimeUnit.MILLISECONDS.toNanos(remainingMillis), maxTtlNanos));
+        }
+        
+        @Override
+        public long expireAfterUpdate(String tokenDigest, Claims claims, long currentTime, long currentDuration) {
+            return expireAfterCreate(tokenDigest, claims, currentTime);
+        }
+        
+        @Override
+        public long expireAfterRead(String tokenDigest, Claims claims, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
     }
 }
\ No newline at end of file
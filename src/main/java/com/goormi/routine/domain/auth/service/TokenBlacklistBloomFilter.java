@@ -0,0 +1,123 @@
+package com.goormi.routine.domain.auth.service;
+
+import com.goormi.routine.common.security.TokenDigest;
+import com.goormi.routine.domain.auth.repository.RedisRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.HexFormat;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 로그아웃된 토큰 여부를 로컬에서 먼저 판별하는 블룸 필터
+ * - 필터에 없으면 블랙리스트가 아니므로 Redis 를 조회하지 않음, 필터에 있을 때만 Redis 로 확인
+ * - 다른 인스턴스의 로그아웃은 Redis pub/sub(auth:blacklist) 으로 토큰 다이제스트를 받아 반영
+ * - 블룸 필터는 삭제가 안 되므로 주기적으로 Redis 의 BL:* 키를 SCAN 하여 새로 만들고 교체 (만료된 토큰 정리)
+ * - 첫 재구성 전이거나 Redis 장애로 재구성하지 못한 경우에는 항상 Redis 로 확인
+ */
+@Slf4j
+@Component
+public class TokenBlacklistBloomFilter {
+    
+    public static final String CHANNEL = "auth:blacklist";
+    private static final String BLACKLIST_PREFIX = "BL:";
+    
+    private final RedisRepository redisRepository;
+    private final int expectedInsertions;
+    private final double falsePositiveRate;
+    
+    private volatile BloomFilter filter;
+    private volatile BloomFilter rebuilding;
+    private volatile boolean ready = false;
+    
+    public TokenBlacklistBloomFilter(RedisRepository redisRepository,
+                                     @Value("${auth.blacklist.bloom.expected-insertions:100000}") int expectedInsertions,
+                                     @Value("${auth.blacklist.bloom.false-positive-rate:0.01}") double falsePositiveRate) {
+        this.redisRepository = redisRepository;
+        this.expectedInsertions = expectedInsertions;
+        this.falsePositiveRate = falsePositiveRate;
+        this.filter = new BloomFilter(expectedInsertions, falsePositiveRate);
+    }
+    
+    public boolean mightContain(String tokenDigest) {
+        return !ready || filter.mightContain(tokenDigest);
+    }
+    
+    /**
+     * Redis 에 저장한 뒤 호출해야 함 (재구성 중 SCAN 과 겹쳐도 누락되지 않도록)
+     */
+    public void add(String tokenDigest) {
+        BloomFilter next = rebuilding;
+        if (next != null) {
+            next.add(tokenDigest);
+        }
+        filter.add(tokenDigest);
+    }
+    
+    // Redis pub/sub 수신 (다른 인스턴스의 로그아웃)
+    public void onMessage(String tokenDigest) {
+        add(tokenDigest);
+    }
+    
+    @Scheduled(fixedDelayString = "${auth.blacklist.bloom.rebuild-interval-ms:3600000}")
+    public void rebuild() {
+        BloomFilter next = new BloomFilter(expectedInsertions, falsePositiveRate);
+        rebuilding = next;
+        try {
+            List<String> keys = redisRepository.getKeysByPattern(BLACKLIST_PREFIX + "*");
+            for (String key : keys) {
+                String value = key.substring(BLACKLIST_PREFIX.length());
+                // 다이제스트 도입 이전 키는 토큰 원문이므로 다이제스트로 변환
+                next.add(value.contains(".") ? TokenDigest.of(value) : value);
+            }
+            filter = next;
+            ready = true;
+            log.info("블랙리스트 필터 재구성 완료: 토큰 수 = {}", keys.size());
+        } catch (Exception e) {
+            log.warn("블랙리스트 필터 재구성 실패, 기존 필터를 유지합니다: message = {}", e.getMessage());
+        } finally {
+            rebuilding = null;
+        }
+    }
+    
+    /**
+     * 다이제스트(hex) 앞 128비트를 두 해시 값으로 나누어 쓰는 더블 해싱 블룸 필터
+     */
+    static final class BloomFilter {
+        
+        private final AtomicLongArray bits;
+        private final long bitSize;
+        private final int hashCount;
+        
+        BloomFilter(int expectedInsertions, double falsePositiveRate) {
+            long size = (long) Math.ceil(-expectedInsertions * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+            this.bitSize = Math.max(64, size);
+            this.hashCount = Math.max(1, (int) Math.round((double) bitSize / expectedInsertions * Math.log(2)));
+            this.bits = new AtomicLongArray((int) ((bitSize + 63) / 64));
+        }
+        
+        void add(String tokenDigest) {
+            long h1 = HexFormat.fromHexDigitsToLong(tokenDigest, 0, 16);
+            long h2 = HexFormat.fromHexDigitsToLong(tokenDigest, 16, 32);
+            for (int i = 0; i < hashCount; i++) {
+                long index = Math.floorMod(h1 + i * h2, bitSize);
+                bits.getAndUpdate((int) (index >>> 6), word -> word | (1L << index));
+            }
+        }
+        
+        boolean mightContain(String tokenDigest) {
+            long h1 = HexFormat.fromHexDigitsToLong(tokenDigest, 0, 16);
+            long h2 = HexFormat.fromHexDigitsToLong(tokenDigest, 16, 32);
+            for (int i = 0; i < hashCount; i++) {
+                long index = Math.floorMod(h1 + i * h2, bitSize);
+                if ((bits.get((int) (index >>> 6)) & (1L << index)) == 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+}
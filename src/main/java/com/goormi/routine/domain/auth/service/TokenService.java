@@ -1,15 +1,19 @@
 package com.goormi.routine.domain.auth.service;
 
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
+import com.goormi.routine.common.security.TokenDigest;
 import com.goormi.routine.domain.auth.repository.RedisRepository;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class TokenService {
 
 	private final RedisRepository redisRepository;
+	private final TokenBlacklistBloomFilter tokenBlacklistBloomFilter;
 
 	public void saveRefreshToken(Long userId, String refreshToken, long duration) {
 		redisRepository.saveRefreshToken(String.valueOf(userId), refreshToken, duration);
@@ -24,10 +28,23 @@ public class TokenService {
 	}
 
 	public void addToBlacklist(String accessToken, long duration) {
-		redisRepository.saveBlackList(accessToken, duration);
+		String tokenDigest = TokenDigest.of(accessToken);
+		redisRepository.saveBlackList(tokenDigest, duration);
+		tokenBlacklistBloomFilter.add(tokenDigest);
+
+		try {
+			redisRepository.publish(TokenBlacklistBloomFilter.CHANNEL, tokenDigest);
+		} catch (Exception e) {
+			// 전파에 실패해도 다른 인스턴스는 다음 필터 재구성 때 반영
+			log.warn("블랙리스트 전파 실패: message = {}", e.getMessage());
+		}
 	}
 
 	public boolean isBlacklisted(String accessToken) {
-		return redisRepository.isBlackListed(accessToken);
+		String tokenDigest = TokenDigest.of(accessToken);
+		if (!tokenBlacklistBloomFilter.mightContain(tokenDigest)) {
+			return false;
+		}
+		return redisRepository.isBlackListed(tokenDigest, accessToken);
 	}
 }
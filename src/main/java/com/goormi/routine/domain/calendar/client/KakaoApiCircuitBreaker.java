@@ -0,0 +1,209 @@
+package com.goormi.routine.domain.calendar.client;
+
+import com.goormi.routine.domain.calendar.exception.KakaoApiException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 카카오 API 서킷 브레이커
+ * - CLOSED: 최근 window-size 건 중 실패율이 failure-rate-threshold(%) 이상이면 OPEN (최소 minimum-calls 건 이후)
+ * - OPEN: open-duration-ms 동안 호출하지 않고 바로 실패(CIRCUIT_OPEN)
+ * - HALF_OPEN: half-open-calls 건만 시험 호출하여 모두 성공하면 CLOSED, 하나라도 실패하면 다시 OPEN
+ * - 429/5xx/타임아웃/연결 오류만 실패로 보고, 그 외 4xx 와 로컬 제한(KakaoApiException)은 집계하지 않음
+ */
+@Slf4j
+@Component
+public class KakaoApiCircuitBreaker {
+
+    public enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    private enum Permit {
+        REJECTED, CLOSED, PROBE
+    }
+
+    private final int windowSize;
+    private final int minimumCalls;
+    private final int failureRateThreshold;
+    private final long openDurationNanos;
+    private final int halfOpenCalls;
+
+    // 아래 상태는 모두 this 로 동기화
+    private State state = State.CLOSED;
+    private final boolean[] window;
+    private int windowIndex;
+    private int windowCount;
+    private int windowFailures;
+    private long openedAtNanos;
+    private int probesInFlight;
+    private int probeSuccesses;
+    private long notPermittedCalls;
+    private long openedCount;
+
+    public KakaoApiCircuitBreaker(@Value("${kakao.calendar.circuit-breaker.window-size:50}") int windowSize,
+                                  @Value("${kakao.calendar.circuit-breaker.minimum-calls:20}") int minimumCalls,
+                                  @Value("${kakao.calendar.circuit-breaker.failure-rate-threshold:50}") int failureRateThreshold,
+                                  @Value("${kakao.calendar.circuit-breaker.open-duration-ms:30000}") long openDurationMs,
+                                  @Value("${kakao.calendar.circuit-breaker.half-open-calls:3}") int halfOpenCalls) {
+        this.windowSize = windowSize;
+        this.minimumCalls = Math.min(minimumCalls, windowSize);
+        this.failureRateThreshold = failureRateThreshold;
+        this.openDurationNanos = TimeUnit.MILLISECONDS.toNanos(openDurationMs);
+        this.halfOpenCalls = halfOpenCalls;
+        this.window = new boolean[windowSize];
+    }
+
+    public <T> Mono<T> protect(Mono<T> call) {
+        return Mono.defer(() -> {
+            Permit permit = tryAcquire();
+            if (permit == Permit.REJECTED) {
+                return Mono.error(new KakaoApiException("카카오 API 장애로 잠시 호출을 중단했습니다. 잠시 후 다시 시도해주세요.",
+                        503, "CIRCUIT_OPEN"));
+            }
+
+            AtomicBoolean recorded = new AtomicBoolean(false);
+            return call
+                    .doOnSuccess(value -> {
+                        if (recorded.compareAndSet(false, true)) {
+                            onResult(permit, false);
+                        }
+                    })
+                    .doOnError(error -> {
+                        if (recorded.compareAndSet(false, true)) {
+                            if (isFailure(error)) {
+                                onResult(permit, true);
+                            } else {
+                                onIgnored(permit);
+                            }
+                        }
+                    })
+                    .doOnCancel(() -> {
+                        if (recorded.compareAndSet(false, true)) {
+                            onIgnored(permit);
+                        }
+                    });
+        });
+    }
+
+    public synchronized State getState() {
+        return currentState(System.nanoTime());
+    }
+
+    public synchronized Map<String, Object> getMetrics() {
+        Map<String, Object> metrics = new HashMap<>();
+        metrics.put("state", currentState(System.nanoTime()).name());
+        metrics.put("bufferedCalls", windowCount);
+        metrics.put("failedCalls", windowFailures);
+        metrics.put("failureRate", windowCount == 0 ? 0 : windowFailures * 100 / windowCount);
+        metrics.put("notPermittedCalls", notPermittedCalls);
+        metrics.put("openedCount", openedCount);
+        return metrics;
+    }
+
+    private synchronized Permit tryAcquire() {
+        switch (currentState(System.nanoTime())) {
+            case CLOSED:
+                return Permit.CLOSED;
+            case HALF_OPEN:
+                if (probesInFlight + probeSuccesses < halfOpenCalls) {
+                    probesInFlight++;
+                    return Permit.PROBE;
+                }
+                notPermittedCalls++;
+                return Permit.REJECTED;
+            default:
+                notPermittedCalls++;
+                return Permit.REJECTED;
+        }
+    }
+
+    private synchronized void onResult(Permit permit, boolean failure) {
+        if (permit == Permit.PROBE) {
+            if (state != State.HALF_OPEN) {
+                return;
+            }
+            probesInFlight--;
+            if (failure) {
+                open("시험 호출 실패");
+            } else if (++probeSuccesses >= halfOpenCalls) {
+                state = State.CLOSED;
+                resetWindow();
+                log.info("카카오 API 서킷 브레이커 CLOSED: 시험 호출 {}건 성공", probeSuccesses);
+            }
+            return;
+        }
+
+        // 상태가 바뀌기 전에 시작된 호출의 결과는 집계하지 않음
+        if (state != State.CLOSED) {
+            return;
+        }
+        if (windowCount == windowSize && window[windowIndex]) {
+            windowFailures--;
+        }
+        window[windowIndex] = failure;
+        if (failure) {
+            windowFailures++;
+        }
+        windowIndex = (windowIndex + 1) % windowSize;
+        windowCount = Math.min(windowCount + 1, windowSize);
+
+        if (windowCount >= minimumCalls && windowFailures * 100 >= failureRateThreshold * windowCount) {
+            open("실패율 " + (windowFailures * 100 / windowCount) + "%");
+        }
+    }
+
+    private synchronized void onIgnored(Permit permit) {
+        if (permit == Permit.PROBE && state == State.HALF_OPEN) {
+            probesInFlight--;
+        }
+    }
+
+    /**
+     * OPEN 상태에서 open-duration 이 지나면 HALF_OPEN 으로 전환
+     */
+    private State currentState(long now) {
+        if (state == State.OPEN && now - openedAtNanos >= openDurationNanos) {
+            state = State.HALF_OPEN;
+            probesInFlight = 0;
+            probeSuccesses = 0;
+            log.info("카카오 API 서킷 브레이커 HALF_OPEN: 시험 호출 {}건 허용", halfOpenCalls);
+        }
+        return state;
+    }
+
+    private void open(String reason) {
+        state = State.OPEN;
+        openedAtNanos = System.nanoTime();
+        openedCount++;
+        resetWindow();
+        log.error("카카오 API 서킷 브레이커 OPEN: 사유 = {}, {}ms 동안 호출 차단",
+                reason, TimeUnit.NANOSECONDS.toMillis(openDurationNanos));
+    }
+
+    private void resetWindow() {
+        windowIndex = 0;
+        windowCount = 0;
+        windowFailures = 0;
+    }
+
+    private static boolean isFailure(Throwable error) {
+        if (error instanceof KakaoApiException) {
+            return false;
+        }
+        if (error instanceof WebClientResponseException responseException) {
+            int status = responseException.getStatusCode().value();
+            return status == 429 || status >= 500;
+        }
+        // 타임아웃, 연결 실패 등
+        return true;
+    }
+}
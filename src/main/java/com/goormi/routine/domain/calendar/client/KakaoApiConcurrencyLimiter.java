@@ -0,0 +1,80 @@
+package com.goormi.routine.domain.calendar.client;
+
+import com.goormi.routine.domain.calendar.exception.KakaoApiException;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 카카오 API 동시 호출 수 제한
+ * - 호출을 대기열에 넣고 최대 maxConcurrency 개만 동시에 구독 (스레드를 막고 기다리지 않음)
+ * - 대기 중인 호출이 maxPending 을 넘으면 바로 실패시켜 요청이 무한히 쌓이지 않도록 함
+ * - 호출자가 구독을 취소하면(block 타임아웃 등) 대기 중인 호출은 건너뛰고 실행 중인 호출은 취소함
+ */
+@Slf4j
+@Component
+public class KakaoApiConcurrencyLimiter {
+
+    private final int maxPending;
+    private final AtomicInteger pending = new AtomicInteger();
+    private final Sinks.Many<Mono<?>> queue = Sinks.many().unicast().onBackpressureBuffer();
+    private final Disposable dispatcher;
+
+    public KakaoApiConcurrencyLimiter(@Value("${kakao.calendar.http.max-concurrency:20}") int maxConcurrency,
+                                      @Value("${kakao.calendar.http.max-pending:500}") int maxPending) {
+        this.maxPending = maxPending;
+        this.dispatcher = queue.asFlux()
+                .flatMap(task -> task.onErrorResume(e -> Mono.empty()), maxConcurrency)
+                .subscribe();
+    }
+
+    @PreDestroy
+    void shutdown() {
+        dispatcher.dispose();
+    }
+
+    public <T> Mono<T> limit(Mono<T> call) {
+        return Mono.defer(() -> {
+            if (pending.incrementAndGet() > maxPending) {
+                pending.decrementAndGet();
+                log.warn("카카오 API 대기열 초과: 대기 중 = {}", maxPending);
+                return Mono.error(new KakaoApiException("카카오 API 요청이 너무 많습니다. 잠시 후 다시 시도해주세요.",
+                        503, "TOO_MANY_PENDING_REQUESTS"));
+            }
+
+            Sinks.One<T> result = Sinks.one();
+            AtomicBoolean cancelled = new AtomicBoolean();
+            Sinks.One<Boolean> cancelSignal = Sinks.one();
+            Mono<T> task = Mono.defer(() -> cancelled.get() ? Mono.<T>empty() : call)
+                    .doOnSuccess(value -> {
+                        if (value != null) {
+                            result.tryEmitValue(value);
+                        } else {
+                            result.tryEmitEmpty();
+                        }
+                    })
+                    .doOnError(result::tryEmitError)
+                    .takeUntilOther(cancelSignal.asMono())
+                    .doFinally(signal -> pending.decrementAndGet());
+
+            queue.emitNext(task, Sinks.EmitFailureHandler.busyLooping(Duration.ofSeconds(1)));
+            return result.asMono()
+                    .doOnCancel(() -> {
+                        cancelled.set(true);
+                        cancelSignal.tryEmitValue(true);
+                    });
+        });
+    }
+
+    public int getPending() {
+        return pending.get();
+    }
+}
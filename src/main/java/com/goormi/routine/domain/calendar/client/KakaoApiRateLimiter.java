@@ -0,0 +1,161 @@
+package com.goormi.routine.domain.calendar.client;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.goormi.routine.domain.calendar.exception.KakaoApiException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 카카오 API 호출 속도 제한 (앱 전체 + 사용자별 토큰 버킷)
+ * - 토큰이 없으면 스레드를 막지 않고 Mono.delay 로 다음 토큰이 생길 때까지 미룸
+ * - 기다려야 하는 시간이 max-wait-ms 를 넘으면 바로 실패(RATE_LIMITED)시켜 호출이 쌓이지 않도록 함
+ * - 카카오가 429 를 주면 Retry-After 동안 앱 버킷을 멈춰 나머지 호출도 함께 쉬게 함
+ */
+@Slf4j
+@Component
+public class KakaoApiRateLimiter {
+
+    private static final Long UNKNOWN_USER_ID = 0L;
+
+    private final TokenBucket appBucket;
+    private final Cache<Long, TokenBucket> userBuckets;
+    private final double userRatePerSecond;
+    private final int userBurst;
+    private final long maxWaitNanos;
+
+    private final LongAdder permitted = new LongAdder();
+    private final LongAdder delayed = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder throttled = new LongAdder();
+    private final AtomicLong totalWaitNanos = new AtomicLong();
+    private final AtomicLong maxWaitObservedNanos = new AtomicLong();
+
+    public KakaoApiRateLimiter(@Value("${kakao.calendar.rate-limit.app-per-second:20}") double appRatePerSecond,
+                               @Value("${kakao.calendar.rate-limit.app-burst:20}") int appBurst,
+                               @Value("${kakao.calendar.rate-limit.user-per-second:2}") double userRatePerSecond,
+                               @Value("${kakao.calendar.rate-limit.user-burst:5}") int userBurst,
+                               @Value("${kakao.calendar.rate-limit.max-wait-ms:3000}") long maxWaitMs) {
+        this.appBucket = new TokenBucket(appRatePerSecond, appBurst);
+        this.userRatePerSecond = userRatePerSecond;
+        this.userBurst = userBurst;
+        this.maxWaitNanos = TimeUnit.MILLISECONDS.toNanos(maxWaitMs);
+        this.userBuckets = Caffeine.newBuilder()
+                .maximumSize(10_000)
+                .expireAfterAccess(Duration.ofMinutes(10))
+                .build();
+    }
+
+    /**
+     * @param userId 호출 사용자 ID (토큰이 갱신되어도 같은 버킷을 쓰도록 사용자 기준으로 나눔)
+     */
+    public <T> Mono<T> limit(Long userId, Mono<T> call) {
+        return Mono.defer(() -> {
+            long waitNanos = reserve(userId);
+            if (waitNanos < 0) {
+                rejected.increment();
+                log.warn("카카오 API 호출 속도 제한 초과: 최대 대기 = {}ms", TimeUnit.NANOSECONDS.toMillis(maxWaitNanos));
+                return Mono.error(new KakaoApiException("카카오 API 호출이 너무 잦습니다. 잠시 후 다시 시도해주세요.",
+                        429, "RATE_LIMITED"));
+            }
+
+            permitted.increment();
+            if (waitNanos == 0) {
+                return call;
+            }
+            delayed.increment();
+            totalWaitNanos.addAndGet(waitNanos);
+            maxWaitObservedNanos.accumulateAndGet(waitNanos, Math::max);
+            return Mono.delay(Duration.ofNanos(waitNanos)).then(call);
+        });
+    }
+
+    /**
+     * 카카오에서 429 를 받았을 때 retryAfter 동안 앱 전체 호출을 멈춤
+     */
+    public void onThrottled(Duration retryAfter) {
+        throttled.increment();
+        if (!retryAfter.isZero() && !retryAfter.isNegative()) {
+            appBucket.pauseUntil(System.nanoTime() + retryAfter.toNanos());
+            log.warn("카카오 API 429 응답, {}ms 동안 호출을 멈춥니다", retryAfter.toMillis());
+        }
+    }
+
+    public Map<String, Object> getMetrics() {
+        long delayedCount = delayed.sum();
+        Map<String, Object> metrics = new HashMap<>();
+        metrics.put("permitted", permitted.sum());
+        metrics.put("delayed", delayedCount);
+        metrics.put("rejected", rejected.sum());
+        metrics.put("throttledResponses", throttled.sum());
+        metrics.put("averageWaitMs", delayedCount == 0 ? 0 : TimeUnit.NANOSECONDS.toMillis(totalWaitNanos.get() / delayedCount));
+        metrics.put("maxWaitMs", TimeUnit.NANOSECONDS.toMillis(maxWaitObservedNanos.get()));
+        metrics.put("activeUserBuckets", userBuckets.estimatedSize());
+        return metrics;
+    }
+
+    /**
+     * 사용자 버킷과 앱 버킷에서 모두 토큰을 예약
+     * @return 기다려야 하는 시간(ns), 최대 대기 시간을 넘으면 -1 (이 경우 어느 버킷도 소모하지 않음)
+     */
+    private long reserve(Long userId) {
+        long now = System.nanoTime();
+        TokenBucket userBucket = userBuckets.get(userId != null ? userId : UNKNOWN_USER_ID,
+                key -> new TokenBucket(userRatePerSecond, userBurst));
+
+        long userWait = userBucket.reserve(now, maxWaitNanos);
+        if (userWait < 0) {
+            return -1;
+        }
+        long appWait = appBucket.reserve(now, maxWaitNanos);
+        if (appWait < 0) {
+            userBucket.refund();
+            return -1;
+        }
+        return Math.max(userWait, appWait);
+    }
+
+    /**
+     * 토큰 버킷 (GCRA 방식: 다음 토큰이 생기는 시각만 저장)
+     * - 초당 ratePerSecond 개씩 채워지고 최대 burst 개까지 한 번에 사용 가능
+     */
+    static final class TokenBucket {
+
+        private final long intervalNanos;
+        private final long burstToleranceNanos;
+        private long theoreticalArrivalNanos;
+
+        TokenBucket(double ratePerSecond, int burst) {
+            this.intervalNanos = (long) (TimeUnit.SECONDS.toNanos(1) / ratePerSecond);
+            this.burstToleranceNanos = intervalNanos * Math.max(burst - 1, 0);
+            this.theoreticalArrivalNanos = System.nanoTime();
+        }
+
+        synchronized long reserve(long now, long maxWaitNanos) {
+            long arrival = Math.max(theoreticalArrivalNanos, now);
+            long waitNanos = Math.max(arrival - burstToleranceNanos - now, 0L);
+            if (waitNanos > maxWaitNanos) {
+                return -1;
+            }
+            theoreticalArrivalNanos = arrival + intervalNanos;
+            return waitNanos;
+        }
+
+        synchronized void refund() {
+            theoreticalArrivalNanos -= intervalNanos;
+        }
+
+        synchronized void pauseUntil(long untilNanos) {
+            theoreticalArrivalNanos = Math.max(theoreticalArrivalNanos, untilNanos + burstToleranceNanos);
+        }
+    }
+}
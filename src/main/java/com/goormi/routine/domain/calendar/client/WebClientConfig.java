@@ -1,12 +1,21 @@
 package com.goormi.routine.domain.calendar.client;
 
+import io.netty.channel.ChannelOption;
+import io.netty.handler.timeout.ReadTimeoutHandler;
+import io.netty.handler.timeout.WriteTimeoutHandler;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
 import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
 import org.springframework.web.reactive.function.client.WebClient;
 import reactor.core.publisher.Mono;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
 
 /**
  * WebClient 설정
@@ -17,13 +26,56 @@ public class WebClientConfig {
     @Value("${kakao.calendar.base-url}")
     private String kakaoCalendarBaseUrl;
 
+    @Value("${kakao.calendar.http.max-connections:50}")
+    private int maxConnections;
+
+    @Value("${kakao.calendar.http.pending-acquire-timeout-ms:5000}")
+    private long pendingAcquireTimeoutMs;
+
+    @Value("${kakao.calendar.http.max-idle-time-ms:30000}")
+    private long maxIdleTimeMs;
+
+    @Value("${kakao.calendar.http.connect-timeout-ms:3000}")
+    private int connectTimeoutMs;
+
+    @Value("${kakao.calendar.http.response-timeout-ms:5000}")
+    private long responseTimeoutMs;
+
+    /**
+     * 카카오 API 호출이 공유하는 커넥션 풀
+     */
+    @Bean(destroyMethod = "dispose")
+    public ConnectionProvider kakaoConnectionProvider() {
+        return ConnectionProvider.builder("kakao-api")
+                .maxConnections(maxConnections)
+                .pendingAcquireTimeout(Duration.ofMillis(pendingAcquireTimeoutMs))
+                .maxIdleTime(Duration.ofMillis(maxIdleTimeMs))
+                .build();
+    }
+
     /**
      * 카카오 API 호출용 WebClient Bean 등록
      */
     @Bean
-    public WebClient webClient() {
+    public WebClient webClient(ConnectionProvider kakaoConnectionProvider) {
+        return kakaoWebClient(kakaoCalendarBaseUrl, kakaoConnectionProvider, connectTimeoutMs, responseTimeoutMs);
+    }
+
+    /**
+     * 연결/응답/소켓 읽기·쓰기 타임아웃을 모두 지정한 WebClient 생성
+     */
+    static WebClient kakaoWebClient(String baseUrl, ConnectionProvider connectionProvider,
+                                    int connectTimeoutMs, long responseTimeoutMs) {
+        HttpClient httpClient = HttpClient.create(connectionProvider)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, connectTimeoutMs)
+                .responseTimeout(Duration.ofMillis(responseTimeoutMs))
+                .doOnConnected(connection -> connection
+                        .addHandlerLast(new ReadTimeoutHandler(responseTimeoutMs, TimeUnit.MILLISECONDS))
+                        .addHandlerLast(new WriteTimeoutHandler(responseTimeoutMs, TimeUnit.MILLISECONDS)));
+
         return WebClient.builder()
-                .baseUrl(kakaoCalendarBaseUrl)
+                .baseUrl(baseUrl)
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
                 .codecs(configurer -> configurer
                         .defaultCodecs()
                         .maxInMemorySize(1024 * 1024)) // 1MB
@@ -32,14 +84,14 @@ public class WebClientConfig {
                 .build();
     }
 
-    private ExchangeFilterFunction logRequest() {
+    private static ExchangeFilterFunction logRequest() {
         return ExchangeFilterFunction.ofRequestProcessor(clientRequest -> {
             log.info("Request: {} {}", clientRequest.method(), clientRequest.url());
             return Mono.just(clientRequest);
         });
     }
 
-    private ExchangeFilterFunction logResponse() {
+    private static ExchangeFilterFunction logResponse() {
         return ExchangeFilterFunction.ofResponseProcessor(clientResponse -> {
             log.info("Response Status: {}", clientResponse.statusCode());
             return Mono.just(clientResponse);
@@ -1,6 +1,9 @@
 package com.goormi.routine.domain.calendar.controller;
 
 import com.goormi.routine.common.response.ApiResponse;
+import com.goormi.routine.domain.calendar.client.KakaoApiCircuitBreaker;
+import com.goormi.routine.domain.calendar.client.KakaoApiConcurrencyLimiter;
+import com.goormi.routine.domain.calendar.client.KakaoApiRateLimiter;
 import com.goormi.routine.domain.calendar.dto.CalendarResponse;
 import com.goormi.routine.domain.calendar.dto.KakaoCalendarDto.GetCalendarsResponse;
 import com.goormi.routine.domain.calendar.service.CalendarService;
@@ -13,11 +16,16 @@ import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
+
+import java.util.HashMap;
+import java.util.Map;
 
 /**
  * 캘린더 컨트롤러
  * - Bean Validation을 통한 서버 측 검증
  * - 예외 처리는 @ControllerAdvice에서 공통 처리
+ * - 카카오 API를 호출하는 엔드포인트는 Mono 를 반환하여 서블릿 스레드를 점유하지 않음
  */
 @Slf4j
 @RestController
@@ -28,6 +36,9 @@ import org.springframework.web.bind.annotation.*;
 public class CalendarController {
 
     private final CalendarService calendarService;
+    private final KakaoApiRateLimiter kakaoApiRateLimiter;
+    private final KakaoApiCircuitBreaker kakaoApiCircuitBreaker;
+    private final KakaoApiConcurrencyLimiter kakaoApiConcurrencyLimiter;
 
     /**
      * 캘린더 연동 (서브캘린더 생성)
@@ -58,16 +69,15 @@ public class CalendarController {
      */
     @Operation(summary = "캘린더 연동 해제", description = "사용자의 카카오 캘린더 연동을 해제하고 서브캘린더를 삭제합니다")
     @DeleteMapping("/disconnect")
-    public ResponseEntity<ApiResponse<Void>> disconnectCalendar(
+    public Mono<ResponseEntity<ApiResponse<Void>>> disconnectCalendar(
             @AuthenticationPrincipal Long userId
     ) {
         log.info("=== 캘린더 연동 해제 요청 받음 ===");
         log.info("요청 userId: {}", userId);
         
-        calendarService.deleteUserCalendar(userId);
-        
-        log.info("캘린더 연동 해제 요청 처리 완료: userId={}", userId);
-        return ResponseEntity.ok(ApiResponse.success(null));
+        return calendarService.deleteUserCalendarAsync(userId)
+                .doOnSuccess(ignored -> log.info("캘린더 연동 해제 요청 처리 완료: userId={}", userId))
+                .thenReturn(ResponseEntity.ok(ApiResponse.success(null)));
     }
 
     /**
@@ -89,11 +99,11 @@ public class CalendarController {
      */
     @Operation(summary = "캘린더 연동 상태 확인", description = "사용자의 캘린더 연동 상태를 확인합니다")
     @GetMapping("/connection-status")
-    public ResponseEntity<ApiResponse<Boolean>> getConnectionStatus(
+    public Mono<ResponseEntity<ApiResponse<Boolean>>> getConnectionStatus(
             @AuthenticationPrincipal Long userId
     ) {
-        boolean connected = calendarService.isCalendarConnected(userId);
-        return ResponseEntity.ok(ApiResponse.success(connected));
+        return calendarService.isCalendarConnectedAsync(userId)
+                .map(connected -> ResponseEntity.ok(ApiResponse.success(connected)));
     }
 
     // === 테스트용 엔드포인트들 ===
@@ -121,16 +131,15 @@ public class CalendarController {
      */
     @Operation(summary = "[테스트용] 캘린더 연동 해제", description = "테스트용: userId를 직접 전달하여 캘린더 연동을 해제합니다")
     @DeleteMapping("/test/disconnect/{userId}")
-    public ResponseEntity<ApiResponse<Void>> testDisconnectCalendar(
+    public Mono<ResponseEntity<ApiResponse<Void>>> testDisconnectCalendar(
             @PathVariable Long userId
     ) {
         log.info("=== [테스트용] 캘린더 연동 해제 요청 받음 ===");
         log.info("요청 userId: {}", userId);
         
-        calendarService.deleteUserCalendar(userId);
-        
-        log.info("[테스트용] 캘린더 연동 해제 요청 처리 완료: userId={}", userId);
-        return ResponseEntity.ok(ApiResponse.success(null));
+        return calendarService.deleteUserCalendarAsync(userId)
+                .doOnSuccess(ignored -> log.info("[테스트용] 캘린더 연동 해제 요청 처리 완료: userId={}", userId))
+                .thenReturn(ResponseEntity.ok(ApiResponse.success(null)));
     }
 
     /**
@@ -138,11 +147,11 @@ public class CalendarController {
      */
     @Operation(summary = "[테스트용] 캘린더 연동 상태 확인", description = "테스트용: userId를 직접 전달하여 캘린더 연동 상태를 확인합니다")
     @GetMapping("/test/connection-status/{userId}")
-    public ResponseEntity<ApiResponse<Boolean>> testGetConnectionStatus(
+    public Mono<ResponseEntity<ApiResponse<Boolean>>> testGetConnectionStatus(
             @PathVariable Long userId
     ) {
-        boolean connected = calendarService.isCalendarConnected(userId);
-        return ResponseEntity.ok(ApiResponse.success(connected));
+        return calendarService.isCalendarConnectedAsync(userId)
+                .map(connected -> ResponseEntity.ok(ApiResponse.success(connected)));
     }
 
     /**
@@ -150,16 +159,28 @@ public class CalendarController {
      */
     @Operation(summary = "[테스트용] 카카오 캘린더 목록 조회", description = "테스트용: userId를 직접 전달하여 카카오 캘린더 목록을 조회합니다")
     @GetMapping("/test/kakao-calendars/{userId}")
-    public ResponseEntity<ApiResponse<GetCalendarsResponse>> testGetKakaoCalendars(
+    public Mono<ResponseEntity<ApiResponse<GetCalendarsResponse>>> testGetKakaoCalendars(
             @PathVariable Long userId
     ) {
         log.info("=== [테스트용] 카카오 캘린더 목록 조회 요청 받음 ===");
         log.info("요청 userId: {}", userId);
         
-        GetCalendarsResponse response = calendarService.getKakaoCalendars(userId);
-        
-        log.info("[테스트용] 카카오 캘린더 목록 조회 완료: userId={}, 캘린더 수={}", 
-                userId, response.calendars().length);
-        return ResponseEntity.ok(ApiResponse.success(response));
+        return calendarService.getKakaoCalendarsAsync(userId)
+                .doOnNext(response -> log.info("[테스트용] 카카오 캘린더 목록 조회 완료: userId={}, 캘린더 수={}",
+                        userId, response.calendars().length))
+                .map(response -> ResponseEntity.ok(ApiResponse.success(response)));
+    }
+
+    /**
+     * 카카오 API 호출 제한/서킷 브레이커 지표 조회
+     */
+    @Operation(summary = "카카오 API 호출 지표 조회", hidden = true)
+    @GetMapping("/kakao-api/metrics")
+    public ResponseEntity<ApiResponse<Map<String, Object>>> getKakaoApiMetrics() {
+        Map<String, Object> metrics = new HashMap<>();
+        metrics.put("circuitBreaker", kakaoApiCircuitBreaker.getMetrics());
+        metrics.put("rateLimiter", kakaoApiRateLimiter.getMetrics());
+        metrics.put("pendingRequests", kakaoApiConcurrencyLimiter.getPending());
+        return ResponseEntity.ok(ApiResponse.success(metrics));
     }
 }
@@ -0,0 +1,139 @@
+package com.goormi.routine.domain.calendar.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.UpdateTimestamp;
+
+import java.time.LocalDateTime;
+
+/**
+ * 카카오 캘린더에 반영할 작업을 저장하는 아웃박스 엔티티
+ * - 도메인 변경과 같은 트랜잭션에서 저장되어, 카카오 장애 시에도 작업이 유실되지 않음
+ * - 워커가 PENDING 상태의 작업을 가져가 처리하고, 실패 시 nextAttemptAt 을 늦춰 다시 시도
+ * - 최대 시도 횟수를 넘긴 작업은 DEAD 상태로 남겨 확인 후 수동으로 다시 처리
+ */
+@Entity
+@Table(name = "calendar_outbox", indexes = {
+        @Index(name = "idx_calendar_outbox_status_next_attempt", columnList = "status, next_attempt_at"),
+        @Index(name = "idx_calendar_outbox_idempotency_key", columnList = "idempotency_key")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class CalendarOutbox {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "outbox_id")
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "operation", nullable = false, length = 40)
+    private Operation operation;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    /**
+     * 작업 대상 ID (그룹 작업은 groupMemberId, 개인 작업은 routineId)
+     */
+    @Column(name = "target_id", nullable = false)
+    private Long targetId;
+
+    /**
+     * 처리 시점에 대상이 사라졌거나 바뀌었을 때 사용할 값 (삭제할 캘린더 eventId 등)
+     */
+    @Column(name = "payload", length = 500)
+    private String payload;
+
+    /**
+     * 같은 논리 작업을 식별하는 키 (처리 대기 중인 작업이 있으면 새로 쌓지 않음)
+     */
+    @Column(name = "idempotency_key", nullable = false, length = 200)
+    private String idempotencyKey;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 20)
+    private Status status;
+
+    @Column(name = "attempts", nullable = false)
+    private int attempts;
+
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    @Column(name = "locked_until")
+    private LocalDateTime lockedUntil;
+
+    @Column(name = "last_error", length = 1000)
+    private String lastError;
+
+    @CreationTimestamp
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @UpdateTimestamp
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    public static CalendarOutbox create(Operation operation, Long userId, Long targetId, String payload) {
+        CalendarOutbox outbox = new CalendarOutbox();
+        outbox.operation = operation;
+        outbox.userId = userId;
+        outbox.targetId = targetId;
+        outbox.payload = payload;
+        outbox.idempotencyKey = idempotencyKey(operation, targetId, payload);
+        outbox.status = Status.PENDING;
+        outbox.attempts = 0;
+        outbox.nextAttemptAt = LocalDateTime.now();
+        return outbox;
+    }
+
+    public static String idempotencyKey(Operation operation, Long targetId, String payload) {
+        String key = operation.name() + ":" + targetId;
+        return payload == null ? key : key + ":" + payload;
+    }
+
+    public void markDone() {
+        this.status = Status.DONE;
+        this.lockedUntil = null;
+        this.lastError = null;
+    }
+
+    public void markRetry(LocalDateTime nextAttemptAt, String error) {
+        this.status = Status.PENDING;
+        this.nextAttemptAt = nextAttemptAt;
+        this.lockedUntil = null;
+        this.lastError = truncate(error);
+    }
+
+    public void markDead(String error) {
+        this.status = Status.DEAD;
+        this.lockedUntil = null;
+        this.lastError = truncate(error);
+    }
+
+    private static String truncate(String error) {
+        if (error == null) {
+            return null;
+        }
+        return error.length() > 1000 ? error.substring(0, 1000) : error;
+    }
+
+    /**
+     * 아웃박스 작업 종류
+     */
+    public enum Operation {
+        GROUP_MEMBER_JOIN, GROUP_MEMBER_LEAVE, GROUP_SCHEDULE_UPDATE,
+        PERSONAL_CREATE, PERSONAL_UPDATE, PERSONAL_DELETE
+    }
+
+    /**
+     * 아웃박스 작업 상태
+     */
+    public enum Status {
+        PENDING, PROCESSING, DONE, DEAD
+    }
+}
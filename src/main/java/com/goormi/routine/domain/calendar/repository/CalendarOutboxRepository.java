@@ -0,0 +1,46 @@
+package com.goormi.routine.domain.calendar.repository;
+
+import com.goormi.routine.domain.calendar.entity.CalendarOutbox;
+import com.goormi.routine.domain.calendar.entity.CalendarOutbox.Status;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface CalendarOutboxRepository extends JpaRepository<CalendarOutbox, Long> {
+
+    boolean existsByIdempotencyKeyAndStatus(String idempotencyKey, Status status);
+
+    /**
+     * 처리할 차례가 된 작업 ID 조회 (잠금 시간이 지난 PROCESSING 작업은 다시 가져감)
+     */
+    @Query("SELECT o.id FROM CalendarOutbox o " +
+            "WHERE (o.status = :pending AND o.nextAttemptAt <= :now) " +
+            "OR (o.status = :processing AND o.lockedUntil < :now) " +
+            "ORDER BY o.nextAttemptAt ASC")
+    List<Long> findDueIds(@Param("pending") Status pending, @Param("processing") Status processing,
+                          @Param("now") LocalDateTime now, Pageable pageable);
+
+    /**
+     * 조건부 UPDATE 로 작업을 선점 (여러 인스턴스가 같은 작업을 동시에 처리하지 않도록 함)
+     * @return 선점에 성공하면 1
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE CalendarOutbox o SET o.status = :processing, o.lockedUntil = :lockedUntil, o.attempts = o.attempts + 1 " +
+            "WHERE o.id = :id AND ((o.status = :pending AND o.nextAttemptAt <= :now) " +
+            "OR (o.status = :processing AND o.lockedUntil < :now))")
+    int claim(@Param("id") Long id, @Param("pending") Status pending, @Param("processing") Status processing,
+              @Param("now") LocalDateTime now, @Param("lockedUntil") LocalDateTime lockedUntil);
+
+    @Modifying
+    @Query("DELETE FROM CalendarOutbox o WHERE o.status = :status AND o.updatedAt < :before")
+    int deleteByStatusAndUpdatedAtBefore(@Param("status") Status status, @Param("before") LocalDateTime before);
+
+    long countByStatus(Status status);
+}
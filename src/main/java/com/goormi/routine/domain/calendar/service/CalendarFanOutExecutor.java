@@ -0,0 +1,135 @@
+package com.goormi.routine.domain.calendar.service;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+
+/**
+ * 그룹 멤버 여러 명의 캘린더 작업을 병렬로 처리하는 실행기
+ * - 고정 크기 워커 풀(concurrency)에서 멤버별 작업을 동시에 실행하고, 초당 시작 건수를 rate-per-second 로 제한
+ * - 멤버별 성공/실패를 모으고, 실패한 멤버만 max-attempts 까지 간격을 늘려가며 다시 실행
+ * - 호출 스레드(이벤트 리스너)는 결과를 기다리지 않고 CompletableFuture 를 받음
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "calendar.integration.enabled", havingValue = "true", matchIfMissing = true)
+public class CalendarFanOutExecutor {
+
+    @Value("${calendar.fanout.concurrency:8}")
+    private int concurrency;
+
+    @Value("${calendar.fanout.rate-per-second:10}")
+    private double ratePerSecond;
+
+    @Value("${calendar.fanout.max-attempts:3}")
+    private int maxAttempts;
+
+    @Value("${calendar.fanout.retry-backoff-ms:1000}")
+    private long retryBackoffMs;
+
+    private ExecutorService fanOutExecutor;
+    private final AtomicLong nextPermitNanos = new AtomicLong();
+
+    @PostConstruct
+    void init() {
+        fanOutExecutor = Executors.newFixedThreadPool(concurrency, new CustomizableThreadFactory("calendar-fanout-"));
+        nextPermitNanos.set(System.nanoTime());
+    }
+
+    @PreDestroy
+    void shutdown() {
+        fanOutExecutor.shutdownNow();
+    }
+
+    public <T> CompletableFuture<FanOutResult<T>> execute(String operation, List<T> targets, Consumer<T> task) {
+        return execute(operation, targets, task, maxAttempts);
+    }
+
+    /**
+     * 재시도 횟수를 직접 지정하여 실행 (아웃박스처럼 호출자가 재시도를 관리하는 경우 1)
+     */
+    public <T> CompletableFuture<FanOutResult<T>> execute(String operation, List<T> targets, Consumer<T> task,
+                                                          int maxAttempts) {
+        if (targets.isEmpty()) {
+            return CompletableFuture.completedFuture(new FanOutResult<>(operation, 0, 0, List.of()));
+        }
+
+        List<T> succeeded = Collections.synchronizedList(new ArrayList<>());
+        return runAttempt(operation, targets, task, 1, maxAttempts, succeeded)
+                .thenApply(failures -> new FanOutResult<>(operation, targets.size(), succeeded.size(), failures));
+    }
+
+    private <T> CompletableFuture<List<Failure<T>>> runAttempt(String operation, List<T> pending, Consumer<T> task,
+                                                               int attempt, int maxAttempts, List<T> succeeded) {
+        List<CompletableFuture<Failure<T>>> futures = pending.stream()
+                .map(target -> CompletableFuture.supplyAsync(() -> {
+                    acquirePermit();
+                    try {
+                        task.accept(target);
+                        succeeded.add(target);
+                        return null;
+                    } catch (Exception e) {
+                        return new Failure<>(target, e, attempt);
+                    }
+                }, fanOutExecutor))
+                .toList();
+
+        return CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new))
+                .thenCompose(ignored -> {
+                    List<Failure<T>> failures = futures.stream()
+                            .map(CompletableFuture::join)
+                            .filter(Objects::nonNull)
+                            .toList();
+                    if (failures.isEmpty() || attempt >= maxAttempts) {
+                        return CompletableFuture.completedFuture(failures);
+                    }
+
+                    log.warn("캘린더 작업 일부 실패, 실패한 대상만 재시도: 작업 = {}, 시도 = {}/{}, 실패 = {}건",
+                            operation, attempt, maxAttempts, failures.size());
+                    List<T> retryTargets = failures.stream().map(Failure::target).toList();
+                    Executor delayed = CompletableFuture.delayedExecutor(
+                            retryBackoffMs * attempt, TimeUnit.MILLISECONDS, fanOutExecutor);
+                    return CompletableFuture.supplyAsync(() -> retryTargets, delayed)
+                            .thenCompose(targets -> runAttempt(operation, targets, task, attempt + 1, maxAttempts, succeeded));
+                });
+    }
+
+    /**
+     * 초당 rate-per-second 건을 넘지 않도록 다음 시작 시각까지 대기 (워커 스레드에서만 호출)
+     */
+    private void acquirePermit() {
+        if (ratePerSecond <= 0) {
+            return;
+        }
+        long interval = (long) (TimeUnit.SECONDS.toNanos(1) / ratePerSecond);
+        long now = System.nanoTime();
+        long previous = nextPermitNanos.getAndAccumulate(now, (next, current) -> Math.max(next, current) + interval);
+        long waitNanos = Math.max(previous, now) - now;
+        if (waitNanos > 0) {
+            LockSupport.parkNanos(waitNanos);
+        }
+    }
+
+    public record FanOutResult<T>(String operation, int total, int succeeded, List<Failure<T>> failures) {
+    }
+
+    public record Failure<T>(T target, Exception error, int attempts) {
+    }
+}
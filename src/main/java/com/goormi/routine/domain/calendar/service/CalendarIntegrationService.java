@@ -1,5 +1,6 @@
 package com.goormi.routine.domain.calendar.service;
 
+import com.goormi.routine.domain.calendar.entity.CalendarOutbox.Operation;
 import com.goormi.routine.domain.group.entity.Group;
 import com.goormi.routine.domain.group.entity.GroupMember;
 import com.goormi.routine.domain.group.entity.GroupMemberStatus;
@@ -15,6 +16,7 @@ import java.util.List;
 
 /**
  * 캘린더와 다른 도메인 간의 연동을 담당하는 이벤트 리스너
+ * - 카카오 호출은 하지 않고, 커밋 직전에 같은 트랜잭션으로 아웃박스 작업만 저장 (실제 반영은 CalendarOutboxWorker)
  */
 @Slf4j
 @Component
@@ -22,8 +24,7 @@ import java.util.List;
 @ConditionalOnProperty(name = "calendar.integration.enabled", havingValue = "true", matchIfMissing = true)
 public class CalendarIntegrationService {
 
-    private final CalendarService calendarService;
-    private final CalendarMemberService calendarMemberService;
+    private final CalendarOutboxService calendarOutboxService;
 
     @PostConstruct
     public void postConstruct() {
@@ -31,110 +32,76 @@ public class CalendarIntegrationService {
     }
 
     /**
-     * 그룹 멤버 상태 변경 시 캘린더 일정 처리
+     * 그룹 멤버 상태 변경 시 캘린더 일정 작업 저장
      */
-    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
     public void handleGroupMemberStatusChange(GroupMemberStatusChangeEvent event) {
         GroupMember groupMember = event.getGroupMember();
+        Long userId = groupMember.getUser().getId();
         log.info("그룹 멤버 상태 변경 이벤트 수신: userId={}, groupId={}, newStatus={}",
-                groupMember.getUser().getId(),
-                groupMember.getGroup().getGroupId(),
-                groupMember.getStatus());
+                userId, groupMember.getGroup().getGroupId(), groupMember.getStatus());
 
         if (groupMember.getStatus() == GroupMemberStatus.JOINED) {
             // 그룹 가입 시 일정 생성
-            calendarMemberService.handleMemberJoined(groupMember);
-        } else {
-            // 그룹 탈퇴 시 일정 삭제
-            calendarMemberService.handleMemberLeft(groupMember);
+            calendarOutboxService.enqueue(Operation.GROUP_MEMBER_JOIN, userId, groupMember.getMemberId(), null);
+        } else if (groupMember.hasCalendarEvent()) {
+            // 그룹 탈퇴 시 일정 삭제 (처리 전에 멤버 정보가 바뀌어도 지울 수 있도록 eventId 를 함께 저장)
+            calendarOutboxService.enqueue(Operation.GROUP_MEMBER_LEAVE, userId, groupMember.getMemberId(),
+                    groupMember.getCalendarEventId());
         }
-        log.info("그룹 멤버 상태 변경 이벤트 처리 완료: userId={}, groupId={}",
-                groupMember.getUser().getId(), groupMember.getGroup().getGroupId());
     }
+
     /**
-     * 그룹 멤버 알람 변경 시 캘린더 일정 처리
+     * 그룹 멤버 알람 변경 시 캘린더 일정 업데이트 작업 저장
      */
-    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
     public void handleGroupMemberAlarmChange(GroupMemberAlarmChangeEvent event) {
         GroupMember groupMember = event.getGroupMember();
-        Long userId = groupMember.getUser().getId();
-        Group group = groupMember.getGroup();
-
-        if (!calendarService.isCalendarConnected(userId)) {
-            log.warn("캘린더 연동 안됨");
+        if (!groupMember.hasCalendarEvent()) {
+            log.debug("캘린더 일정이 없는 멤버입니다: groupMemberId={}", groupMember.getMemberId());
             return;
         }
-
-        try {
-            String eventId = groupMember.getCalendarEventId();
-            calendarService.updateGroupSchedule(userId, group, eventId);
-            log.info("그룹 멤버 알람 설정 변경으로 캘린더 일정 업데이트 완료: userId={}, eventId={}", userId, eventId);
-        } catch (Exception e) {
-            log.error("그룹 멤버 알람 설정 변경 업데이트 실패: groupMemberId={}, userId={}", groupMember.getMemberId(), userId, e);
-        }
+        calendarOutboxService.enqueue(Operation.GROUP_SCHEDULE_UPDATE, groupMember.getUser().getId(),
+                groupMember.getMemberId(), null);
     }
 
     /**
-     * 그룹 정보 변경 시 일정 업데이트
+     * 그룹 정보 변경 시 멤버별 일정 업데이트 작업 저장
      */
-    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
     public void handleGroupInfoUpdate(GroupInfoUpdateEvent event) {
         Group group = event.getGroup();
         log.info("그룹 정보 변경 이벤트 수신: groupId={}, groupName={}",
                 group.getGroupId(), group.getGroupName());
 
-        List<GroupMember> membersWithCalendarEvent = group.getGroupMembers().stream()
-                .filter(member -> member.getStatus() == GroupMemberStatus.JOINED && member.hasCalendarEvent())
-                .toList();
-
+        List<GroupMember> membersWithCalendarEvent = findMembersWithCalendarEvent(group);
         log.debug("그룹 정보 변경으로 인해 총 {}명의 멤버의 캘린더 일정을 업데이트합니다.", membersWithCalendarEvent.size());
 
-        membersWithCalendarEvent.forEach(member -> {
-            try {
-                Long userId = member.getUser().getId();
-                String eventId = member.getCalendarEventId();
-
-                if (calendarService.isCalendarConnected(userId)) {
-                    log.debug("캘린더 일정 업데이트 시도: userId={}, eventId={}", userId, eventId);
-                    calendarService.updateGroupSchedule(userId, group, eventId);
-                } else {
-                    log.warn("캘린더 연동 안됨 - 일정 업데이트 스킵: userId={}", userId);
-                }
-            } catch (Exception e) {
-                log.error("그룹 일정 업데이트 실패: groupMemberId={}, userId={}",
-                        member.getMemberId(), member.getUser().getId(), e);
-            }
-        });
-
-        log.info("그룹 정보 변경 이벤트 처리 완료: 총 {}명의 멤버 처리", membersWithCalendarEvent.size());
+        // 아직 처리되지 않은 업데이트 작업이 있으면 합쳐지므로, 연달아 수정해도 멤버당 한 번만 호출됨
+        membersWithCalendarEvent.forEach(member -> calendarOutboxService.enqueue(
+                Operation.GROUP_SCHEDULE_UPDATE, member.getUser().getId(), member.getMemberId(), null));
     }
 
     /**
-     * 그룹 삭제 시 모든 관련 일정 삭제
+     * 그룹 삭제 시 멤버별 일정 삭제 작업 저장
      */
-    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
     public void handleGroupDeletion(GroupDeletionEvent event) {
         Group group = event.getGroup();
         log.info("그룹 삭제 이벤트 수신: groupId={}, groupName={}",
                 group.getGroupId(), group.getGroupName());
 
-        List<GroupMember> membersWithCalendarEvent = group.getGroupMembers().stream()
-                .filter(member -> member.getStatus() == GroupMemberStatus.JOINED && member.hasCalendarEvent())
-                .toList();
-
+        List<GroupMember> membersWithCalendarEvent = findMembersWithCalendarEvent(group);
         log.debug("그룹 삭제로 인해 총 {}명의 멤버의 캘린더 일정을 삭제합니다.", membersWithCalendarEvent.size());
 
-        membersWithCalendarEvent.forEach(member -> {
-            try {
-                log.debug("캘린더 일정 삭제 시도: userId={}, eventId={}", member.getUser().getId(), member.getCalendarEventId());
-                calendarMemberService.handleMemberLeft(member);
-            } catch (Exception e) {
-                log.error("그룹 삭제 시 일정 삭제 실패: userId={}, groupId={}",
-                        member.getUser().getId(), group.getGroupId(), e);
-            }
-        });
-
-        log.info("그룹 삭제 이벤트 처리 완료: 총 {}명의 멤버 처리", membersWithCalendarEvent.size());
+        membersWithCalendarEvent.forEach(member -> calendarOutboxService.enqueue(
+                Operation.GROUP_MEMBER_LEAVE, member.getUser().getId(), member.getMemberId(), member.getCalendarEventId()));
+    }
+
+    private List<GroupMember> findMembersWithCalendarEvent(Group group) {
+        return group.getGroupMembers().stream()
+                .filter(member -> member.getStatus() == GroupMemberStatus.JOINED && member.hasCalendarEvent())
+                .toList();
     }
 
     /**
@@ -0,0 +1,166 @@
+package com.goormi.routine.domain.calendar.service;
+
+import com.goormi.routine.domain.calendar.entity.CalendarOutbox;
+import com.goormi.routine.domain.group.entity.GroupMember;
+import com.goormi.routine.domain.group.entity.GroupMemberStatus;
+import com.goormi.routine.domain.group.repository.GroupMemberRepository;
+import com.goormi.routine.domain.personal_routines.domain.PersonalRoutine;
+import com.goormi.routine.domain.personal_routines.repository.PersonalRoutineRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * 아웃박스 작업 한 건을 실제 카카오 캘린더 호출로 반영
+ * - 트랜잭션 없이 실행: 대상은 짧은 조회로 읽고, 카카오 호출 중에는 DB 커넥션을 잡지 않음
+ * - 호출 결과(eventId)는 조건부 UPDATE 로 해당 컬럼만 반영하여 호출 중 바뀐 내용을 덮어쓰지 않음
+ *   (반영할 대상이 사라졌으면 방금 만든 일정을 다시 지움)
+ * - 이벤트 시점이 아니라 처리 시점의 최신 상태를 읽으므로, 이미 반영된 작업은 건너뛰어 재시도해도 중복 호출되지 않음
+ * - 실패하면 예외를 그대로 던져 워커가 재시도를 예약하도록 함
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "calendar.integration.enabled", havingValue = "true", matchIfMissing = true)
+public class CalendarOutboxHandler {
+
+    private final CalendarService calendarService;
+    private final CalendarPersonalService calendarPersonalService;
+    private final GroupMemberRepository groupMemberRepository;
+    private final PersonalRoutineRepository personalRoutineRepository;
+
+    public void handle(CalendarOutbox outbox) {
+        switch (outbox.getOperation()) {
+            case GROUP_MEMBER_JOIN -> handleMemberJoin(outbox);
+            case GROUP_MEMBER_LEAVE -> handleMemberLeave(outbox);
+            case GROUP_SCHEDULE_UPDATE -> handleGroupScheduleUpdate(outbox);
+            case PERSONAL_CREATE -> handlePersonalCreate(outbox);
+            case PERSONAL_UPDATE -> handlePersonalUpdate(outbox);
+            case PERSONAL_DELETE -> handlePersonalDelete(outbox);
+        }
+    }
+
+    private void handleMemberJoin(CalendarOutbox outbox) {
+        GroupMember groupMember = groupMemberRepository.findWithUserAndGroupByMemberId(outbox.getTargetId()).orElse(null);
+        if (groupMember == null || groupMember.getStatus() != GroupMemberStatus.JOINED || groupMember.hasCalendarEvent()) {
+            log.debug("이미 처리되었거나 가입 상태가 아닌 멤버입니다. 일정 생성을 건너뜁니다: groupMemberId={}", outbox.getTargetId());
+            return;
+        }
+
+        Long userId = groupMember.getUser().getId();
+        if (!calendarService.isCalendarConnected(userId)) {
+            log.info("캘린더가 연동되지 않은 사용자입니다. 그룹 일정 생성을 건너뜁니다: userId={}", userId);
+            return;
+        }
+
+        String eventId = calendarService.createGroupSchedule(userId, groupMember.getGroup());
+        if (eventId == null || eventId.trim().isEmpty()) {
+            throw new IllegalStateException("캘린더 일정 생성 실패: eventId가 유효하지 않습니다");
+        }
+
+        if (groupMemberRepository.assignCalendarEventId(groupMember.getMemberId(), eventId) == 0) {
+            // 호출 중 탈퇴했거나 다른 작업이 이미 일정을 만든 경우
+            log.info("일정을 저장할 수 없어 방금 만든 일정을 삭제합니다: groupMemberId={}, eventId={}",
+                    groupMember.getMemberId(), eventId);
+            calendarService.deleteGroupSchedule(eventId, userId);
+            return;
+        }
+        log.info("그룹 일정 생성 및 GroupMember에 eventId 저장 완료: userId={}, groupId={}, eventId={}",
+                userId, groupMember.getGroup().getGroupId(), eventId);
+    }
+
+    private void handleMemberLeave(CalendarOutbox outbox) {
+        String eventId = outbox.getPayload();
+        GroupMember groupMember = groupMemberRepository.findWithUserAndGroupByMemberId(outbox.getTargetId()).orElse(null);
+
+        if (groupMember != null) {
+            if (!eventId.equals(groupMember.getCalendarEventId())) {
+                log.debug("이미 삭제되었거나 다른 일정으로 바뀌었습니다. 일정 삭제를 건너뜁니다: groupMemberId={}, eventId={}",
+                        groupMember.getMemberId(), eventId);
+                return;
+            }
+            if (groupMember.getStatus() == GroupMemberStatus.JOINED && groupMember.getGroup().isActive()) {
+                log.debug("다시 가입한 멤버입니다. 일정 삭제를 건너뜁니다: groupMemberId={}", groupMember.getMemberId());
+                return;
+            }
+        }
+
+        // 멤버 정보가 없어도 저장해 둔 eventId 로 일정은 지움
+        if (calendarService.isCalendarConnected(outbox.getUserId())) {
+            calendarService.deleteGroupSchedule(eventId, outbox.getUserId());
+        }
+        groupMemberRepository.clearCalendarEventId(outbox.getTargetId(), eventId);
+        log.info("그룹 일정 삭제 및 GroupMember의 eventId 제거 완료: userId={}, eventId={}", outbox.getUserId(), eventId);
+    }
+
+    private void handleGroupScheduleUpdate(CalendarOutbox outbox) {
+        GroupMember groupMember = groupMemberRepository.findWithUserAndGroupByMemberId(outbox.getTargetId()).orElse(null);
+        if (groupMember == null || groupMember.getStatus() != GroupMemberStatus.JOINED || !groupMember.hasCalendarEvent()) {
+            log.debug("업데이트할 그룹 일정이 없습니다: groupMemberId={}", outbox.getTargetId());
+            return;
+        }
+
+        Long userId = groupMember.getUser().getId();
+        if (!calendarService.isCalendarConnected(userId)) {
+            log.warn("캘린더 연동 안됨 - 일정 업데이트 스킵: userId={}", userId);
+            return;
+        }
+        calendarService.updateGroupSchedule(userId, groupMember.getGroup(), groupMember.getCalendarEventId());
+        log.info("그룹 캘린더 일정 업데이트 완료: userId={}, eventId={}", userId, groupMember.getCalendarEventId());
+    }
+
+    private void handlePersonalCreate(CalendarOutbox outbox) {
+        PersonalRoutine personalRoutine = findActiveRoutine(outbox);
+        if (personalRoutine == null || personalRoutine.getCalendarEventId() != null) {
+            log.debug("이미 처리되었거나 삭제된 루틴입니다. 일정 생성을 건너뜁니다: routineId={}", outbox.getTargetId());
+            return;
+        }
+
+        Long userId = outbox.getUserId();
+        if (!calendarService.isCalendarConnected(userId)) {
+            log.info("캘린더가 연동되지 않은 사용자입니다. 개인 일정 생성을 건너뜁니다: userId={}", userId);
+            return;
+        }
+
+        String eventId = calendarPersonalService.createPersonalSchedule(userId, personalRoutine);
+        if (personalRoutineRepository.assignCalendarEventId(personalRoutine.getRoutineId(), eventId) == 0) {
+            // 호출 중 루틴이 삭제되었거나 다른 작업이 이미 일정을 만든 경우
+            log.info("일정을 저장할 수 없어 방금 만든 개인 일정을 삭제합니다: routineId={}, eventId={}",
+                    personalRoutine.getRoutineId(), eventId);
+            calendarPersonalService.deletePersonalSchedule(eventId, userId);
+            return;
+        }
+        log.info("개인 루틴 캘린더 일정 생성 완료: userId={}, routineId={}, eventId={}",
+                userId, personalRoutine.getRoutineId(), eventId);
+    }
+
+    private void handlePersonalUpdate(CalendarOutbox outbox) {
+        PersonalRoutine personalRoutine = findActiveRoutine(outbox);
+        if (personalRoutine == null) {
+            log.debug("삭제된 루틴입니다. 일정 수정을 건너뜁니다: routineId={}", outbox.getTargetId());
+            return;
+        }
+
+        String eventId = personalRoutine.getCalendarEventId();
+        if (eventId == null || eventId.trim().isEmpty()) {
+            log.warn("eventId is null :routineId={}", outbox.getTargetId());
+            return;
+        }
+        calendarPersonalService.updatePersonalSchedule(outbox.getUserId(), personalRoutine, eventId);
+        log.info("개인 루틴 캘린더 일정 수정 완료: userId={}, routineId={}, eventId={}",
+                outbox.getUserId(), personalRoutine.getRoutineId(), eventId);
+    }
+
+    private void handlePersonalDelete(CalendarOutbox outbox) {
+        String eventId = outbox.getPayload();
+        calendarPersonalService.deletePersonalSchedule(eventId, outbox.getUserId());
+        personalRoutineRepository.clearCalendarEventId(outbox.getTargetId().intValue(), eventId);
+        log.info("개인 루틴 캘린더 일정 삭제 완료: userId={}, routineId={}, eventId={}",
+                outbox.getUserId(), outbox.getTargetId(), eventId);
+    }
+
+    private PersonalRoutine findActiveRoutine(CalendarOutbox outbox) {
+        return personalRoutineRepository.findByRoutineIdAndIsDeletedFalse(outbox.getTargetId().intValue()).orElse(null);
+    }
+}
@@ -0,0 +1,117 @@
+package com.goormi.routine.domain.calendar.service;
+
+import com.goormi.routine.domain.calendar.entity.CalendarOutbox;
+import com.goormi.routine.domain.calendar.entity.CalendarOutbox.Operation;
+import com.goormi.routine.domain.calendar.entity.CalendarOutbox.Status;
+import com.goormi.routine.domain.calendar.repository.CalendarOutboxRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 캘린더 아웃박스 작업의 저장/선점/결과 기록을 담당
+ * - enqueue 는 도메인 변경 트랜잭션에 참여하여 변경과 작업이 함께 커밋되도록 함
+ * - 실패한 작업은 지수 백오프(backoff-base-ms * 2^(시도-1), 최대 backoff-max-ms)로 다시 예약
+ * - max-attempts 를 넘기면 DEAD 로 옮겨 더 이상 재시도하지 않음
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "calendar.integration.enabled", havingValue = "true", matchIfMissing = true)
+public class CalendarOutboxService {
+
+    private final CalendarOutboxRepository calendarOutboxRepository;
+
+    @Value("${calendar.outbox.max-attempts:8}")
+    private int maxAttempts;
+
+    @Value("${calendar.outbox.backoff-base-ms:2000}")
+    private long backoffBaseMs;
+
+    @Value("${calendar.outbox.backoff-max-ms:600000}")
+    private long backoffMaxMs;
+
+    @Value("${calendar.outbox.lock-timeout-ms:120000}")
+    private long lockTimeoutMs;
+
+    /**
+     * 아웃박스에 작업 저장 (같은 키의 작업이 아직 대기 중이면 합쳐서 한 번만 처리)
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void enqueue(Operation operation, Long userId, Long targetId, String payload) {
+        String idempotencyKey = CalendarOutbox.idempotencyKey(operation, targetId, payload);
+        if (calendarOutboxRepository.existsByIdempotencyKeyAndStatus(idempotencyKey, Status.PENDING)) {
+            log.debug("대기 중인 캘린더 작업이 있어 합칩니다: key={}", idempotencyKey);
+            return;
+        }
+        calendarOutboxRepository.save(CalendarOutbox.create(operation, userId, targetId, payload));
+        log.debug("캘린더 작업 저장: operation={}, userId={}, targetId={}", operation, userId, targetId);
+    }
+
+    /**
+     * 처리할 차례가 된 작업을 최대 batchSize 개 선점하여 반환
+     */
+    @Transactional
+    public List<CalendarOutbox> claimDue(int batchSize) {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime lockedUntil = now.plusNanos(lockTimeoutMs * 1_000_000L);
+        List<Long> dueIds = calendarOutboxRepository.findDueIds(
+                Status.PENDING, Status.PROCESSING, now, PageRequest.of(0, batchSize));
+
+        List<Long> claimedIds = new ArrayList<>();
+        for (Long id : dueIds) {
+            if (calendarOutboxRepository.claim(id, Status.PENDING, Status.PROCESSING, now, lockedUntil) == 1) {
+                claimedIds.add(id);
+            }
+        }
+        return claimedIds.isEmpty() ? List.of() : calendarOutboxRepository.findAllById(claimedIds);
+    }
+
+    @Transactional
+    public void complete(Long outboxId) {
+        calendarOutboxRepository.findById(outboxId).ifPresent(CalendarOutbox::markDone);
+    }
+
+    @Transactional
+    public void fail(Long outboxId, Exception error) {
+        calendarOutboxRepository.findById(outboxId).ifPresent(outbox -> {
+            String message = error.getClass().getSimpleName() + ": " + error.getMessage();
+            if (outbox.getAttempts() >= maxAttempts) {
+                outbox.markDead(message);
+                log.error("캘린더 작업 최종 실패(DEAD): outboxId={}, operation={}, userId={}, targetId={}, 시도 횟수={}",
+                        outboxId, outbox.getOperation(), outbox.getUserId(), outbox.getTargetId(), outbox.getAttempts(), error);
+                return;
+            }
+
+            long delayMs = backoffDelayMs(outbox.getAttempts());
+            outbox.markRetry(LocalDateTime.now().plusNanos(delayMs * 1_000_000L), message);
+            log.warn("캘린더 작업 실패, {}ms 후 재시도: outboxId={}, operation={}, 시도 = {}/{}, message = {}",
+                    delayMs, outboxId, outbox.getOperation(), outbox.getAttempts(), maxAttempts, error.getMessage());
+        });
+    }
+
+    /**
+     * 처리 완료 후 보관 기간이 지난 작업 삭제
+     */
+    @Transactional
+    public int purgeDone(LocalDateTime before) {
+        return calendarOutboxRepository.deleteByStatusAndUpdatedAtBefore(Status.DONE, before);
+    }
+
+    private long backoffDelayMs(int attempts) {
+        int shift = Math.min(Math.max(attempts - 1, 0), 20);
+        long delay = Math.min(backoffBaseMs << shift, backoffMaxMs);
+        // 같은 시점에 실패한 작업이 한꺼번에 재시도되지 않도록 최대 20% 지연을 더함
+        return delay + ThreadLocalRandom.current().nextLong(delay / 5 + 1);
+    }
+}
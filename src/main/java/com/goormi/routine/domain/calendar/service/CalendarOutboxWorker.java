@@ -0,0 +1,85 @@
+package com.goormi.routine.domain.calendar.service;
+
+import com.goormi.routine.domain.calendar.entity.CalendarOutbox;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 캘린더 아웃박스를 주기적으로 비워 카카오 캘린더에 반영하는 워커
+ * - 선점한 작업을 CalendarFanOutExecutor 워커 풀에서 처리하므로 동시 실행 수와 초당 호출 수가 제한됨
+ *   (그룹 정보를 연달아 수정해도 카카오 호출은 일정한 속도로 나감)
+ * - 재시도는 아웃박스의 백오프 일정으로만 하고, 이전 배치가 끝나기 전에는 다음 배치를 가져오지 않음
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "calendar.integration.enabled", havingValue = "true", matchIfMissing = true)
+public class CalendarOutboxWorker {
+
+    private final CalendarOutboxService calendarOutboxService;
+    private final CalendarOutboxHandler calendarOutboxHandler;
+    private final CalendarFanOutExecutor calendarFanOutExecutor;
+
+    @Value("${calendar.outbox.batch-size:50}")
+    private int batchSize;
+
+    @Value("${calendar.outbox.retention-days:7}")
+    private int retentionDays;
+
+    private final AtomicBoolean draining = new AtomicBoolean(false);
+
+    @Scheduled(fixedDelayString = "${calendar.outbox.poll-interval-ms:1000}")
+    public void drain() {
+        if (!draining.compareAndSet(false, true)) {
+            return;
+        }
+
+        List<CalendarOutbox> claimed;
+        try {
+            claimed = calendarOutboxService.claimDue(batchSize);
+        } catch (Exception e) {
+            draining.set(false);
+            log.error("캘린더 아웃박스 조회 실패", e);
+            return;
+        }
+        if (claimed.isEmpty()) {
+            draining.set(false);
+            return;
+        }
+
+        log.debug("캘린더 아웃박스 작업 처리 시작: {}건", claimed.size());
+        calendarFanOutExecutor.execute("캘린더 아웃박스 처리", claimed, this::process, 1)
+                .whenComplete((result, e) -> {
+                    draining.set(false);
+                    if (e != null) {
+                        log.error("캘린더 아웃박스 배치 실행 실패", e);
+                    }
+                });
+    }
+
+    /**
+     * 보관 기간이 지난 완료 작업 정리 (DEAD 작업은 확인을 위해 남겨둠)
+     */
+    @Scheduled(cron = "${calendar.outbox.purge-cron:0 30 4 * * *}")
+    public void purgeDone() {
+        int deleted = calendarOutboxService.purgeDone(LocalDateTime.now().minusDays(retentionDays));
+        log.info("완료된 캘린더 아웃박스 작업 정리: {}건", deleted);
+    }
+
+    private void process(CalendarOutbox outbox) {
+        try {
+            calendarOutboxHandler.handle(outbox);
+            calendarOutboxService.complete(outbox.getId());
+        } catch (Exception e) {
+            calendarOutboxService.fail(outbox.getId(), e);
+        }
+    }
+}
@@ -7,6 +7,7 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.*;
@@ -37,7 +38,8 @@ public class CalendarPersonalServiceImpl implements CalendarPersonalService {
      */
 
     @Override
-    @Transactional
+    // 카카오 호출 동안 DB 커넥션을 잡지 않도록 트랜잭션 없이 실행 (조회는 리포지토리 단위로 짧게)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public String createPersonalSchedule(Long userId, PersonalRoutine personalRoutine) {
         log.info("개인 일정 생성 시작: userId={}, routineId={}", userId, personalRoutine.getRoutineId());
 
@@ -47,7 +49,7 @@ public class CalendarPersonalServiceImpl implements CalendarPersonalService {
 
             // 개인루틴 정보를 바탕으로 일정 생성
             CreateEventRequest request = buildEventRequest("primary", personalRoutine);
-            CreateEventResponse response = kakaoCalendarClient.createEvent(accessToken, "primary", request);
+            CreateEventResponse response = kakaoCalendarClient.createEvent(userId, accessToken, "primary", request);
 
             log.info("개인 일정 생성 완료: userId={}, eventId={}", userId, response.eventId());
 
@@ -63,7 +65,7 @@ public class CalendarPersonalServiceImpl implements CalendarPersonalService {
      * 개인 일정 수정
      */
     @Override
-    @Transactional
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public void updatePersonalSchedule(Long userId, PersonalRoutine personalRoutine, String eventId) {
         log.info("개인 일정 수정 시작: userId={}, eventId={}", userId, eventId);
 
@@ -106,7 +108,7 @@ public class CalendarPersonalServiceImpl implements CalendarPersonalService {
                     actualEventId, calendarId, userId);
 
             try {
-                kakaoCalendarClient.updateEvent(accessToken, actualEventId, request);
+                kakaoCalendarClient.updateEvent(userId, accessToken, actualEventId, request);
                 log.info("개인 일정 수정 완료: userId={}, eventId={}", actualEventId, eventId);
 
             } catch (RuntimeException kakaoApiException) {
@@ -151,7 +153,7 @@ public class CalendarPersonalServiceImpl implements CalendarPersonalService {
      * 개인 일정 삭제
      */
     @Override
-    @Transactional
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public void deletePersonalSchedule(String eventId, Long userId) {
         log.info("그룹 일정 삭제 시작: eventId={}, userId={}", eventId, userId);
 
@@ -175,7 +177,7 @@ public class CalendarPersonalServiceImpl implements CalendarPersonalService {
                     .recurUpdateType("ALL")
                     .build();
 
-            kakaoCalendarClient.deleteEvent(accessToken, request);
+            kakaoCalendarClient.deleteEvent(userId, accessToken, request);
             log.info("개인 일정 삭제 완료: actualEventId={}", actualEventId);
 
         } catch (Exception e) {
@@ -206,7 +208,7 @@ public class CalendarPersonalServiceImpl implements CalendarPersonalService {
                     .to(to)
                     .build();
 
-            GetEventsResponse response = kakaoCalendarClient.getEvents(accessToken, request);
+            GetEventsResponse response = kakaoCalendarClient.getEvents(userId, accessToken, request);
             return response;
         }  catch (Exception e) {
             throw new KakaoApiException("카카오 일정 조회에 실패했습니다.", e, 500, "GET_EVENTS_FAILED");
@@ -4,6 +4,7 @@ import com.goormi.routine.domain.calendar.dto.CalendarResponse;
 import com.goormi.routine.domain.calendar.dto.KakaoCalendarDto;
 import com.goormi.routine.domain.calendar.dto.KakaoCalendarDto.GetCalendarsResponse;
 import com.goormi.routine.domain.group.entity.Group;
+import reactor.core.publisher.Mono;
 
 import java.time.LocalTime;
 
@@ -19,6 +20,11 @@ public interface CalendarService {
      */
     void deleteUserCalendar(Long userId);
 
+    /**
+     * 사용자 캘린더 삭제 (컨트롤러용, 서블릿 스레드를 막지 않음)
+     */
+    Mono<Void> deleteUserCalendarAsync(Long userId);
+
     /**
      * 그룹 일정 생성 (그룹 가입 시 호출)
      */
@@ -43,12 +49,22 @@ public interface CalendarService {
      * 캘린더 연동 상태 확인
      */
     boolean isCalendarConnected(Long userId);
+
+    /**
+     * 캘린더 연동 상태 확인 (컨트롤러용, 서블릿 스레드를 막지 않음)
+     */
+    Mono<Boolean> isCalendarConnectedAsync(Long userId);
     
     /**
      * 사용자의 카카오 캘린더 목록 조회 (테스트용)
      */
     GetCalendarsResponse getKakaoCalendars(Long userId);
 
+    /**
+     * 사용자의 카카오 캘린더 목록 조회 (테스트용, 서블릿 스레드를 막지 않음)
+     */
+    Mono<GetCalendarsResponse> getKakaoCalendarsAsync(Long userId);
+
     KakaoCalendarDto.Time calculateEventTime(String startDate, LocalTime alarmTime);
 
     String formatAlarmTime(LocalTime time);
@@ -17,7 +17,11 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 
 import java.time.*;
 import java.time.format.DateTimeFormatter;
@@ -42,6 +46,7 @@ public class CalendarServiceImpl implements CalendarService {
     private final GroupMemberRepository groupMemberRepository;
     private final KakaoCalendarClient kakaoCalendarClient;
     private final KakaoTokenService kakaoTokenService;
+    private final TransactionTemplate transactionTemplate;
 
     /**
      * 사용자 캘린더 생성
@@ -61,7 +66,7 @@ public class CalendarServiceImpl implements CalendarService {
             log.debug("DB에서 사용자 캘린더 발견: userCalendarId={}", userCalendar.getId());
             try {
                 // 카카오 API를 통해 실제 캘린더 목록 조회 (전달받은 토큰 사용)
-                GetCalendarsResponse kakaoCalendars = kakaoCalendarClient.getCalendars(accessToken);
+                GetCalendarsResponse kakaoCalendars = kakaoCalendarClient.getCalendars(userId, accessToken);
                 boolean kakaoCalendarExists = Arrays.stream(kakaoCalendars.calendars())
                         .anyMatch(c -> c.id().equals(userCalendar.getSubCalendarId()));
 
@@ -104,7 +109,7 @@ public class CalendarServiceImpl implements CalendarService {
                     .reminder(10)
                     .build();
 
-            CreateSubCalendarResponse subCalendar = kakaoCalendarClient.createSubCalendar(accessToken, request);
+            CreateSubCalendarResponse subCalendar = kakaoCalendarClient.createSubCalendar(userId, accessToken, request);
 
             // UserCalendar 엔티티 생성 및 저장
             UserCalendar newUserCalendar = UserCalendar.createUserCalendar(user, subCalendar.subCalendarId());
@@ -146,7 +151,7 @@ public class CalendarServiceImpl implements CalendarService {
             // 카카오 액세스 토큰 획득
             String accessToken = kakaoTokenService.getKakaoAccessTokenByUserId(userId);
             // 카카오 서브캘린더 삭제
-            kakaoCalendarClient.deleteSubCalendar(accessToken, userCalendar.getSubCalendarId());
+            kakaoCalendarClient.deleteSubCalendar(userId, accessToken, userCalendar.getSubCalendarId());
             
             // UserCalendar 엔티티 삭제
             calendarRepository.delete(userCalendar);
@@ -165,11 +170,53 @@ public class CalendarServiceImpl implements CalendarService {
         }
     }
 
+    /**
+     * 사용자 캘린더 삭제 (비동기)
+     * - 카카오 API 호출은 WebClient 논블로킹, DB/토큰 조회는 boundedElastic 에서 수행
+     * - 로컬 데이터 정리는 카카오 응답 이후 별도 트랜잭션으로 처리
+     */
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public Mono<Void> deleteUserCalendarAsync(Long userId) {
+        log.info("사용자 캘린더 삭제 시작: userId={}", userId);
+
+        return Mono.fromCallable(() -> calendarRepository.findByUserId(userId).map(UserCalendar::getSubCalendarId))
+                .subscribeOn(Schedulers.boundedElastic())
+                .flatMap(subCalendarId -> {
+                    if (subCalendarId.isEmpty()) {
+                        log.warn("삭제할 캘린더가 없습니다: userId={}", userId);
+                        return Mono.<Void>empty();
+                    }
+                    return getAccessTokenAsync(userId)
+                            .flatMap(accessToken -> kakaoCalendarClient.deleteSubCalendarAsync(userId, accessToken, subCalendarId.get()))
+                            // 카카오 API 실패해도 로컬 데이터는 정리
+                            .onErrorResume(e -> {
+                                log.error("캘린더 삭제 실패: userId={}", userId, e);
+                                return Mono.empty();
+                            })
+                            .then(Mono.<Void>fromRunnable(() ->
+                                            transactionTemplate.executeWithoutResult(status -> disconnectUserCalendar(userId)))
+                                    .subscribeOn(Schedulers.boundedElastic()));
+                });
+    }
+
+    /**
+     * UserCalendar 삭제 및 User 연동 상태 해제 (트랜잭션 내부에서 호출)
+     */
+    private void disconnectUserCalendar(Long userId) {
+        calendarRepository.findByUserId(userId).ifPresent(userCalendar -> {
+            calendarRepository.delete(userCalendar);
+            userCalendar.getUser().disconnectCalendar();
+            log.info("사용자 캘린더 삭제 완료: userId={}, subCalendarId={}", userId, userCalendar.getSubCalendarId());
+        });
+    }
+
     /**
      * 그룹 일정 생성
      */
     @Override
-    @Transactional
+    // 카카오 호출 동안 DB 커넥션을 잡지 않도록 트랜잭션 없이 실행 (조회는 리포지토리 단위로 짧게)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public String createGroupSchedule(Long userId, Group group) {
         log.info("그룹 일정 생성 시작: userId={}, groupId={}", userId, group.getGroupId());
         
@@ -182,7 +229,7 @@ public class CalendarServiceImpl implements CalendarService {
             
             // 그룹 정보를 바탕으로 일정 생성
             CreateEventRequest request = buildEventRequest(userCalendar.getSubCalendarId(), group);
-            CreateEventResponse response = kakaoCalendarClient.createEvent(accessToken, userCalendar.getSubCalendarId(), request);
+            CreateEventResponse response = kakaoCalendarClient.createEvent(userId, accessToken, userCalendar.getSubCalendarId(), request);
             
             log.info("그룹 일정 생성 완료: userId={}, eventId={}", userId, response.eventId());
             
@@ -198,7 +245,7 @@ public class CalendarServiceImpl implements CalendarService {
      * 그룹 일정 수정
      */
     @Override
-    @Transactional
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public void updateGroupSchedule(Long userId, Group group, String eventId) {
         log.info("그룹 일정 수정 시작: userId={}, eventId={}", userId, eventId);
         
@@ -279,7 +326,7 @@ public class CalendarServiceImpl implements CalendarService {
                     actualEventId, calendarId, userId);
             
             try {
-                kakaoCalendarClient.updateEvent(accessToken, actualEventId, request);
+                kakaoCalendarClient.updateEvent(userId, accessToken, actualEventId, request);
                 log.info("그룹 일정 수정 완료: userId={}, eventId={}", actualEventId, eventId);
                 
             } catch (RuntimeException kakaoApiException) {
@@ -324,7 +371,7 @@ public class CalendarServiceImpl implements CalendarService {
      * 그룹 일정 삭제
      */
     @Override
-    @Transactional
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public void deleteGroupSchedule(String eventId, Long userId) {
         log.info("그룹 일정 삭제 시작: eventId={}, userId={}", eventId, userId);
         
@@ -348,7 +395,7 @@ public class CalendarServiceImpl implements CalendarService {
                     .recurUpdateType("ALL")
                     .build();
             
-            kakaoCalendarClient.deleteEvent(accessToken, request);
+            kakaoCalendarClient.deleteEvent(userId, accessToken, request);
             log.info("그룹 일정 삭제 완료: actualEventId={}", actualEventId);
             
         } catch (Exception e) {
@@ -369,16 +416,8 @@ public class CalendarServiceImpl implements CalendarService {
             log.debug("액세스 토큰 획득 완료");
 
             // 카카오 API 호출
-            GetCalendarsResponse response = kakaoCalendarClient.getCalendars(accessToken);
-
-            log.info("카카오 캘린더 목록 조회 완료: userId={}, 캘린더 수={}",
-                    userId, response.calendars() != null ? response.calendars().length : 0);
-
-            if (response.calendars() != null) {
-                for (Calendar calendar : response.calendars()) {
-                    log.debug("캘린더 정보: id={}, name={}", calendar.id(), calendar.name());
-                }
-            }
+            GetCalendarsResponse response = kakaoCalendarClient.getCalendars(userId, accessToken);
+            logKakaoCalendars(userId, response);
 
             return response;
 
@@ -388,6 +427,34 @@ public class CalendarServiceImpl implements CalendarService {
         }
     }
 
+    /**
+     * 사용자의 카카오 캘린더 목록 조회 (비동기)
+     */
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public Mono<GetCalendarsResponse> getKakaoCalendarsAsync(Long userId) {
+        log.info("카카오 캘린더 목록 조회 시작: userId={}", userId);
+
+        return getAccessTokenAsync(userId)
+                .flatMap(accessToken -> kakaoCalendarClient.getCalendarsAsync(userId, accessToken))
+                .doOnNext(response -> logKakaoCalendars(userId, response))
+                .onErrorMap(e -> {
+                    log.error("카카오 캘린더 목록 조회 실패: userId={}", userId, e);
+                    return new KakaoApiException("카카오 캘린더 목록 조회에 실패했습니다", e, 500, "CALENDAR_LIST_FAILED");
+                });
+    }
+
+    private void logKakaoCalendars(Long userId, GetCalendarsResponse response) {
+        log.info("카카오 캘린더 목록 조회 완료: userId={}, 캘린더 수={}",
+                userId, response.calendars() != null ? response.calendars().length : 0);
+
+        if (response.calendars() != null) {
+            for (Calendar calendar : response.calendars()) {
+                log.debug("캘린더 정보: id={}, name={}", calendar.id(), calendar.name());
+            }
+        }
+    }
+
     /**
      * 서브 캘린더 내의 이벤트 조회
      */
@@ -411,7 +478,7 @@ public class CalendarServiceImpl implements CalendarService {
                     .to(to)
                     .build();
 
-            GetEventsResponse response = kakaoCalendarClient.getEvents(accessToken, request);
+            GetEventsResponse response = kakaoCalendarClient.getEvents(userId, accessToken, request);
             return response;
         }  catch (Exception e) {
             throw new KakaoApiException("카카오 일정 조회에 실패했습니다.", e, 500, "GET_EVENTS_FAILED");
@@ -444,19 +511,9 @@ public class CalendarServiceImpl implements CalendarService {
         try {
             // 카카오 API를 호출하여 실제 캘린더 목록 조회
             String token = kakaoTokenService.getKakaoAccessTokenByUserId(userId);
-            GetCalendarsResponse response = kakaoCalendarClient.getCalendars(token);
+            GetCalendarsResponse response = kakaoCalendarClient.getCalendars(userId, token);
 
-            // DB의 subCalendarId와 실제 카카오 캘린더 목록을 비교
-            boolean isCalendarMatched = Arrays.stream(response.calendars())
-                    .anyMatch(calendar ->
-                            Objects.equals(calendar.id(), userCalendar.getSubCalendarId()));
-
-            if (!isCalendarMatched) {
-                log.warn("DB에는 캘린더 정보가 있으나, 실제 카카오 서버에는 해당 서브캘린더가 없습니다. subCalendarId={}", userCalendar.getSubCalendarId());
-            }
-
-            log.debug("캘린더 연동 상태 확인 완료: userId={}, isConnected={}", userId, isCalendarMatched);
-            return isCalendarMatched;
+            return containsSubCalendar(userId, userCalendar.getSubCalendarId(), response);
 
         } catch (Exception e) {
             log.error("카카오 캘린더 연동 상태 확인 중 오류 발생: userId={}", userId, e);
@@ -465,6 +522,54 @@ public class CalendarServiceImpl implements CalendarService {
         }
     }
 
+    /**
+     * 캘린더 연동 상태 확인 (비동기)
+     */
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public Mono<Boolean> isCalendarConnectedAsync(Long userId) {
+        return Mono.fromCallable(() -> calendarRepository.findByUserIdAndActiveTrue(userId))
+                .subscribeOn(Schedulers.boundedElastic())
+                .flatMap(userCalendar -> {
+                    if (userCalendar.isEmpty()) {
+                        log.info("캘린더가 연동되어 있지 않습니다. (DB에 정보 없음): userId={}", userId);
+                        return Mono.just(false);
+                    }
+                    String subCalendarId = userCalendar.get().getSubCalendarId();
+                    return getAccessTokenAsync(userId)
+                            .flatMap(token -> kakaoCalendarClient.getCalendarsAsync(userId, token))
+                            .map(response -> containsSubCalendar(userId, subCalendarId, response))
+                            .onErrorResume(e -> {
+                                log.error("카카오 캘린더 연동 상태 확인 중 오류 발생: userId={}", userId, e);
+                                // API 호출 실패 등 예외 발생 시, 안전하게 '연동되지 않음'으로 처리
+                                return Mono.just(false);
+                            });
+                });
+    }
+
+    /**
+     * DB의 subCalendarId와 실제 카카오 캘린더 목록을 비교
+     */
+    private boolean containsSubCalendar(Long userId, String subCalendarId, GetCalendarsResponse response) {
+        boolean isCalendarMatched = Arrays.stream(response.calendars())
+                .anyMatch(calendar -> Objects.equals(calendar.id(), subCalendarId));
+
+        if (!isCalendarMatched) {
+            log.warn("DB에는 캘린더 정보가 있으나, 실제 카카오 서버에는 해당 서브캘린더가 없습니다. subCalendarId={}", subCalendarId);
+        }
+
+        log.debug("캘린더 연동 상태 확인 완료: userId={}, isConnected={}", userId, isCalendarMatched);
+        return isCalendarMatched;
+    }
+
+    /**
+     * 카카오 액세스 토큰 획득 (Redis/DB 조회가 블로킹이므로 boundedElastic 에서 수행)
+     */
+    private Mono<String> getAccessTokenAsync(Long userId) {
+        return Mono.fromCallable(() -> kakaoTokenService.getKakaoAccessTokenByUserId(userId))
+                .subscribeOn(Schedulers.boundedElastic());
+    }
+
     /**
      * 그룹 정보를 바탕으로 일정 생성 요청 빌드
      */
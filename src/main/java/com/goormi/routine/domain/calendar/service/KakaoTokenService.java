@@ -1,23 +1,49 @@
 package com.goormi.routine.domain.calendar.service;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.goormi.routine.domain.calendar.client.KakaoApiCircuitBreaker;
+import com.goormi.routine.domain.calendar.client.KakaoApiConcurrencyLimiter;
+import com.goormi.routine.domain.calendar.client.KakaoApiRateLimiter;
 import com.goormi.routine.domain.user.entity.User;
 import com.goormi.routine.domain.user.repository.UserRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
 
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.TimeUnit;
 
 /**
  * 카카오 토큰 관리 서비스
+ * - 액세스 토큰은 로컬 캐시 -> Redis -> 카카오 토큰 갱신 순으로 조회
+ * - 사용자별 single-flight 와 Redis 잠금으로 그룹 일정 병렬 처리 중에도 사용자당 한 번만 갱신
+ * - 잠금은 인스턴스마다 고유한 값으로 잡고 자기 값일 때만 지우며, 카카오 호출은 잠금 만료 시간의 절반 안에 끝내도록 제한
+ * - 리프레시 토큰이 없는 사용자는 잠시 기억해 두고 DB 를 다시 조회하지 않음
  */
 @Slf4j
 @Service
@@ -26,9 +52,22 @@ import java.util.concurrent.TimeUnit;
 public class KakaoTokenService {
 
     private static final String KAKAO_ACCESS_TOKEN_PREFIX = "kakao_access_token_";
+    private static final String KAKAO_TOKEN_REFRESH_LOCK_PREFIX = "kakao_token_refresh_lock_";
+    private static final long REFRESH_WAIT_INTERVAL_MS = 100L;
+
+    // 잠금 값이 자신의 것일 때만 삭제 (만료 후 다른 인스턴스가 잡은 잠금을 지우지 않도록)
+    private static final RedisScript<Long> RELEASE_LOCK_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('GET', KEYS[1]) == ARGV[1] then " +
+                    "  return redis.call('DEL', KEYS[1]) " +
+                    "end " +
+                    "return 0", Long.class);
+
     private final WebClient webClient;
     private final UserRepository userRepository;
     private final RedisTemplate<String, String> redisTemplate;
+    private final KakaoApiConcurrencyLimiter kakaoApiConcurrencyLimiter;
+    private final KakaoApiRateLimiter kakaoApiRateLimiter;
+    private final KakaoApiCircuitBreaker kakaoApiCircuitBreaker;
 
     @Value("${kakao.client-id}")
     private String clientId;
@@ -36,78 +75,260 @@ public class KakaoTokenService {
     @Value("${kakao.client-secret}")
     private String clientSecret;
 
+    @Value("${kakao.token.local-cache.max-size:10000}")
+    private long localCacheMaxSize;
+
+    @Value("${kakao.token.local-cache.max-ttl-seconds:300}")
+    private long localCacheMaxTtlSeconds;
+
+    @Value("${kakao.token.refresh-ahead-seconds:600}")
+    private long refreshAheadSeconds;
+
+    @Value("${kakao.token.refresh-lock-ttl-ms:20000}")
+    private long refreshLockTtlMs;
+
+    @Value("${kakao.token.missing-refresh-token-ttl-seconds:30}")
+    private long missingRefreshTokenTtlSeconds;
+
+    @Value("${kakao.token.refresh-workers:2}")
+    private int refreshWorkers;
+
+    // 사용자 ID -> 액세스 토큰 (Redis 앞단의 로컬 캐시, 토큰 만료 시각을 넘겨 보관하지 않음)
+    private Cache<Long, AccessToken> localTokens;
+
+    // 리프레시 토큰이 없는 사용자 ID (짧게 보관하여 연동하지 않은 사용자의 반복 DB 조회를 막음)
+    private Cache<Long, Boolean> missingRefreshTokens;
+
+    // 사용자 ID -> 진행 중인 조회/갱신 (single-flight)
+    private final Map<Long, CompletableFuture<AccessToken>> inFlight = new ConcurrentHashMap<>();
+
+    private ExecutorService refreshExecutor;
+
+    @PostConstruct
+    void init() {
+        localTokens = Caffeine.newBuilder()
+                .maximumSize(localCacheMaxSize)
+                .expireAfter(new AccessTokenExpiry(Duration.ofSeconds(localCacheMaxTtlSeconds).toNanos()))
+                .build();
+        missingRefreshTokens = Caffeine.newBuilder()
+                .maximumSize(localCacheMaxSize)
+                .expireAfterWrite(Duration.ofSeconds(missingRefreshTokenTtlSeconds))
+                .build();
+        refreshExecutor = Executors.newFixedThreadPool(refreshWorkers, new CustomizableThreadFactory("kakao-token-refresh-"));
+    }
+
+    @PreDestroy
+    void shutdown() {
+        refreshExecutor.shutdownNow();
+    }
+
     /**
-     * 카카오 Access Token 조회 (캐싱 적용)
+     * 카카오 Access Token 조회 (로컬 캐시 -> Redis -> 카카오 토큰 갱신 순)
+     * - 같은 사용자의 동시 요청은 하나의 조회/갱신 결과를 함께 기다림
+     * - 만료가 가까운 토큰은 그대로 반환하고 백그라운드에서 미리 갱신
      */
-    @Transactional
     public String getKakaoAccessTokenByUserId(Long userId) {
-        log.info("=== 카카오 액세스 토큰 조회 시작: userId={} ===", userId);
+        AccessToken token = localTokens.getIfPresent(userId);
+        if (token != null) {
+            if (token.expiresWithin(refreshAheadSeconds)) {
+                refreshInBackground(userId);
+            }
+            return token.value();
+        }
+        if (missingRefreshTokens.getIfPresent(userId) != null) {
+            log.debug("저장된 카카오 리프레시 토큰이 없는 사용자입니다: userId={}", userId);
+            return null;
+        }
+
+        log.info("로컬 캐시에 카카오 액세스 토큰이 없어 조회합니다: userId={}", userId);
+        token = resolveSingleFlight(userId, 0L, true);
+        return token != null ? token.value() : null;
+    }
+
+    private void refreshInBackground(Long userId) {
+        if (inFlight.containsKey(userId)) {
+            return;
+        }
+        try {
+            refreshExecutor.execute(() -> {
+                try {
+                    resolveSingleFlight(userId, refreshAheadSeconds, false);
+                } catch (Exception e) {
+                    // 기존 토큰은 아직 유효하므로 다음 조회 때 다시 시도
+                    log.warn("카카오 액세스 토큰 사전 갱신 실패: userId={}, message={}", userId, e.getMessage());
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            log.debug("카카오 액세스 토큰 사전 갱신 생략 (종료 중): userId={}", userId);
+        }
+    }
+
+    /**
+     * 사용자별로 한 번만 조회/갱신하고, 동시에 들어온 요청은 그 결과를 공유
+     * @param minRemainingSeconds Redis 에 있는 토큰을 그대로 쓰기 위한 최소 남은 시간
+     * @param waitIfInFlight 이미 진행 중인 조회가 있을 때 기다릴지 여부 (백그라운드 갱신은 기다리지 않음)
+     */
+    private AccessToken resolveSingleFlight(Long userId, long minRemainingSeconds, boolean waitIfInFlight) {
+        CompletableFuture<AccessToken> created = new CompletableFuture<>();
+        CompletableFuture<AccessToken> existing = inFlight.putIfAbsent(userId, created);
+        if (existing != null) {
+            return waitIfInFlight ? await(existing) : null;
+        }
 
+        try {
+            AccessToken token = loadAccessToken(userId, minRemainingSeconds);
+            if (token != null) {
+                localTokens.put(userId, token);
+            }
+            created.complete(token);
+            return token;
+        } catch (RuntimeException e) {
+            created.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(userId, created);
+        }
+    }
+
+    private AccessToken await(CompletableFuture<AccessToken> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private AccessToken loadAccessToken(Long userId, long minRemainingSeconds) {
         // 1. Redis 캐시에서 액세스 토큰 조회
         String cacheKey = KAKAO_ACCESS_TOKEN_PREFIX + userId;
-        String cachedToken = redisTemplate.opsForValue().get(cacheKey);
-
+        AccessToken cachedToken = findCachedToken(cacheKey, minRemainingSeconds);
         if (cachedToken != null) {
             log.info("캐시에서 카카오 액세스 토큰 발견. 캐시된 토큰을 사용합니다. userId={}", userId);
             return cachedToken;
         }
 
+        // 2. 여러 인스턴스가 같은 리프레시 토큰으로 동시에 갱신하지 않도록 Redis 잠금
+        String lockKey = KAKAO_TOKEN_REFRESH_LOCK_PREFIX + userId;
+        String lockOwner = UUID.randomUUID().toString();
+        Boolean locked = redisTemplate.opsForValue().setIfAbsent(lockKey, lockOwner, refreshLockTtlMs, TimeUnit.MILLISECONDS);
+        if (!Boolean.TRUE.equals(locked)) {
+            return waitForOtherInstance(userId, cacheKey);
+        }
+
+        try {
+            // 잠금을 얻는 사이 다른 인스턴스가 갱신했을 수 있으므로 다시 확인
+            cachedToken = findCachedToken(cacheKey, minRemainingSeconds);
+            if (cachedToken != null) {
+                return cachedToken;
+            }
+            return refreshAccessToken(userId, cacheKey);
+        } finally {
+            redisTemplate.execute(RELEASE_LOCK_SCRIPT, List.of(lockKey), lockOwner);
+        }
+    }
+
+    private AccessToken refreshAccessToken(Long userId, String cacheKey) {
         log.info("캐시에 토큰이 없음. DB에서 리프레시 토큰을 조회하여 새로 발급합니다. userId={}", userId);
 
-        // 2. 캐시에 토큰이 없으면 DB에서 리프레시 토큰 조회
+        // 3. DB에서 리프레시 토큰 조회
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다: " + userId));
 
         if (user.getKakaoRefreshToken() == null) {
             log.warn("저장된 카카오 리프레시 토큰이 없습니다. 카카오 캘린더 연동을 건너뜁니다: userId={}", userId);
+            missingRefreshTokens.put(userId, Boolean.TRUE);
+            return null;
+        }
+
+        // 4. 리프레시 토큰으로 새로운 액세스 토큰 발급
+        TokenResponse tokenResponse = refreshKakaoAccessToken(userId, user.getKakaoRefreshToken());
+        if (tokenResponse == null || tokenResponse.accessToken == null) {
+            log.error("카카오 액세스 토큰 발급에 실패했습니다. userId={}", userId);
             return null;
         }
 
-        // 3. 리프레시 토큰으로 새로운 액세스 토큰 발급
-        TokenResponse tokenResponse = refreshKakaoAccessToken(user.getKakaoRefreshToken());
+        // 5. 새로운 리프레시 토큰이 발급된 경우 바로 DB에 반영 (호출한 트랜잭션이 롤백되어도 유지)
+        if (tokenResponse.refreshToken != null) {
+            log.info("카카오 리프레시 토큰 갱신: userId={}", userId);
+            userRepository.updateKakaoRefreshToken(userId, tokenResponse.refreshToken);
+        }
 
-        // 4. 새로 발급받은 토큰을 캐시에 저장
-        if (tokenResponse != null && tokenResponse.accessToken != null) {
-            // 카카오에서 받은 만료 시간(초)에서 5분의 버퍼를 둠
-            long expiresIn = tokenResponse.expiresIn - 300;
-            if (expiresIn > 0) {
-                redisTemplate.opsForValue().set(cacheKey, tokenResponse.accessToken, expiresIn, TimeUnit.SECONDS);
-                log.info("새로운 카카오 액세스 토큰을 캐시에 저장했습니다. userId={}, expiresIn={}s", userId, expiresIn);
-            }
+        // 6. 새로 발급받은 토큰을 캐시에 저장 (카카오에서 받은 만료 시간(초)에서 5분의 버퍼를 둠)
+        long expiresIn = tokenResponse.expiresIn - 300;
+        if (expiresIn > 0) {
+            redisTemplate.opsForValue().set(cacheKey, tokenResponse.accessToken, expiresIn, TimeUnit.SECONDS);
+            log.info("새로운 카카오 액세스 토큰을 캐시에 저장했습니다. userId={}, expiresIn={}s", userId, expiresIn);
+        }
 
-            // 새로운 리프레시 토큰이 발급된 경우, 데이터베이스에 업데이트
-            if (tokenResponse.refreshToken != null) {
-                log.info("카카오 리프레시 토큰 갱신: userId={}", userId);
-                user.updateKakaoRefreshToken(tokenResponse.refreshToken);
-            }
+        log.info("카카오 액세스 토큰 조회 완료: userId={}", userId);
+        return new AccessToken(tokenResponse.accessToken, Instant.now().plusSeconds(Math.max(expiresIn, 0L)));
+    }
 
-            log.info("카카오 액세스 토큰 조회 완료: userId={}", userId);
-            return tokenResponse.accessToken;
+    /**
+     * 다른 인스턴스가 갱신 중이면 Redis 에 새 토큰이 저장될 때까지 잠시 대기
+     */
+    private AccessToken waitForOtherInstance(Long userId, String cacheKey) {
+        log.info("다른 인스턴스에서 카카오 액세스 토큰을 갱신 중입니다. 결과를 기다립니다: userId={}", userId);
+        long deadline = System.currentTimeMillis() + refreshLockTtlMs;
+        while (System.currentTimeMillis() < deadline) {
+            AccessToken cachedToken = findCachedToken(cacheKey, 0L);
+            if (cachedToken != null) {
+                return cachedToken;
+            }
+            try {
+                Thread.sleep(REFRESH_WAIT_INTERVAL_MS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
         }
+        throw new IllegalStateException("카카오 액세스 토큰 갱신 대기 시간이 초과되었습니다: userId=" + userId);
+    }
 
-        log.error("카카오 액세스 토큰 발급에 실패했습니다. userId={}", userId);
-        return null;
+    private AccessToken findCachedToken(String cacheKey, long minRemainingSeconds) {
+        String cachedToken = redisTemplate.opsForValue().get(cacheKey);
+        if (cachedToken == null) {
+            return null;
+        }
+        Long ttlSeconds = redisTemplate.getExpire(cacheKey, TimeUnit.SECONDS);
+        if (ttlSeconds == null || ttlSeconds <= minRemainingSeconds) {
+            return null;
+        }
+        return new AccessToken(cachedToken, Instant.now().plusSeconds(ttlSeconds));
     }
 
     /**
      * 카카오 Refresh Token으로 Access Token 갱신
      */
-    private TokenResponse refreshKakaoAccessToken(String kakaoRefreshToken) {
-        log.info("=== 카카오 액세스 토큰 갱신 시작 ===");
+    private TokenResponse refreshKakaoAccessToken(Long userId, String kakaoRefreshToken) {
         try {
-            return webClient.post()
-                    .uri("https://kauth.kakao.com/oauth/token")
-                    .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_FORM_URLENCODED_VALUE)
-                    .bodyValue(buildRefreshTokenRequest(kakaoRefreshToken))
-                    .retrieve()
-                    .bodyToMono(TokenResponse.class)
-                    .block();
+            // 잠금이 만료되기 전에 끝나도록 잠금 만료 시간의 절반까지만 기다림
+            return refreshKakaoAccessTokenAsync(userId, kakaoRefreshToken).block(Duration.ofMillis(refreshLockTtlMs / 2));
         } catch (Exception e) {
             log.error("카카오 액세스 토큰 갱신 중 API 호출 실패: {}", e.getMessage(), e);
             throw new RuntimeException("카카오 토큰 갱신에 실패했습니다", e);
         }
     }
 
+    /**
+     * 카카오 Refresh Token으로 Access Token 갱신 (논블로킹)
+     * - 캘린더 API 와 같은 커넥션 풀을 쓰므로 서킷 브레이커, 사용자별 속도 제한, 동시 호출 제한도 똑같이 거침
+     */
+    public Mono<TokenResponse> refreshKakaoAccessTokenAsync(Long userId, String kakaoRefreshToken) {
+        log.info("=== 카카오 액세스 토큰 갱신 시작 ===");
+        Mono<TokenResponse> call = webClient.post()
+                .uri("https://kauth.kakao.com/oauth/token")
+                .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_FORM_URLENCODED_VALUE)
+                .bodyValue(buildRefreshTokenRequest(kakaoRefreshToken))
+                .retrieve()
+                .bodyToMono(TokenResponse.class);
+        return kakaoApiCircuitBreaker.protect(
+                kakaoApiRateLimiter.limit(userId, kakaoApiConcurrencyLimiter.limit(call)));
+    }
+
     private String buildRefreshTokenRequest(String refreshToken) {
         return String.format(
                 "grant_type=refresh_token&client_id=%s&client_secret=%s&refresh_token=%s",
@@ -115,6 +336,35 @@ public class KakaoTokenService {
         );
     }
 
+    private record AccessToken(String value, Instant expiresAt) {
+
+        boolean expiresWithin(long seconds) {
+            return Instant.now().plusSeconds(seconds).isAfter(expiresAt);
+        }
+    }
+
+    /**
+     * 로컬 캐시 항목을 토큰 만료 시각까지만 유지 (최대 maxTtlNanos)
+     */
+    private record AccessTokenExpiry(long maxTtlNanos) implements Expiry<Long, AccessToken> {
+
+        @Override
+        public long expireAfterCreate(Long userId, AccessToken token, long currentTime) {
+            long remainingNanos = Duration.between(Instant.now(), token.expiresAt()).toNanos();
+            return Math.max(0L, Math.min(remainingNanos, maxTtlNanos));
+        }
+
+        @Override
+        public long expireAfterUpdate(Long userId, AccessToken token, long currentTime, long currentDuration) {
+            return expireAfterCreate(userId, token, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(Long userId, AccessToken token, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+
     public static class TokenResponse {
         @JsonProperty("access_token")
         public String accessToken;
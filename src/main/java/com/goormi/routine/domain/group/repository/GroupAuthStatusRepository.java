@@ -0,0 +1,153 @@
+package com.goormi.routine.domain.group.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 그룹별 오늘의 인증 현황 비트셋 (Redis)
+ * - group:auth_ordinal:{groupId} : 멤버 ID -> 비트 번호(1부터) 해시, 조회/발급할 때마다 만료 연장
+ * - group:auth_today:{groupId}:{yyyyMMdd} : 인증한 멤버의 비트 번호를 1로 설정, 0번 비트는 DB 적재 완료 표시
+ * - 날짜(KST)가 키에 포함되므로 자정이 지나면 자연스럽게 새 비트셋을 사용
+ */
+@Repository
+@RequiredArgsConstructor
+public class GroupAuthStatusRepository {
+
+    private static final String ORDINAL_PREFIX = "group:auth_ordinal:";
+    private static final String TODAY_PREFIX = "group:auth_today:";
+    private static final String NEXT_ORDINAL_FIELD = "__next";
+
+    // 번호가 없는 멤버들에게 한 번의 호출로 원자적으로 번호 발급하고 해시 만료 연장
+    // 0번 비트는 적재 완료 표시로 사용하므로 1부터 발급 (KEYS[1] 번호 해시, ARGV[1] 만료 초, ARGV[2..] 멤버 ID 목록)
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> ASSIGN_ORDINALS_SCRIPT = new DefaultRedisScript<>(
+            "local result = {} " +
+            "for i = 2, #ARGV do " +
+            "  local member = ARGV[i] " +
+            "  local ordinal = redis.call('HGET', KEYS[1], member) " +
+            "  if not ordinal then " +
+            "    ordinal = redis.call('HINCRBY', KEYS[1], '" + NEXT_ORDINAL_FIELD + "', 1) " +
+            "    redis.call('HSET', KEYS[1], member, ordinal) " +
+            "  end " +
+            "  result[i - 1] = tonumber(ordinal) " +
+            "end " +
+            "redis.call('EXPIRE', KEYS[1], ARGV[1]) " +
+            "return result", List.class);
+    private static final int LOADED_BIT = 0;
+    private static final Duration TODAY_EXPIRE = Duration.ofDays(2);
+    // 비트셋이 살아 있는 동안 번호가 다시 발급되지 않도록 번호 해시는 비트셋보다 하루 더 유지
+    private static final Duration ORDINAL_EXPIRE = TODAY_EXPIRE.plusDays(1);
+    private static final DateTimeFormatter DAY_FORMAT = DateTimeFormatter.BASIC_ISO_DATE;
+
+    private final StringRedisTemplate redisTemplate;
+
+    /**
+     * 멤버별 비트 번호를 조회하고, 없는 멤버는 새 번호를 발급
+     */
+    public Map<Long, Integer> getOrAssignOrdinals(Long groupId, Collection<Long> memberIds) {
+        String key = ORDINAL_PREFIX + groupId;
+        Map<Object, Object> stored = redisTemplate.opsForHash().entries(key);
+
+        Map<Long, Integer> ordinals = new HashMap<>();
+        List<String> missing = new ArrayList<>();
+        for (Long memberId : memberIds) {
+            Object ordinal = stored.get(String.valueOf(memberId));
+            if (ordinal != null) {
+                ordinals.put(memberId, Integer.parseInt(ordinal.toString()));
+            } else {
+                missing.add(String.valueOf(memberId));
+            }
+        }
+
+        if (missing.isEmpty()) {
+            redisTemplate.expire(key, ORDINAL_EXPIRE);
+            return ordinals;
+        }
+
+        List<Object> args = new ArrayList<>(missing.size() + 1);
+        args.add(String.valueOf(ORDINAL_EXPIRE.getSeconds()));
+        args.addAll(missing);
+        List<?> assigned = redisTemplate.execute(ASSIGN_ORDINALS_SCRIPT, List.of(key), args.toArray());
+        for (int i = 0; i < missing.size(); i++) {
+            ordinals.put(Long.valueOf(missing.get(i)), Integer.parseInt(String.valueOf(assigned.get(i))));
+        }
+        return ordinals;
+    }
+
+    public Integer getOrAssignOrdinal(Long groupId, Long memberId) {
+        return getOrAssignOrdinals(groupId, List.of(memberId)).get(memberId);
+    }
+
+    /**
+     * 오늘의 비트셋 조회, DB 적재 전이면 null
+     */
+    public BitSet findTodayBits(Long groupId, LocalDate date) {
+        byte[] rawKey = todayKey(groupId, date).getBytes(StandardCharsets.UTF_8);
+        byte[] bytes = redisTemplate.execute((RedisCallback<byte[]>) connection -> connection.stringCommands().get(rawKey));
+        if (bytes == null || bytes.length == 0) {
+            return null;
+        }
+
+        BitSet bits = new BitSet(bytes.length * 8);
+        for (int i = 0; i < bytes.length * 8; i++) {
+            // Redis 비트맵은 바이트의 최상위 비트가 0번 오프셋
+            if ((bytes[i / 8] & (0x80 >>> (i % 8))) != 0) {
+                bits.set(i);
+            }
+        }
+        return bits.get(LOADED_BIT) ? bits : null;
+    }
+
+    /**
+     * DB 에서 조회한 인증 멤버를 반영하고 적재 완료 표시
+     * 이미 설정된 비트는 그대로 두므로 승인 처리와 동시에 실행되어도 유실되지 않음
+     */
+    public void loadTodayBits(Long groupId, LocalDate date, Collection<Integer> authedOrdinals) {
+        byte[] rawKey = todayKey(groupId, date).getBytes(StandardCharsets.UTF_8);
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (Integer ordinal : authedOrdinals) {
+                connection.stringCommands().setBit(rawKey, ordinal, true);
+            }
+            connection.stringCommands().setBit(rawKey, LOADED_BIT, true);
+            expire(connection, rawKey);
+            return null;
+        });
+    }
+
+    public void markAuthed(Long groupId, LocalDate date, int ordinal) {
+        byte[] rawKey = todayKey(groupId, date).getBytes(StandardCharsets.UTF_8);
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            connection.stringCommands().setBit(rawKey, ordinal, true);
+            expire(connection, rawKey);
+            return null;
+        });
+    }
+
+    public void deleteTodayBits(Long groupId, LocalDate date) {
+        redisTemplate.delete(todayKey(groupId, date));
+    }
+
+    private void expire(RedisConnection connection, byte[] rawKey) {
+        connection.keyCommands().expire(rawKey, TODAY_EXPIRE.getSeconds());
+    }
+
+    private String todayKey(Long groupId, LocalDate date) {
+        return TODAY_PREFIX + groupId + ":" + date.format(DAY_FORMAT);
+    }
+}
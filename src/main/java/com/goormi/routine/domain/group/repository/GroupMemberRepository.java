@@ -2,10 +2,14 @@ package com.goormi.routine.domain.group.repository;
 
 import com.goormi.routine.domain.group.entity.*;
 import com.goormi.routine.domain.user.entity.User;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Collection;
 import java.util.List;
@@ -14,6 +18,11 @@ import java.util.Optional;
 @Repository
 public interface GroupMemberRepository extends JpaRepository<GroupMember, Long> {
     Optional<GroupMember> findByGroupAndUser(Group group, User user);
+
+    // 같은 멤버에게 가는 알림 합치기를 직렬화하기 위한 행 잠금 조회
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT gm FROM GroupMember gm WHERE gm.group = :group AND gm.user = :user")
+    Optional<GroupMember> findByGroupAndUserForUpdate(@Param("group") Group group, @Param("user") User user);
     List<GroupMember> findAllByGroupAndRole(Group group, GroupMemberRole role);
     List<GroupMember> findAllByGroupAndStatus(Group group, GroupMemberStatus status);
 
@@ -22,37 +31,35 @@ public interface GroupMemberRepository extends JpaRepository<GroupMember, Long>
     @Query("SELECT COUNT(gm) FROM GroupMember gm WHERE gm.group.groupId = :groupId")
     int countMembersByGroupId(@Param("groupId") Long groupId);
 
-    @Query("""
-      SELECT COUNT(DISTINCT gm.user.id)
-      FROM GroupMember gm
-      JOIN UserActivity ua ON gm.user.id = ua.user.id
-      WHERE gm.group.groupId = :groupId
-        AND gm.status = 'JOINED'
-        AND ua.activityType = 'ROUTINE_AUTH'
-        AND FUNCTION('DATE_FORMAT', ua.createdAt, '%Y-%m') = :monthYear
-      """)
-    int countActiveByGroupId(@Param("groupId") Long groupId,
-      @Param("monthYear") String monthYear);
-
-    @Query("""
-      SELECT COUNT(ua)
-      FROM UserActivity ua
-      JOIN GroupMember gm ON ua.user.id = gm.user.id
-      WHERE gm.group.groupId = :groupId
-        AND gm.status = 'JOINED'
-        AND ua.activityType = 'ROUTINE_AUTH'
-        AND FUNCTION('DATE_FORMAT', ua.createdAt, '%Y-%m') = :monthYear
-      """)
-    int countAuthByGroupId(@Param("groupId") Long groupId,
-      @Param("monthYear") String monthYear);
+    @Query("SELECT gm FROM GroupMember gm JOIN FETCH gm.group WHERE gm.user.id = :userId AND gm.group.groupId IN :groupIds")
+    List<GroupMember> findAllByUserIdAndGroupIdIn(@Param("userId") Long userId, @Param("groupIds") Collection<Long> groupIds);
 
     @Query("SELECT gm FROM GroupMember gm WHERE gm.user.id = :userId AND gm.status = 'JOINED'")
     List<GroupMember> findActiveGroupsByUserId(@Param("userId") Long userId);
 
+    @Query("SELECT gm.user.id, COUNT(gm) FROM GroupMember gm WHERE gm.user.id IN :userIds AND gm.status = 'JOINED' GROUP BY gm.user.id")
+    List<Object[]> countActiveGroupsByUserIds(@Param("userIds") Collection<Long> userIds);
+
   
     @Query("SELECT gm FROM GroupMember gm WHERE gm.group.id = :groupId AND gm.user.id = :userId AND gm.status = 'JOINED'")
     Optional<GroupMember> findByGroupIdAndUserIdAndIsActiveTrue(@Param("groupId") Long groupId, @Param("userId") Long userId);
 
     @Query("SELECT gm FROM GroupMember gm WHERE gm.group.groupId = :groupId AND gm.status = 'JOINED'")
     List<GroupMember> findAllByGroupId(@Param("groupId") Long groupId);
+
+    // 캘린더 아웃박스 처리용 (트랜잭션 밖에서 사용하므로 사용자/그룹을 함께 로딩)
+    @Query("SELECT gm FROM GroupMember gm JOIN FETCH gm.user JOIN FETCH gm.group WHERE gm.memberId = :memberId")
+    Optional<GroupMember> findWithUserAndGroupByMemberId(@Param("memberId") Long memberId);
+
+    // 카카오 호출 결과만 반영 (호출 중 바뀐 다른 컬럼을 덮어쓰지 않음)
+    @Transactional
+    @Modifying
+    @Query("UPDATE GroupMember gm SET gm.calendarEventId = :eventId " +
+            "WHERE gm.memberId = :memberId AND gm.calendarEventId IS NULL AND gm.status = 'JOINED'")
+    int assignCalendarEventId(@Param("memberId") Long memberId, @Param("eventId") String eventId);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE GroupMember gm SET gm.calendarEventId = NULL WHERE gm.memberId = :memberId AND gm.calendarEventId = :eventId")
+    int clearCalendarEventId(@Param("memberId") Long memberId, @Param("eventId") String eventId);
 }
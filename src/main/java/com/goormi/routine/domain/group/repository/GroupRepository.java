@@ -3,6 +3,7 @@ package com.goormi.routine.domain.group.repository;
 import com.goormi.routine.domain.group.entity.Group;
 import com.goormi.routine.domain.group.entity.GroupType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -13,4 +14,9 @@ public interface GroupRepository extends JpaRepository<Group, Long> {
     List<Group> findAllByGroupType(GroupType groupType);
     List<Group> findAllByIsActive(boolean isActive);
     List<Group> findAllByCategory(String category);
+    List<Group> findAllByGroupIdBetween(Long startGroupId, Long endGroupId);
+
+    // 배치 파티션 분할용
+    @Query("SELECT COALESCE(MAX(g.groupId), 0) FROM Group g")
+    long findMaxGroupId();
 }
@@ -0,0 +1,111 @@
+package com.goormi.routine.domain.group.service;
+
+import com.goormi.routine.domain.group.entity.GroupMember;
+import com.goormi.routine.domain.group.repository.GroupAuthStatusRepository;
+import com.goormi.routine.domain.userActivity.entity.ActivityType;
+import com.goormi.routine.domain.userActivity.repository.UserActivityRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 그룹 오늘의 인증 현황 관리
+ * - 인증 완료 시 커밋 이후 멤버 비트를 설정
+ * - 그 날 처음 조회하는 그룹은 DB 에서 한 번 적재한 뒤 이후 조회는 비트셋 한 번으로 처리
+ * - Redis 장애 시 DB 조회로 대체
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class GroupAuthStatusService {
+
+    private static final ZoneId KST = ZoneId.of("Asia/Seoul");
+
+    private final GroupAuthStatusRepository groupAuthStatusRepository;
+    private final UserActivityRepository userActivityRepository;
+
+    public Set<Long> getAuthedMemberIds(Long groupId, List<GroupMember> groupMembers) {
+        LocalDate today = LocalDate.now(KST);
+        try {
+            Map<Long, Integer> ordinals = groupAuthStatusRepository.getOrAssignOrdinals(groupId,
+                    groupMembers.stream().map(GroupMember::getMemberId).toList());
+
+            BitSet bits = groupAuthStatusRepository.findTodayBits(groupId, today);
+            if (bits == null) {
+                Set<Long> authedMemberIds = findAuthedMemberIdsFromDb(groupMembers, today);
+                groupAuthStatusRepository.loadTodayBits(groupId, today,
+                        authedMemberIds.stream().map(ordinals::get).toList());
+                return authedMemberIds;
+            }
+
+            return ordinals.entrySet().stream()
+                    .filter(entry -> bits.get(entry.getValue()))
+                    .map(Map.Entry::getKey)
+                    .collect(Collectors.toSet());
+        } catch (Exception e) {
+            log.warn("그룹 인증 현황 조회 실패, DB 조회로 대체합니다: groupId={}, message={}", groupId, e.getMessage());
+            return findAuthedMemberIdsFromDb(groupMembers, today);
+        }
+    }
+
+    public void markAuthed(Long groupId, Long memberId) {
+        LocalDate today = LocalDate.now(KST);
+        afterCommit(() -> {
+            try {
+                groupAuthStatusRepository.markAuthed(groupId, today,
+                        groupAuthStatusRepository.getOrAssignOrdinal(groupId, memberId));
+            } catch (Exception e) {
+                // 비트 누락을 막기 위해 오늘 현황을 지워 다음 조회 때 DB 에서 다시 적재
+                groupAuthStatusRepository.deleteTodayBits(groupId, today);
+                throw e;
+            }
+        });
+    }
+
+    /**
+     * 인증 취소 등으로 비트를 되돌려야 할 때 오늘 현황을 지워 다음 조회 시 다시 적재
+     */
+    public void reset(Long groupId) {
+        LocalDate today = LocalDate.now(KST);
+        afterCommit(() -> groupAuthStatusRepository.deleteTodayBits(groupId, today));
+    }
+
+    private Set<Long> findAuthedMemberIdsFromDb(List<GroupMember> groupMembers, LocalDate today) {
+        return userActivityRepository
+                .findByGroupMemberInAndActivityTypeAndActivityDate(groupMembers, ActivityType.GROUP_AUTH_COMPLETE, today)
+                .stream()
+                .map(activity -> activity.getGroupMember().getMemberId())
+                .collect(Collectors.toSet());
+    }
+
+    private void afterCommit(Runnable task) {
+        Runnable safeTask = () -> {
+            try {
+                task.run();
+            } catch (Exception e) {
+                log.warn("그룹 인증 현황 갱신 실패: {}", e.getMessage());
+            }
+        };
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    safeTask.run();
+                }
+            });
+        } else {
+            safeTask.run();
+        }
+    }
+}
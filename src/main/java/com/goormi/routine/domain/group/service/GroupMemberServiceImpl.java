@@ -31,12 +31,10 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
-import java.time.ZoneId;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
-import java.util.stream.Collectors;
 
 import static com.goormi.routine.domain.calendar.service.CalendarIntegrationService.*;
 
@@ -57,6 +55,7 @@ public class GroupMemberServiceImpl implements GroupMemberService {
 
     private final UserActivityService userActivityService;
     private final ApplicationEventPublisher applicationEventPublisher;
+    private final GroupAuthStatusService groupAuthStatusService;
 
 
     // 그룹에 멤버가 참여 신청시 펜딩으로 추가
@@ -186,13 +185,9 @@ public class GroupMemberServiceImpl implements GroupMemberService {
         Group group = groupRepository.findById(groupId)
                 .orElseThrow(()->new IllegalArgumentException("Group not found"));
         List<GroupMember> groupMembers = groupMemberRepository.findAllByGroupAndStatus(group, GroupMemberStatus.JOINED);
-        List<UserActivity> completedActivities = userActivityRepository.
-                findByGroupMemberInAndActivityTypeAndActivityDate(
-                        groupMembers, ActivityType.GROUP_AUTH_COMPLETE, LocalDate.now(ZoneId.of("Asia/Seoul")));
 
-        Set<Long> completedMemberIds = completedActivities.stream()
-                .map(activity -> activity.getGroupMember().getMemberId())
-                .collect(Collectors.toSet());
+        // 오늘의 인증 현황 비트셋에서 조회 (그 날 첫 조회만 DB 에서 적재)
+        Set<Long> completedMemberIds = groupAuthStatusService.getAuthedMemberIds(groupId, groupMembers);
 
         return groupMembers.stream()
                 .map(member -> {
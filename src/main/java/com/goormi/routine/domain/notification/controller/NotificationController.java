@@ -16,6 +16,7 @@ import org.springframework.web.bind.annotation.*;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.util.List;
+import java.util.Map;
 
 @RestController
 @RequiredArgsConstructor
@@ -37,6 +38,12 @@ public class NotificationController {
         return ResponseEntity.ok(sseEmitterService.subscribe(userId, lastEmitterId));
     }
 
+    @GetMapping("/subscribe/metrics")
+    @Operation(summary = "SSE 전송 지표 조회", description = "SSE 디스패처의 큐 적재량과 전송 지연 시간을 조회합니다.", hidden = true)
+    public ResponseEntity<Map<String, Object>> getDispatchMetrics() {
+        return ResponseEntity.ok(sseEmitterService.getDispatchMetrics());
+    }
+
     @GetMapping()
     @Operation(summary = "유저의 알림 전체 조회", description = "인증된 사용자의 전체 알림을 조회합니다.")
     @ApiResponses(value = {
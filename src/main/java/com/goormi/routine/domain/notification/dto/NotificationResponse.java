@@ -19,6 +19,7 @@ public class NotificationResponse {
     private String groupName;
 
     private boolean isRead;
+    private int aggregateCount;
     private LocalDateTime createdAt;
 
     public static NotificationResponse from(Notification notification) {
@@ -41,6 +42,7 @@ public class NotificationResponse {
                 .receiverName(notification.getReceiver().getNickname())
                 .groupName(groupName)
                 .isRead(notification.isRead())
+                .aggregateCount(notification.getAggregateCount())
                 .createdAt(notification.getCreatedAt())
                 .build();
     }
@@ -7,6 +7,7 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.ColumnDefault;
 
 import java.time.LocalDateTime;
 
@@ -44,6 +45,12 @@ public class Notification {
 
     private LocalDateTime createdAt;
 
+    // 같은 알림이 짧은 시간 안에 여러 번 발생해 하나로 합쳐진 발신자 수 (발신자 목록은 NotificationSender)
+    @Builder.Default
+    @ColumnDefault("1")
+    @Column(nullable = false)
+    private int aggregateCount = 1;
+
     public static Notification createNotification(String content, NotificationType type,
                                                   User sender, User receiver, Group group) {
         return Notification.builder()
@@ -61,6 +68,17 @@ public class Notification {
         this.isRead = isRead;
     }
 
+    /**
+     * 합쳐진 알림에 새 발신자를 반영 (중복 발신자 확인은 NotificationSender 로 호출 측에서 처리)
+     * 합치기 구간은 첫 알림 시각 기준이므로 createdAt 은 바꾸지 않음
+     */
+    public void addCoalescedSender(User sender) {
+        this.aggregateCount++;
+        this.sender = sender;
+    }
 
+    public void updateContent(String content) {
+        this.content = content;
+    }
 
 }
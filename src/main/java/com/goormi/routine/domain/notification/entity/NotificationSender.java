@@ -0,0 +1,36 @@
+package com.goormi.routine.domain.notification.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * 합쳐진 알림의 발신자 목록
+ * - 같은 발신자의 반복 요청은 인원 수에 더하지 않도록 (알림, 발신자) 쌍을 한 번만 저장
+ */
+@Entity
+@Getter
+@Builder
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Table(name = "notification_sender",
+        uniqueConstraints = @UniqueConstraint(
+                name = "uk_notification_sender",
+                columnNames = {"notification_id", "sender_id"}))
+public class NotificationSender {
+
+    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "notification_id", nullable = false)
+    private Long notificationId;
+
+    @Column(name = "sender_id", nullable = false)
+    private Long senderId;
+
+    public static NotificationSender of(Notification notification, Long senderId) {
+        return NotificationSender.builder()
+                .notificationId(notification.getId())
+                .senderId(senderId)
+                .build();
+    }
+}
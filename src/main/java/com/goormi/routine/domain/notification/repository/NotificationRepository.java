@@ -5,10 +5,14 @@ import com.goormi.routine.domain.notification.entity.NotificationType;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface NotificationRepository extends JpaRepository<Notification, Long> {
     List<Notification> findByReceiver_IdOrderByCreatedAtDesc(Long receiverId);
     List<Notification> findByReceiver_IdAndNotificationType(Long receiverId, NotificationType type);
+    Optional<Notification> findFirstByReceiver_IdAndGroup_GroupIdAndNotificationTypeAndIsReadFalseAndCreatedAtAfterOrderByCreatedAtDesc(
+            Long receiverId, Long groupId, NotificationType type, LocalDateTime createdAfter);
 }
@@ -0,0 +1,10 @@
+package com.goormi.routine.domain.notification.repository;
+
+import com.goormi.routine.domain.notification.entity.NotificationSender;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface NotificationSenderRepository extends JpaRepository<NotificationSender, Long> {
+    boolean existsByNotificationIdAndSenderId(Long notificationId, Long senderId);
+}
@@ -7,6 +7,7 @@ import java.util.Map;
 public interface SseEmitterRepository {
     SseEmitter save(String emitterId, SseEmitter sseEmitter);
     void saveEventCache(String emitterId, Object event);
+    Map<String, SseEmitter> findAllEmitters();
     Map<String, SseEmitter> findAllEmitterStartWithByMemberId(String memberId);
     Map<String, Object> findAllEventCacheStartWithByMemberId(String memberId);
     void deleteById(String id);
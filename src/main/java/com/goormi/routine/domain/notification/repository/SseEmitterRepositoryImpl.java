@@ -25,6 +25,11 @@ public class SseEmitterRepositoryImpl implements SseEmitterRepository {
         eventCache.put(emitterId, event);
     }
 
+    @Override
+    public Map<String, SseEmitter> findAllEmitters() {
+        return Map.copyOf(emitters);
+    }
+
     @Override
     public Map<String, SseEmitter> findAllEmitterStartWithByMemberId(String memberId) {
         return emitters.entrySet().stream()
@@ -0,0 +1,82 @@
+package com.goormi.routine.domain.notification.service;
+
+import com.goormi.routine.domain.notification.dto.NotificationResponse;
+import com.goormi.routine.domain.user.entity.User;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 합쳐진 알림의 SSE 전송 디바운스
+ * - 같은 알림이 연달아 갱신되면 마지막 상태만 한 번 전송
+ * - 첫 갱신 시점부터 debounce-ms 뒤에 전송하므로 몰리는 동안에도 전송 주기가 보장됨
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class NotificationPushDebouncer {
+
+    private final SseEmitterService sseEmitterService;
+
+    @Value("${notification.coalesce.push-debounce-ms:2000}")
+    private long debounceMs;
+
+    private final Map<Long, PendingPush> pendingPushes = new ConcurrentHashMap<>();
+
+    private ScheduledExecutorService pushExecutor;
+
+    @PostConstruct
+    void init() {
+        pushExecutor = Executors.newSingleThreadScheduledExecutor(new CustomizableThreadFactory("notification-push-"));
+    }
+
+    @PreDestroy
+    void shutdown() {
+        pushExecutor.shutdown();
+    }
+
+    public void push(User receiver, NotificationResponse response) {
+        if (debounceMs <= 0) {
+            sseEmitterService.sendNotification(receiver, response);
+            return;
+        }
+        Long notificationId = response.getId();
+        // 대기 중인 전송이 있으면 내용만 최신으로 바꾸고, 없을 때만 새로 예약
+        if (pendingPushes.put(notificationId, new PendingPush(receiver, response)) != null) {
+            return;
+        }
+        try {
+            pushExecutor.schedule(() -> flush(notificationId), debounceMs, TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException e) {
+            pendingPushes.remove(notificationId);
+            log.warn("알림 전송 예약 실패, 바로 전송합니다: notificationId={}", notificationId);
+            sseEmitterService.sendNotification(receiver, response);
+        }
+    }
+
+    private void flush(Long notificationId) {
+        PendingPush pending = pendingPushes.remove(notificationId);
+        if (pending == null) {
+            return;
+        }
+        try {
+            sseEmitterService.sendNotification(pending.receiver(), pending.response());
+        } catch (Exception e) {
+            log.warn("합쳐진 알림 전송 실패: notificationId={}, message={}", notificationId, e.getMessage());
+        }
+    }
+
+    private record PendingPush(User receiver, NotificationResponse response) {
+    }
+}
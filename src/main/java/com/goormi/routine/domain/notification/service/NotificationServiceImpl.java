@@ -6,29 +6,43 @@ import com.goormi.routine.domain.group.repository.GroupMemberRepository;
 import com.goormi.routine.domain.group.repository.GroupRepository;
 import com.goormi.routine.domain.notification.dto.NotificationResponse;
 import com.goormi.routine.domain.notification.entity.Notification;
+import com.goormi.routine.domain.notification.entity.NotificationSender;
 import com.goormi.routine.domain.notification.entity.NotificationType;
 import com.goormi.routine.domain.notification.repository.NotificationRepository;
+import com.goormi.routine.domain.notification.repository.NotificationSenderRepository;
 import com.goormi.routine.domain.user.entity.User;
 import com.goormi.routine.domain.user.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.EnumSet;
 import java.util.List;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
 
 @Service
 @RequiredArgsConstructor
 @Transactional
 public class NotificationServiceImpl implements NotificationService {
     private final NotificationRepository notificationRepository;
+    private final NotificationSenderRepository notificationSenderRepository;
     private final UserRepository userRepository;
     private final GroupRepository groupRepository;
     private final GroupMemberRepository groupMemberRepository;
     private final SseEmitterService sseEmitterService;
+    private final NotificationPushDebouncer notificationPushDebouncer;
+
+    // 짧은 시간에 몰리는 알림은 하나의 행으로 합쳐서 저장/전송
+    private static final Set<NotificationType> COALESCING_TYPES = EnumSet.of(NotificationType.GROUP_TODAY_AUTH_REQUEST);
+
+    @Value("${notification.coalesce.window-seconds:300}")
+    private long coalesceWindowSeconds;
 
     @Override
     public NotificationResponse createNotification(NotificationType notificationType,
@@ -64,9 +78,30 @@ public class NotificationServiceImpl implements NotificationService {
         Group group = groupRepository.findById(groupId)
                 .orElseThrow(()-> new IllegalArgumentException("Group not found"));
 
-        GroupMember groupMember = groupMemberRepository.findByGroupAndUser(group, receiver)
+        // 합치는 알림은 수신 멤버 행을 잠가 조회 후 저장 사이에 같은 알림이 중복 생성되지 않도록 함
+        boolean coalescing = COALESCING_TYPES.contains(notificationType);
+        GroupMember groupMember = (coalescing
+                ? groupMemberRepository.findByGroupAndUserForUpdate(group, receiver)
+                : groupMemberRepository.findByGroupAndUser(group, receiver))
                 .orElseThrow(() -> new IllegalArgumentException("GroupMember not found"));
 
+        if (coalescing) {
+            Optional<Notification> recent = findCoalescingNotification(notificationType, receiver, group);
+            if (recent.isPresent()) {
+                Notification notification = recent.get();
+                if (notificationSenderRepository.existsByNotificationIdAndSenderId(notification.getId(), sender.getId())) {
+                    return NotificationResponse.from(notification);
+                }
+                notificationSenderRepository.save(NotificationSender.of(notification, sender.getId()));
+                notification.addCoalescedSender(sender);
+                notification.updateContent(sender.getNickname() + "님 외 " + (notification.getAggregateCount() - 1)
+                        + "명이 " + group.getGroupName() + "의 그룹 인증을 요청했습니다.");
+                NotificationResponse response = NotificationResponse.from(notification);
+                notificationPushDebouncer.push(receiver, response);
+                return response;
+            }
+        }
+
         String content = "";
 
         if (notificationType == NotificationType.GROUP_JOIN_REQUEST) {
@@ -95,6 +130,9 @@ public class NotificationServiceImpl implements NotificationService {
                 Notification.createNotification(content, notificationType, sender, receiver, group);
       
         Notification saved = notificationRepository.save(notification);
+        if (coalescing) {
+            notificationSenderRepository.save(NotificationSender.of(saved, sender.getId()));
+        }
 
         NotificationResponse response = NotificationResponse.from(saved);
         sseEmitterService.sendNotification(receiver, response);
@@ -131,6 +169,15 @@ public class NotificationServiceImpl implements NotificationService {
         notification.updateIsRead(isRead);
     }
 
+    // 합치기 구간은 첫 알림 시각부터 window-seconds 동안
+    private Optional<Notification> findCoalescingNotification(NotificationType notificationType,
+                                                              User receiver, Group group) {
+        LocalDateTime windowStart = LocalDateTime.now().minusSeconds(coalesceWindowSeconds);
+        return notificationRepository
+                .findFirstByReceiver_IdAndGroup_GroupIdAndNotificationTypeAndIsReadFalseAndCreatedAtAfterOrderByCreatedAtDesc(
+                        receiver.getId(), group.getGroupId(), notificationType, windowStart);
+    }
+
     private String extractMonthFromContent(String content) {
         try {
             if (content.contains("년") && content.contains("월")) {
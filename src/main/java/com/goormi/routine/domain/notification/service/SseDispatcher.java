@@ -0,0 +1,261 @@
+package com.goormi.routine.domain.notification.service;
+
+import com.goormi.routine.domain.notification.repository.SseEmitterRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * SSE 전송 전용 디스패처
+ * - 요청 스레드 대신 전용 스레드에서 소켓 쓰기를 수행
+ * - Emitter 별 큐를 하나의 작업만 소비하도록 하여 전송 순서를 보장
+ * - 큐가 가득 찬 느린 클라이언트는 정책에 따라 이벤트를 버리거나 연결을 끊음
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SseDispatcher {
+
+    public enum OverflowPolicy {
+        DROP, DISCONNECT
+    }
+
+    private final SseEmitterRepository sseEmitterRepository;
+
+    @Value("${notification.sse.dispatcher.queue-capacity:100}")
+    private int queueCapacity;
+
+    @Value("${notification.sse.dispatcher.threads:4}")
+    private int threads;
+
+    @Value("${notification.sse.dispatcher.virtual-threads:false}")
+    private boolean virtualThreads;
+
+    @Value("${notification.sse.dispatcher.overflow-policy:DISCONNECT}")
+    private OverflowPolicy overflowPolicy;
+
+    private final Map<String, EmitterQueue> queues = new ConcurrentHashMap<>();
+
+    private final AtomicInteger queuedEvents = new AtomicInteger();
+    private final LongAdder dispatchedCount = new LongAdder();
+    private final LongAdder droppedCount = new LongAdder();
+    private final LongAdder disconnectedCount = new LongAdder();
+    private final LongAdder totalLatencyNanos = new LongAdder();
+    private final AtomicLong maxLatencyNanos = new AtomicLong();
+
+    private ExecutorService dispatchExecutor;
+
+    @PostConstruct
+    void init() {
+        dispatchExecutor = createExecutor();
+    }
+
+    @PreDestroy
+    void shutdown() {
+        dispatchExecutor.shutdown();
+    }
+
+    /**
+     * 구독 시 Emitter 큐를 등록 (등록된 Emitter 에만 전송)
+     */
+    public void register(String emitterId, SseEmitter emitter) {
+        queues.putIfAbsent(emitterId, new EmitterQueue(emitterId, emitter, queueCapacity));
+    }
+
+    /**
+     * 이벤트를 Emitter 큐에 적재하고, 소비 중인 작업이 없으면 새로 예약
+     * 이미 정리된 Emitter 로 늦게 도착한 이벤트는 큐를 다시 만들지 않고 버림
+     */
+    public void dispatch(String emitterId, SseEmitter.SseEventBuilder event) {
+        EmitterQueue queue = queues.get(emitterId);
+        if (queue == null) {
+            droppedCount.increment();
+            log.debug("정리된 SSE 연결로의 전송을 건너뜁니다: emitterId={}", emitterId);
+            return;
+        }
+
+        if (!queue.events.offer(new PendingEvent(event, System.nanoTime()))) {
+            handleOverflow(queue);
+            return;
+        }
+        queuedEvents.incrementAndGet();
+        schedule(queue);
+    }
+
+    /**
+     * Emitter 가 종료되었을 때 남은 큐를 정리
+     */
+    public void remove(String emitterId) {
+        EmitterQueue queue = queues.remove(emitterId);
+        if (queue != null) {
+            discard(queue);
+        }
+    }
+
+    /**
+     * 쓰기를 시작한 지 stallTimeoutMs 가 지나도 끝나지 않은 Emitter 목록 (하트비트 스케줄러가 정리)
+     */
+    public Map<String, SseEmitter> findStalled(long stallTimeoutMs) {
+        long now = System.nanoTime();
+        long stallTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(stallTimeoutMs);
+        Map<String, SseEmitter> stalled = new HashMap<>();
+        queues.values().forEach(queue -> {
+            long sendingSince = queue.sendingSince.get();
+            if (sendingSince != 0L && now - sendingSince > stallTimeoutNanos) {
+                stalled.put(queue.emitterId, queue.emitter);
+            }
+        });
+        return stalled;
+    }
+
+    public Map<String, Object> getMetrics() {
+        long dispatched = dispatchedCount.sum();
+        Map<String, Object> metrics = new LinkedHashMap<>();
+        metrics.put("executor", virtualThreads ? "virtual" : "platform");
+        metrics.put("activeEmitters", queues.size());
+        metrics.put("queueDepth", queuedEvents.get());
+        metrics.put("dispatched", dispatched);
+        metrics.put("dropped", droppedCount.sum());
+        metrics.put("disconnected", disconnectedCount.sum());
+        metrics.put("avgLatencyMs", dispatched == 0 ? 0.0 : totalLatencyNanos.sum() / (double) dispatched / 1_000_000);
+        metrics.put("maxLatencyMs", maxLatencyNanos.get() / 1_000_000.0);
+        return metrics;
+    }
+
+    private void schedule(EmitterQueue queue) {
+        if (!queue.draining.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            dispatchExecutor.execute(() -> drain(queue));
+        } catch (RejectedExecutionException e) {
+            queue.draining.set(false);
+            log.warn("SSE 디스패처가 종료되어 전송을 건너뜁니다: emitterId={}", queue.emitterId);
+        }
+    }
+
+    private void drain(EmitterQueue queue) {
+        while (true) {
+            PendingEvent pending;
+            while ((pending = queue.events.poll()) != null) {
+                queuedEvents.decrementAndGet();
+                if (!send(queue, pending)) {
+                    return;
+                }
+            }
+            queue.draining.set(false);
+            // 플래그 해제 직후 들어온 이벤트가 있으면 이어서 소비
+            if (queue.events.isEmpty() || !queue.draining.compareAndSet(false, true)) {
+                return;
+            }
+        }
+    }
+
+    private boolean send(EmitterQueue queue, PendingEvent pending) {
+        queue.sendingSince.set(System.nanoTime());
+        try {
+            queue.emitter.send(pending.event());
+            recordLatency(System.nanoTime() - pending.enqueuedAt());
+            return true;
+        } catch (Exception e) {
+            log.warn("SSE 전송 실패, 연결을 정리합니다: emitterId={}, message={}", queue.emitterId, e.getMessage());
+            sseEmitterRepository.deleteById(queue.emitterId);
+            queues.remove(queue.emitterId, queue);
+            discard(queue);
+            return false;
+        } finally {
+            queue.sendingSince.set(0L);
+        }
+    }
+
+    private void handleOverflow(EmitterQueue queue) {
+        if (overflowPolicy == OverflowPolicy.DROP) {
+            droppedCount.increment();
+            log.debug("SSE 큐 초과로 이벤트를 버립니다: emitterId={}", queue.emitterId);
+            return;
+        }
+
+        disconnectedCount.increment();
+        log.warn("SSE 큐 초과로 느린 클라이언트 연결을 끊습니다: emitterId={}", queue.emitterId);
+        sseEmitterRepository.deleteById(queue.emitterId);
+        if (queues.remove(queue.emitterId, queue)) {
+            discard(queue);
+        }
+        // 쓰기 중인 스레드가 락을 쥐고 있을 수 있으므로 종료는 디스패처 스레드에서 수행
+        try {
+            dispatchExecutor.execute(queue.emitter::complete);
+        } catch (RejectedExecutionException ignored) {
+            // 종료 중
+        }
+    }
+
+    private void discard(EmitterQueue queue) {
+        int remaining = 0;
+        while (queue.events.poll() != null) {
+            remaining++;
+        }
+        if (remaining > 0) {
+            queuedEvents.addAndGet(-remaining);
+            droppedCount.add(remaining);
+        }
+    }
+
+    private void recordLatency(long latencyNanos) {
+        dispatchedCount.increment();
+        totalLatencyNanos.add(latencyNanos);
+        maxLatencyNanos.accumulateAndGet(latencyNanos, Math::max);
+    }
+
+    // Java 21 이상에서 실행되면 가상 스레드를, 아니면 고정 크기 플랫폼 스레드 풀을 사용
+    private ExecutorService createExecutor() {
+        if (virtualThreads) {
+            try {
+                return (ExecutorService) Executors.class
+                        .getMethod("newVirtualThreadPerTaskExecutor")
+                        .invoke(null);
+            } catch (ReflectiveOperationException e) {
+                log.warn("가상 스레드를 사용할 수 없는 런타임입니다. 플랫폼 스레드 풀로 대체합니다.");
+                virtualThreads = false;
+            }
+        }
+        return Executors.newFixedThreadPool(threads, new CustomizableThreadFactory("sse-dispatch-"));
+    }
+
+    private record PendingEvent(SseEmitter.SseEventBuilder event, long enqueuedAt) {
+    }
+
+    private static final class EmitterQueue {
+        private final String emitterId;
+        private final SseEmitter emitter;
+        private final Queue<PendingEvent> events;
+        private final AtomicBoolean draining = new AtomicBoolean(false);
+        // 진행 중인 쓰기의 시작 시각 (nanoTime), 쓰기 중이 아니면 0
+        private final AtomicLong sendingSince = new AtomicLong();
+
+        private EmitterQueue(String emitterId, SseEmitter emitter, int capacity) {
+            this.emitterId = emitterId;
+            this.emitter = emitter;
+            this.events = new ArrayBlockingQueue<>(capacity);
+        }
+    }
+}
@@ -4,8 +4,11 @@ import com.goormi.routine.domain.notification.dto.NotificationResponse;
 import com.goormi.routine.domain.user.entity.User;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.util.Map;
+
 public interface SseEmitterService {
     SseEmitter subscribe(Long userId, String lastEmitterId);
     void sendToClient(Long userId, Object data);
     void sendNotification(User receiver, NotificationResponse notificationResponse);
+    Map<String, Object> getDispatchMetrics();
 }
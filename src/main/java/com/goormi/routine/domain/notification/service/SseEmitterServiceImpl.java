@@ -8,7 +8,6 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
-import java.io.IOException;
 import java.util.Map;
 
 @Slf4j
@@ -19,21 +18,24 @@ public class SseEmitterServiceImpl implements SseEmitterService {
     private static final Long DEFAULT_TIMEOUT = 60L * 1000 * 60;
 
     private final SseEmitterRepository sseEmitterRepository;
+    private final SseDispatcher sseDispatcher;
 
     @Override
     public SseEmitter subscribe(Long userId, String lastEmitterId) {
         String emitterId = makeTimeIncludeId(userId);
         SseEmitter emitter = sseEmitterRepository.save(emitterId, new SseEmitter(DEFAULT_TIMEOUT));
+        sseDispatcher.register(emitterId, emitter);
 
-        emitter.onCompletion(() -> sseEmitterRepository.deleteById(emitterId));
-        emitter.onTimeout(() -> sseEmitterRepository.deleteById(emitterId));
+        emitter.onCompletion(() -> removeEmitter(emitterId));
+        emitter.onTimeout(() -> removeEmitter(emitterId));
+        emitter.onError(throwable -> removeEmitter(emitterId));
 
         // 503 에러를 방지하고, 최초 연결 시 식별자를 보내기 위한 더미 이벤트 전송
-        sendToClient(emitter, emitterId, "EventStream Created. [userId=" + userId + "]");
+        sendToClient(emitterId, emitterId, "EventStream Created. [userId=" + userId + "]");
 
         // 클라이언트가 미수신한 Event 목록이 존재할 경우 전송하여 Event 유실을 예방
         if (hasLostData(lastEmitterId)) {
-            sendLostData(lastEmitterId, userId, emitter);
+            sendLostData(lastEmitterId, userId, emitterId);
         }
 
         return emitter;
@@ -46,7 +48,7 @@ public class SseEmitterServiceImpl implements SseEmitterService {
         emitters.forEach(
                 (emitterId, emitter) -> {
                     sseEmitterRepository.saveEventCache(emitterId, data);
-                    sendToClient(emitter, emitterId, data);
+                    sendToClient(emitterId, emitterId, data);
                 }
         );
     }
@@ -56,32 +58,39 @@ public class SseEmitterServiceImpl implements SseEmitterService {
         sendToClient(receiver.getId(), notificationResponse);
     }
 
+    @Override
+    public Map<String, Object> getDispatchMetrics() {
+        return sseDispatcher.getMetrics();
+    }
+
     private String makeTimeIncludeId(Long userId) {
         return userId + "_" + System.currentTimeMillis();
     }
 
+    private void removeEmitter(String emitterId) {
+        sseEmitterRepository.deleteById(emitterId);
+        sseDispatcher.remove(emitterId);
+    }
+
     // emitterId는 Emitter를 식별하는 고유 ID, eventId는 전송되는 이벤트의 식별자 역할을 하지만, 
     // 여기서는 emitterId를 eventId로 사용하여 클라이언트가 마지막 수신한 Emitter를 식별하도록 함
-    private void sendToClient(SseEmitter emitter, String emitterId, Object data) {
-        try {
-            emitter.send(SseEmitter.event()
-                    .id(emitterId)
-                    .name("sse")
-                    .data(data));
-        } catch (IOException exception) {
-            sseEmitterRepository.deleteById(emitterId);
-            log.error("SSE 연결 오류!", exception);
-        }
+    // 실제 소켓 쓰기는 SseDispatcher 가 Emitter 별 순서를 지키며 전용 스레드에서 수행
+    // 미수신 이벤트 재전송 시에는 캐시된 eventId 를 그대로 쓰되 현재 Emitter 의 큐로 전송
+    private void sendToClient(String emitterId, String eventId, Object data) {
+        sseDispatcher.dispatch(emitterId, SseEmitter.event()
+                .id(eventId)
+                .name("sse")
+                .data(data));
     }
 
     private boolean hasLostData(String lastEmitterId) {
         return !lastEmitterId.isEmpty();
     }
 
-    private void sendLostData(String lastEmitterId, Long userId, SseEmitter emitter) {
+    private void sendLostData(String lastEmitterId, Long userId, String emitterId) {
         Map<String, Object> events = sseEmitterRepository.findAllEventCacheStartWithByMemberId(String.valueOf(userId));
         events.entrySet().stream()
                 .filter(entry -> lastEmitterId.compareTo(entry.getKey()) < 0)
-                .forEach(entry -> sendToClient(emitter, entry.getKey(), entry.getValue()));
+                .forEach(entry -> sendToClient(emitterId, entry.getKey(), entry.getValue()));
     }
 }
@@ -0,0 +1,124 @@
+package com.goormi.routine.domain.notification.service;
+
+import com.goormi.routine.domain.notification.repository.SseEmitterRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * SSE 연결 유지용 하트비트 스케줄러
+ * - 주기적으로 모든 Emitter 에 comment 프레임을 SseDispatcher 큐로 전송 (알림과 같은 큐/초과 정책 적용)
+ * - 쓰기 실패한 Emitter 는 디스패처가 정리하고, 제한 시간 내 쓰기가 끝나지 않은(stall) Emitter 는 여기서 정리
+ * - 정리한 Emitter 의 종료(complete)는 별도 스레드에서 제한 시간 안에서만 기다림
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SseHeartbeatScheduler {
+
+    private static final String HEARTBEAT_COMMENT = "heartbeat";
+
+    private final SseEmitterRepository sseEmitterRepository;
+    private final SseDispatcher sseDispatcher;
+
+    @Value("${notification.sse.heartbeat.threads:2}")
+    private int threads;
+
+    @Value("${notification.sse.heartbeat.stall-timeout-ms:5000}")
+    private long stallTimeoutMs;
+
+    private ExecutorService completionExecutor;
+
+    @PostConstruct
+    void init() {
+        completionExecutor = Executors.newFixedThreadPool(threads, new CustomizableThreadFactory("sse-evict-"));
+    }
+
+    @PreDestroy
+    void shutdown() {
+        completionExecutor.shutdownNow();
+    }
+
+    @Scheduled(fixedDelayString = "${notification.sse.heartbeat.interval-ms:30000}",
+            initialDelayString = "${notification.sse.heartbeat.interval-ms:30000}")
+    public void sendHeartbeat() {
+        int reaped = sweep();
+        if (reaped > 0) {
+            log.info("SSE 하트비트 완료: 정리된 연결 수={}", reaped);
+        }
+    }
+
+    /**
+     * 하트비트를 1회 전송하고 정리된 Emitter 수를 반환
+     */
+    public int sweep() {
+        Map<String, SseEmitter> emitters = sseEmitterRepository.findAllEmitters();
+        if (emitters.isEmpty()) {
+            return 0;
+        }
+
+        // 이벤트 빌더는 전송 시 build 되므로 Emitter 마다 새로 만듦
+        emitters.keySet().forEach(emitterId ->
+                sseDispatcher.dispatch(emitterId, SseEmitter.event().comment(HEARTBEAT_COMMENT)));
+
+        // 쓰기가 제한 시간을 넘겨 멈춘 Emitter 는 큐가 소비되지 않으므로 직접 정리
+        Map<String, SseEmitter> stalled = sseDispatcher.findStalled(stallTimeoutMs);
+        List<Future<?>> completions = new ArrayList<>();
+        stalled.forEach((emitterId, emitter) -> evict(emitterId, emitter, completions));
+        awaitCompletions(completions);
+
+        log.debug("SSE 하트비트 전송: 전체={}, 지연={}", emitters.size(), stalled.size());
+        return stalled.size();
+    }
+
+    private void evict(String emitterId, SseEmitter emitter, List<Future<?>> completions) {
+        sseEmitterRepository.deleteById(emitterId);
+        sseDispatcher.remove(emitterId);
+        // 쓰기가 멈춘 Emitter 는 complete 호출 시 쓰기 락에 막힐 수 있으므로 별도 스레드에서 종료
+        if (emitter != null) {
+            completions.add(completionExecutor.submit(() -> {
+                try {
+                    emitter.completeWithError(new IllegalStateException("SSE heartbeat stalled"));
+                } catch (Exception ignored) {
+                    // 이미 종료된 연결
+                }
+            }));
+        }
+        log.debug("SSE 연결 정리: emitterId={}, reason=stalled", emitterId);
+    }
+
+    // 종료가 제한 시간 안에 끝나지 않으면 인터럽트 후 포기 (연결은 서블릿 컨테이너 타임아웃으로 정리됨)
+    private void awaitCompletions(List<Future<?>> completions) {
+        for (Future<?> completion : completions) {
+            try {
+                completion.get(stallTimeoutMs, TimeUnit.MILLISECONDS);
+            } catch (TimeoutException e) {
+                completion.cancel(true);
+                log.warn("SSE 연결 종료가 제한 시간 내 끝나지 않았습니다: timeoutMs={}", stallTimeoutMs);
+            } catch (CancellationException | ExecutionException e) {
+                // 종료 실패는 무시
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                completions.forEach(f -> f.cancel(true));
+                return;
+            }
+        }
+    }
+}
@@ -2,6 +2,10 @@ package com.goormi.routine.domain.personal_routines.repository;
 
 import com.goormi.routine.domain.personal_routines.domain.PersonalRoutine;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Optional;
@@ -13,4 +17,16 @@ public interface PersonalRoutineRepository extends JpaRepository<PersonalRoutine
     Optional<PersonalRoutine> findByRoutineIdAndIsDeletedFalse(Integer routineId);
 
     boolean existsByUserIdAndRoutineNameAndIsDeletedFalse(Integer userId, String routineName);
+
+    // 카카오 호출 결과만 반영 (호출 중 수정/삭제된 내용을 덮어쓰지 않음)
+    @Transactional
+    @Modifying
+    @Query("UPDATE PersonalRoutine r SET r.calendarEventId = :eventId " +
+            "WHERE r.routineId = :routineId AND r.isDeleted = false AND r.calendarEventId IS NULL")
+    int assignCalendarEventId(@Param("routineId") Integer routineId, @Param("eventId") String eventId);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE PersonalRoutine r SET r.calendarEventId = NULL WHERE r.routineId = :routineId AND r.calendarEventId = :eventId")
+    int clearCalendarEventId(@Param("routineId") Integer routineId, @Param("eventId") String eventId);
 }
@@ -11,9 +11,11 @@ import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.FetchType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -21,7 +23,12 @@ import lombok.NoArgsConstructor;
 import lombok.Setter;
 
 @Entity
-@Table(name = "rankings")
+// 사용자별 총 점수 SUM 조회용 커버링 인덱스, 점수 upsert 용 (사용자, 그룹, 월) 유니크 키
+@Table(name = "rankings", indexes = {
+	@Index(name = "idx_rankings_user_group_score", columnList = "user_id, group_id, score")
+}, uniqueConstraints = {
+	@UniqueConstraint(name = "uk_rankings_user_group_month", columnNames = {"user_id", "group_id", "month_year"})
+})
 @Getter
 @Setter
 @NoArgsConstructor
@@ -1,5 +1,9 @@
 package com.goormi.routine.domain.ranking.repository;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Repository;
@@ -14,6 +18,10 @@ public class RankingRedisRepository {
 	private final RedisRepository redisRepository;
 
 	private static final String LAST_RESET_MONTH_KEY = "ranking:last_reset_month";
+	private static final String APPLIED_ACTIVITY_PREFIX = "ranking:applied:";
+	private static final long APPLIED_ACTIVITY_EXPIRE_SECONDS = 60L * 60 * 24 * 40; // 한 달 이상 보관
+	// 반영에 실패한 점수 이벤트 (activityId -> userId:groupId:시도 횟수)
+	private static final String FAILED_EVENT_KEY = "ranking:failed_events";
 
 	public void saveLastResetMonth(String monthYear) {
 		try {
@@ -38,4 +46,55 @@ public class RankingRedisRepository {
 		String lastResetMonth = getLastResetMonth();
 		return lastResetMonth == null || !currentMonth.equals(lastResetMonth);
 	}
+
+	/**
+	 * 활동 ID 기준으로 랭킹 반영 여부를 선점, 이미 반영된 활동이면 false
+	 */
+	public boolean markActivityApplied(Long activityId) {
+		return redisRepository.saveDataIfAbsent(APPLIED_ACTIVITY_PREFIX + activityId, "1", APPLIED_ACTIVITY_EXPIRE_SECONDS);
+	}
+
+	public void clearActivityApplied(Long activityId) {
+		try {
+			redisRepository.deleteData(APPLIED_ACTIVITY_PREFIX + activityId);
+		} catch (Exception e) {
+			log.error("랭킹 반영 표시 삭제 실패: activityId = {}", activityId, e);
+		}
+	}
+
+	public void saveFailedEvent(FailedEvent event) {
+		try {
+			redisRepository.saveHash(FAILED_EVENT_KEY, Map.of(event.activityId().toString(),
+				event.userId() + ":" + event.groupId() + ":" + event.attempts() + ":" + event.activityCount()), 0);
+		} catch (Exception e) {
+			log.error("랭킹 반영 실패 이벤트 저장 실패: activityId = {}", event.activityId(), e);
+		}
+	}
+
+	public List<FailedEvent> getFailedEvents() {
+		List<FailedEvent> events = new ArrayList<>();
+		try {
+			redisRepository.getHash(FAILED_EVENT_KEY).forEach((activityId, value) -> {
+				String[] parts = value.split(":");
+				// 활동 수가 없는 이전 형식은 활동 한 건으로 처리
+				int activityCount = parts.length > 3 ? Integer.parseInt(parts[3]) : 1;
+				events.add(new FailedEvent(Long.valueOf(activityId), Long.valueOf(parts[0]),
+					Long.valueOf(parts[1]), activityCount, Integer.parseInt(parts[2])));
+			});
+		} catch (Exception e) {
+			log.error("랭킹 반영 실패 이벤트 조회 실패", e);
+		}
+		return events;
+	}
+
+	public void removeFailedEvent(Long activityId) {
+		try {
+			redisRepository.deleteHashField(FAILED_EVENT_KEY, activityId.toString());
+		} catch (Exception e) {
+			log.error("랭킹 반영 실패 이벤트 삭제 실패: activityId = {}", activityId, e);
+		}
+	}
+
+	public record FailedEvent(Long activityId, Long userId, Long groupId, int activityCount, int attempts) {
+	}
 }
@@ -9,6 +9,8 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -53,5 +55,25 @@ public interface RankingRepository extends JpaRepository<Ranking, Long> {
 	@Query("SELECT r FROM Ranking r WHERE r.groupId = :groupId AND r.userId IS NOT NULL AND r.monthYear LIKE CONCAT(:monthYear, '%') ORDER BY r.score DESC")
 	List<Ranking> findAllUsersByGroupIdAndMonthOrderByScore(@Param("groupId") Long groupId, @Param("monthYear") String monthYear);
 
+	@Query("SELECT COALESCE(SUM(r.score), 0) FROM Ranking r WHERE r.userId = :userId AND r.groupId IS NOT NULL")
+	long sumScoreByUserId(@Param("userId") Long userId);
+
+	@Query("SELECT r.userId, SUM(r.score) FROM Ranking r WHERE r.userId IN :userIds AND r.groupId IS NOT NULL GROUP BY r.userId")
+	List<Object[]> sumScoreByUserIds(@Param("userIds") Collection<Long> userIds);
+
 	Optional<Ranking> findByUserIdAndGroupIdAndMonthYear(Long userId, Long groupId, String monthYear);
+
+	// 조회 후 더해서 저장하면 동시에 반영된 점수가 사라지므로 DB 에서 한 번에 더함 (행이 없으면 생성)
+	@Transactional
+	@Modifying(flushAutomatically = true, clearAutomatically = true)
+	@Query(value = "INSERT INTO rankings (ranking_id, user_id, group_id, score, month_year, updated_at) " +
+		"VALUES (:rankingId, :userId, :groupId, :score, :monthYear, :updatedAt) " +
+		"ON DUPLICATE KEY UPDATE score = score + :score, updated_at = :updatedAt",
+		nativeQuery = true)
+	int addScore(@Param("rankingId") Long rankingId,
+		@Param("userId") Long userId,
+		@Param("groupId") Long groupId,
+		@Param("score") int score,
+		@Param("monthYear") String monthYear,
+		@Param("updatedAt") LocalDateTime updatedAt);
 }
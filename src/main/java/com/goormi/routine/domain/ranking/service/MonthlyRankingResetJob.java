@@ -0,0 +1,63 @@
+package com.goormi.routine.domain.ranking.service;
+
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.goormi.routine.common.scheduler.job.JobDefinition;
+import com.goormi.routine.common.scheduler.job.JobPartition;
+import com.goormi.routine.common.scheduler.job.JobPartitionResult;
+import com.goormi.routine.domain.group.repository.GroupRepository;
+import com.goormi.routine.domain.ranking.repository.RankingRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 월간 랭킹 초기화 작업, 그룹 ID 범위로 파티션을 나누어 점수를 다시 계산
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MonthlyRankingResetJob implements JobDefinition {
+
+	public static final String NAME = "monthly_ranking_reset";
+
+	private final RankingService rankingService;
+	private final RankingRepository rankingRepository;
+	private final GroupRepository groupRepository;
+
+	@Value("${scheduler.job.partition-size:1000}")
+	private long partitionSize;
+
+	@Override
+	public String getName() {
+		return NAME;
+	}
+
+	@Override
+	public List<JobPartition> createPartitions(String monthYear) {
+		// 이미 초기화한 달이면 다시 계산하지 않음 (중복 실행/수동 실행 대비)
+		if (!rankingService.isMonthlyResetNeeded(monthYear)) {
+			log.info("이미 초기화된 월입니다: {}", monthYear);
+			return List.of();
+		}
+		if (rankingRepository.count() == 0) {
+			log.warn("리셋할 랭킹 데이터가 없습니다.");
+			return List.of();
+		}
+		return JobPartition.ofIdRange(groupRepository.findMaxGroupId(), partitionSize);
+	}
+
+	@Override
+	public JobPartitionResult process(JobPartition partition, String monthYear) {
+		return JobPartitionResult.of(rankingService.recalculateGroupScores(partition.startId(), partition.endId(), monthYear));
+	}
+
+	@Override
+	public void onCompleted(String monthYear) {
+		rankingService.markMonthlyReset(monthYear);
+		log.info("월별 랭킹 리셋 완료 ({}로 갱신)", monthYear);
+	}
+}
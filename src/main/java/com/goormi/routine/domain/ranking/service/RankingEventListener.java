@@ -0,0 +1,142 @@
+package com.goormi.routine.domain.ranking.service;
+
+import java.time.LocalDate;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.goormi.routine.domain.ranking.repository.RankingRedisRepository;
+import com.goormi.routine.domain.ranking.repository.RankingRedisRepository.FailedEvent;
+import com.goormi.routine.domain.userActivity.entity.ActivityType;
+import com.goormi.routine.domain.userActivity.repository.DailyActivityRollupRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 활동 생성 이벤트를 받아 랭킹 점수를 비동기로 반영
+ * - 활동 트랜잭션 커밋 이후 별도 스레드에서 처리하므로 인증 승인 응답 시간에 영향을 주지 않음
+ * - 일괄 생성은 그룹별로 활동 수를 담은 이벤트 한 번으로 합산 점수를 더함 (개별 생성 여러 번과 같은 점수)
+ * - 같은 활동이 두 번 반영되지 않도록 활동 ID 기준으로 Redis 에 반영 여부를 기록
+ * - 반영에 실패한 이벤트는 Redis 에 남겨 두고 주기적으로 다시 반영 (max-attempts 회까지)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RankingEventListener {
+
+	private final RankingService rankingService;
+	private final RankingRedisRepository rankingRedisRepository;
+	private final DailyActivityRollupRepository dailyActivityRollupRepository;
+
+	@Value("${ranking.event.max-attempts:5}")
+	private int maxAttempts;
+
+	@Async
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+	public void handleGroupAuthCompleted(GroupAuthCompletedEvent event) {
+		if (!apply(event)) {
+			rankingRedisRepository.saveFailedEvent(
+				new FailedEvent(event.getActivityId(), event.getUserId(), event.getGroupId(),
+					event.getActivityCount(), 1));
+		}
+	}
+
+	/**
+	 * 반영에 실패한 이벤트 재처리
+	 * - 여러 인스턴스가 동시에 재처리해도 반영 표시(activityId)로 한 번만 반영됨
+	 */
+	@Scheduled(fixedDelayString = "${ranking.event.retry-interval-ms:60000}")
+	public void retryFailedEvents() {
+		for (FailedEvent failed : rankingRedisRepository.getFailedEvents()) {
+			GroupAuthCompletedEvent event = new GroupAuthCompletedEvent(failed.userId(), failed.groupId(),
+				failed.activityId(), failed.activityCount());
+			if (apply(event)) {
+				rankingRedisRepository.removeFailedEvent(failed.activityId());
+				log.info("랭킹 점수 재반영 완료: activityId = {}, 시도 = {}", failed.activityId(), failed.attempts() + 1);
+			} else if (failed.attempts() + 1 >= maxAttempts) {
+				rankingRedisRepository.removeFailedEvent(failed.activityId());
+				log.error("랭킹 점수 재반영 최종 실패: 사용자 ID = {}, 그룹 ID = {}, activityId = {}, 시도 = {}",
+					failed.userId(), failed.groupId(), failed.activityId(), failed.attempts() + 1);
+			} else {
+				rankingRedisRepository.saveFailedEvent(new FailedEvent(failed.activityId(), failed.userId(),
+					failed.groupId(), failed.activityCount(), failed.attempts() + 1));
+			}
+		}
+	}
+
+	/**
+	 * @return 반영했거나 이미 반영된 활동이면 true, 실패하면 false
+	 */
+	private boolean apply(GroupAuthCompletedEvent event) {
+		if (!acquire(event.getActivityId())) {
+			log.debug("이미 랭킹에 반영된 활동입니다: activityId = {}", event.getActivityId());
+			return true;
+		}
+
+		try {
+			int monthlyAuthCount = calculateMonthlyAuthCount(event.getUserId());
+			rankingService.updateRankingScore(event.getUserId(), event.getGroupId(), monthlyAuthCount,
+				event.getActivityCount());
+			return true;
+		} catch (Exception e) {
+			// 반영 표시를 지워 재처리 시 다시 반영될 수 있도록 함
+			rankingRedisRepository.clearActivityApplied(event.getActivityId());
+			log.error("랭킹 점수 반영 실패: 사용자 ID = {}, 그룹 ID = {}, activityId = {}",
+				event.getUserId(), event.getGroupId(), event.getActivityId(), e);
+			return false;
+		}
+	}
+
+	private boolean acquire(Long activityId) {
+		try {
+			return rankingRedisRepository.markActivityApplied(activityId);
+		} catch (Exception e) {
+			// Redis 장애 시에는 중복 방지보다 점수 반영을 우선
+			log.warn("랭킹 반영 여부 확인 실패, 그대로 반영합니다: activityId = {}, message = {}", activityId, e.getMessage());
+			return true;
+		}
+	}
+
+	private int calculateMonthlyAuthCount(Long userId) {
+		LocalDate startDate = LocalDate.now().withDayOfMonth(1);
+		LocalDate endDate = startDate.plusMonths(1).minusDays(1);
+
+		return (int) dailyActivityRollupRepository.sumByUserIdAndActivityType(
+			userId, ActivityType.GROUP_AUTH_COMPLETE, startDate, endDate);
+	}
+
+	/**
+	 * 이벤트 클래스
+	 * - activityId 는 반영 여부 기록 기준 (일괄 생성은 그룹의 마지막 활동 ID), activityCount 는 함께 반영할 인증 수
+	 */
+	public static class GroupAuthCompletedEvent {
+		private final Long userId;
+		private final Long groupId;
+		private final Long activityId;
+		private final int activityCount;
+
+		public GroupAuthCompletedEvent(Long userId, Long groupId, Long activityId) {
+			this(userId, groupId, activityId, 1);
+		}
+
+		public GroupAuthCompletedEvent(Long userId, Long groupId, Long activityId, int activityCount) {
+			this.userId = userId;
+			this.groupId = groupId;
+			this.activityId = activityId;
+			this.activityCount = activityCount;
+		}
+
+		public Long getUserId() { return userId; }
+
+		public Long getGroupId() { return groupId; }
+
+		public Long getActivityId() { return activityId; }
+
+		public int getActivityCount() { return activityCount; }
+	}
+}
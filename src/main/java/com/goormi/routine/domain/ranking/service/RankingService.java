@@ -18,10 +18,29 @@ public interface RankingService {
 
 	void updateRankingScore(Long userId, Long groupId, int score);
 
+	/**
+	 * 한 번에 생성된 인증 activityCount 건의 점수를 합산하여 한 번에 더함
+	 * - authCount 는 이번 생성분을 포함한 이번 달 인증 횟수, 개별 생성을 activityCount 번 반영한 것과 같은 점수
+	 */
+	void updateRankingScore(Long userId, Long groupId, int authCount, int activityCount);
+
 	void updateGroupScore(Long userId, Long groupId, int score, String monthYear);
 
 	void resetMonthlyRankings();
 
+	/**
+	 * 그룹 ID 범위 내 그룹의 멤버 점수를 다시 계산 (월간 초기화 배치 파티션 단위)
+	 * @return 점수를 갱신한 멤버 수
+	 */
+	int recalculateGroupScores(Long startGroupId, Long endGroupId, String monthYear);
+
+	void markMonthlyReset(String monthYear);
+
+	/**
+	 * 해당 월의 랭킹 초기화가 아직 끝나지 않았으면 true
+	 */
+	boolean isMonthlyResetNeeded(String monthYear);
+
 	long getTotalScoreByUser(Long userId);
 
 	void initializeRanking(Long userId, Long groupId);
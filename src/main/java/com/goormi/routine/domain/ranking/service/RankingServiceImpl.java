@@ -32,6 +32,7 @@ import com.goormi.routine.domain.user.entity.User;
 import com.goormi.routine.domain.user.repository.UserRepository;
 import com.goormi.routine.domain.userActivity.entity.ActivityType;
 import com.goormi.routine.domain.userActivity.entity.UserActivity;
+import com.goormi.routine.domain.userActivity.repository.DailyActivityRollupRepository;
 import com.goormi.routine.domain.userActivity.repository.UserActivityRepository;
 
 import lombok.Getter;
@@ -50,6 +51,7 @@ public class RankingServiceImpl implements RankingService {
 	private final GroupMemberRepository groupMemberRepository;
 	private final RankingRedisRepository rankingRedisRepository;
 	private final UserActivityRepository userActivityRepository;
+	private final DailyActivityRollupRepository dailyActivityRollupRepository;
 
 	private String getCurrentMonthYear() {
 		return LocalDate.now().format(DateTimeFormatter.ofPattern("yyyy-MM"));
@@ -114,8 +116,8 @@ public class RankingServiceImpl implements RankingService {
 
 			if (scoreData.getGroup() != null) {
 				int memberCount = groupMemberRepository.countMembersByGroupId(group.getGroupId());
-				int activeMembers = groupMemberRepository.countActiveByGroupId(group.getGroupId(), currentMonthYear);
-				int totalAuthCount = groupMemberRepository.countAuthByGroupId(group.getGroupId(), currentMonthYear);
+				int activeMembers = dailyActivityRollupRepository.countActiveByGroupId(group.getGroupId(), currentMonthYear);
+				int totalAuthCount = dailyActivityRollupRepository.countAuthByGroupId(group.getGroupId(), currentMonthYear);
 
 				double participationRate = memberCount > 0 ? (double)activeMembers / memberCount : 0.0;
 				double averageAuthPerMember = memberCount > 0 ? (double)totalAuthCount / memberCount : 0.0;
@@ -240,6 +242,12 @@ public class RankingServiceImpl implements RankingService {
 	@Override
 	@Transactional
 	public void updateRankingScore(Long userId, Long groupId, int authCount) {
+		updateRankingScore(userId, groupId, authCount, 1);
+	}
+
+	@Override
+	@Transactional
+	public void updateRankingScore(Long userId, Long groupId, int authCount, int activityCount) {
 		String currentMonthYear = getCurrentMonthYear();
 
 		if (userId == null) {
@@ -251,11 +259,18 @@ public class RankingServiceImpl implements RankingService {
 		if (authCount < 0) {
 			throw new IllegalArgumentException("인증 횟수는 0 이상이어야 합니다.");
 		}
+		if (activityCount < 1) {
+			throw new IllegalArgumentException("활동 수는 1 이상이어야 합니다.");
+		}
 
-		int baseScore = authCount * 10;
 		int consecutiveDays = calculateConsecutiveDays(userId);
 		double consecutiveBonus = calculateConsecutiveBonus(consecutiveDays);
-		int finalScore = baseScore + (int)consecutiveBonus;
+
+		// 개별 생성이었다면 k 번째 활동은 인증 횟수 (authCount - activityCount + k) 로 반영되었으므로 그 합을 더함
+		int finalScore = 0;
+		for (int k = authCount - activityCount + 1; k <= authCount; k++) {
+			finalScore += Math.max(k, 0) * 10 + (int)consecutiveBonus;
+		}
 
 		updateGroupScore(userId, groupId, finalScore, currentMonthYear);
 	}
@@ -264,31 +279,12 @@ public class RankingServiceImpl implements RankingService {
 	@Transactional
 	public void updateGroupScore(Long userId, Long groupId, int finalScore, String monthYear) {
 		String currentMonthYear = getCurrentMonthYear();
-		Optional<Ranking> existingRanking = rankingRepository.findByUserIdAndGroupIdAndMonthYear(userId, groupId, currentMonthYear);
-
-		if (existingRanking.isPresent()) {
-			Ranking ranking = existingRanking.get();
-			ranking.setScore(ranking.getScore() + finalScore);
-			ranking.setUpdatedAt(LocalDateTime.now());
-			rankingRepository.save(ranking);
-			log.info("그룹 점수 업데이트: 사용자 ID = {}, 그룹 ID = {}, 기본 점수 = {}, 총 점수 = {}",
-				userId, groupId, finalScore, ranking.getScore());
-		} else {
-			Long rankingId = Math.abs(UUID.randomUUID().getMostSignificantBits());
-
-			Ranking newRanking = Ranking.builder()
-				.rankingId(rankingId)
-				.userId(userId)
-				.groupId(groupId)
-				.score(finalScore)
-				.monthYear(currentMonthYear)
-				.updatedAt(LocalDateTime.now())
-				.build();
+		Long rankingId = Math.abs(UUID.randomUUID().getMostSignificantBits());
 
-			rankingRepository.save(newRanking);
-			log.info("새로운 랭킹 생성: 사용자 ID = {}, 그룹 ID = {}, 초기 점수 = {}, 월 = {}",
-				userId, groupId, finalScore, currentMonthYear);
-		}
+		// 없으면 생성, 있으면 기존 점수에 더함 (동시에 반영돼도 점수가 유실되지 않음)
+		rankingRepository.addScore(rankingId, userId, groupId, finalScore, currentMonthYear, LocalDateTime.now());
+		log.info("그룹 점수 업데이트: 사용자 ID = {}, 그룹 ID = {}, 추가 점수 = {}, 월 = {}",
+			userId, groupId, finalScore, currentMonthYear);
 	}
 
 	@Override
@@ -301,25 +297,41 @@ public class RankingServiceImpl implements RankingService {
 			return;
 		}
 
-		rankingRedisRepository.saveLastResetMonth(currentMonthYear);
-		recalculateAllGroupScores(currentMonthYear);
+		markMonthlyReset(currentMonthYear);
+		recalculateGroupScores(groupRepository.findAll(), currentMonthYear);
 
 		log.info("월별 랭킹 리셋 완료 ({}로 갱신)", currentMonthYear);
 
 	}
 
+	@Override
 	@Transactional
-	private void recalculateAllGroupScores(String monthYear) {
-		List<Group> allGroups = groupRepository.findAll();
+	public int recalculateGroupScores(Long startGroupId, Long endGroupId, String monthYear) {
+		List<Group> groups = groupRepository.findAllByGroupIdBetween(startGroupId, endGroupId);
+		return recalculateGroupScores(groups, monthYear);
+	}
 
-		for (Group group : allGroups) {
+	@Override
+	public void markMonthlyReset(String monthYear) {
+		rankingRedisRepository.saveLastResetMonth(monthYear);
+	}
+
+	@Override
+	public boolean isMonthlyResetNeeded(String monthYear) {
+		return rankingRedisRepository.isResetNeeded(monthYear);
+	}
+
+	private int recalculateGroupScores(List<Group> groups, String monthYear) {
+		int updatedCount = 0;
+		for (Group group : groups) {
 			List<GroupMember> members = groupMemberRepository.findAllByGroupId(group.getGroupId());
 			for (GroupMember member : members) {
 				int authCount = calculateGroupAuthCount(member.getUser().getId(), group.getGroupId(), monthYear);
 				updateRankingScore(member.getUser().getId(), group.getGroupId(), authCount);
+				updatedCount++;
 			}
 		}
-
+		return updatedCount;
 	}
 
 	@Override
@@ -328,10 +340,8 @@ public class RankingServiceImpl implements RankingService {
 			throw new IllegalArgumentException("사용자 ID는 필수입니다.");
 		}
 
-		return rankingRepository.findAll().stream()
-			.filter(ranking -> userId.equals(ranking.getUserId()) && ranking.getGroupId() != null)
-			.mapToInt(Ranking::getScore)
-			.sum();}
+		return rankingRepository.sumScoreByUserId(userId);
+	}
 
 	@Override
 	@Transactional
@@ -440,12 +450,12 @@ public class RankingServiceImpl implements RankingService {
 			LocalDate startDate = LocalDate.parse(monthYear + "-01");
 			LocalDate endDate = startDate.plusMonths(1).minusDays(1);
 
-			return (int) userActivityRepository
-				.countByUserIdAndActivityTypeAndCreatedAtBetween(
+			return (int) dailyActivityRollupRepository
+				.sumByUserIdAndActivityType(
 					userId,
 					ActivityType.GROUP_AUTH_COMPLETE,
-					startDate.atStartOfDay(),
-					endDate.atTime(23, 59, 59)
+					startDate,
+					endDate
 				);
 		} catch (Exception e) {
 			log.warn("그룹 인증 횟수 계산 실패: 사용자 ID = {}, 그룹 ID = {}", userId, groupId, e);
@@ -484,7 +494,7 @@ public class RankingServiceImpl implements RankingService {
 	private int calculateSimpleParticipationBonus(Long groupId, String monthYear) {
 		try {
 			int memberCount = groupMemberRepository.countMembersByGroupId(groupId);
-			int activeMembers = groupMemberRepository.countActiveByGroupId(groupId, monthYear);
+			int activeMembers = dailyActivityRollupRepository.countActiveByGroupId(groupId, monthYear);
 
 			if (memberCount == 0) {
 				log.debug("그룹 {} 멤버 수가 0명이므로 보너스 0점", groupId);
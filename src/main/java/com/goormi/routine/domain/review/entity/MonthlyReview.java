@@ -0,0 +1,53 @@
+package com.goormi.routine.domain.review.entity;
+
+import java.time.LocalDateTime;
+
+import org.hibernate.annotations.CreationTimestamp;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Lob;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 마감된 달의 월간 회고 (월 마감 시 한 번 저장, Redis 캐시 만료 후 원본으로 사용)
+ */
+@Entity
+@Table(name = "monthly_review", uniqueConstraints = {
+	@UniqueConstraint(name = "uk_monthly_review_user_month", columnNames = {"user_id", "month_year"})
+})
+@Getter
+@Builder
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+public class MonthlyReview {
+
+	@Id
+	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	@Column(name = "monthly_review_id")
+	private Long id;
+
+	@Column(name = "user_id", nullable = false)
+	private Long userId;
+
+	@Column(name = "month_year", nullable = false, length = 7)
+	private String monthYear;
+
+	// MonthlyReviewResponse JSON
+	@Lob
+	@Column(name = "review_data", nullable = false)
+	private String reviewData;
+
+	@CreationTimestamp
+	@Column(name = "created_at", nullable = false, updatable = false)
+	private LocalDateTime createdAt;
+}
@@ -0,0 +1,40 @@
+package com.goormi.routine.domain.review.repository;
+
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.goormi.routine.domain.review.entity.MonthlyReview;
+
+@Repository
+public interface MonthlyReviewRepository extends JpaRepository<MonthlyReview, Long> {
+
+	Optional<MonthlyReview> findByUserIdAndMonthYear(Long userId, String monthYear);
+
+	// 배치 전송본 저장, 월 마감 전에 조회로 먼저 저장된 회고(메시지 없음)가 있으면 덮어씀
+	@Transactional
+	@Modifying(flushAutomatically = true, clearAutomatically = true)
+	@Query(value = """
+		INSERT INTO monthly_review (user_id, month_year, review_data, created_at)
+		VALUES (:userId, :monthYear, :reviewData, CURRENT_TIMESTAMP)
+		ON DUPLICATE KEY UPDATE review_data = :reviewData
+		""", nativeQuery = true)
+	int upsertReviewData(@Param("userId") Long userId, @Param("monthYear") String monthYear,
+		@Param("reviewData") String reviewData);
+
+	// 조회 시 계산한 회고 저장, 이미 저장된 회고(배치 전송본 등)는 유지
+	@Transactional
+	@Modifying(flushAutomatically = true, clearAutomatically = true)
+	@Query(value = """
+		INSERT INTO monthly_review (user_id, month_year, review_data, created_at)
+		VALUES (:userId, :monthYear, :reviewData, CURRENT_TIMESTAMP)
+		ON DUPLICATE KEY UPDATE user_id = user_id
+		""", nativeQuery = true)
+	int insertReviewDataIfAbsent(@Param("userId") Long userId, @Param("monthYear") String monthYear,
+		@Param("reviewData") String reviewData);
+}
@@ -7,7 +7,10 @@ import org.springframework.stereotype.Repository;
 import com.goormi.routine.domain.auth.repository.RedisRepository;
 
 import java.time.LocalDateTime;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.stream.Collectors;
 
 @Repository
@@ -17,9 +20,13 @@ public class ReviewRedisRepository {
 
 	private final RedisRepository redisRepository;
 
+	// 레거시 실패 키 이전은 프로세스당 한 번만 (성공했을 때만 완료 표시, 실패하면 다음 조회에서 다시 시도)
+	private final AtomicBoolean legacyFailedKeysMigrated = new AtomicBoolean(false);
+
 	private static final String REVIEW_DATA_PREFIX = "review:data:";
 	private static final String FAILED_REVIEW_PREFIX = "failed_review:";
-	private static final int REVIEW_DATA_EXPIRE_DAYS = 90;
+	// 마감된 달의 회고는 DB(monthly_review)에 보관하므로 Redis 는 최근 조회된 회고만 유지 (조회 시 만료 연장)
+	private static final int REVIEW_DATA_EXPIRE_DAYS = 30;
 	private static final int FAILED_DATA_EXPIRE_DAYS = 7;
 
 	public void saveReviewData(String userId, String monthYear, String jsonData) {
@@ -33,6 +40,36 @@ public class ReviewRedisRepository {
 		}
 	}
 
+	/**
+	 * 여러 사용자의 회고 데이터를 파이프라인으로 한 번에 저장 (userId -> JSON)
+	 */
+	public void saveReviewDataBatch(Map<Long, String> jsonDataByUserId, String monthYear) {
+		try {
+			List<RedisRepository.Entry> entries = jsonDataByUserId.entrySet().stream()
+				.map(entry -> new RedisRepository.Entry(REVIEW_DATA_PREFIX + entry.getKey() + ":" + monthYear,
+					entry.getValue(), REVIEW_DATA_EXPIRE_DAYS * 24 * 60 * 60))
+				.toList();
+			redisRepository.saveDataBatch(entries);
+			log.debug("회고 데이터 일괄 저장: {}건, 월 = {}", entries.size(), monthYear);
+		} catch (Exception e) {
+			log.error("회고 데이터 일괄 저장 실패: 월 = {}", monthYear, e);
+			throw new RuntimeException("회고 데이터 저장 실패", e);
+		}
+	}
+
+	/**
+	 * 회고 데이터 조회, 캐시 적중 시 만료 시간을 다시 연장
+	 */
+	public String getReviewDataAndRefresh(String userId, String monthYear) {
+		try {
+			String key = REVIEW_DATA_PREFIX + userId + ":" + monthYear;
+			return redisRepository.getDataAndExpire(key, REVIEW_DATA_EXPIRE_DAYS * 24 * 60 * 60);
+		} catch (Exception e) {
+			log.error("회고 데이터 조회 실패: 사용자 ID = {}, 월 = {}", userId, monthYear, e);
+			return null;
+		}
+	}
+
 	public String getReviewData(String userId, String monthYear) {
 		try {
 			String key = REVIEW_DATA_PREFIX + userId + ":" + monthYear;
@@ -43,11 +80,34 @@ public class ReviewRedisRepository {
 		}
 	}
 
+	/**
+	 * 여러 사용자의 회고 데이터를 한 번에 조회 (데이터가 없는 사용자는 결과에서 제외)
+	 */
+	public Map<Long, String> getReviewDataBatch(List<Long> userIds, String monthYear) {
+		try {
+			List<String> keys = userIds.stream()
+				.map(userId -> REVIEW_DATA_PREFIX + userId + ":" + monthYear)
+				.toList();
+			List<String> values = redisRepository.getDataList(keys);
+
+			Map<Long, String> result = new HashMap<>();
+			for (int i = 0; i < userIds.size() && i < values.size(); i++) {
+				if (values.get(i) != null) {
+					result.put(userIds.get(i), values.get(i));
+				}
+			}
+			return result;
+		} catch (Exception e) {
+			log.error("회고 데이터 일괄 조회 실패: 월 = {}", monthYear, e);
+			return Map.of();
+		}
+	}
+
 	public void saveFailedMessage(Long userId, String monthYear, String errorMessage) {
 		try {
-			String key = FAILED_REVIEW_PREFIX + monthYear + ":" + userId;
 			String value = String.format("%s|%s", LocalDateTime.now(), errorMessage);
-			redisRepository.saveData(key, value, FAILED_DATA_EXPIRE_DAYS * 24 * 60 * 60);
+			redisRepository.saveHash(failedIndexKey(monthYear), Map.of(userId.toString(), value),
+				FAILED_DATA_EXPIRE_DAYS * 24 * 60 * 60);
 			log.debug("실패 메시지 저장: 사용자 ID = {}, 월 = {}", userId, monthYear);
 		} catch (Exception e) {
 			log.error("실패 메시지 저장 실패: 사용자 ID = {}, 월 = {}", userId, monthYear, e);
@@ -56,12 +116,9 @@ public class ReviewRedisRepository {
 
 	public List<Long> getFailedUserIds(String monthYear) {
 		try {
-			String pattern = FAILED_REVIEW_PREFIX + monthYear + ":*";
-			return redisRepository.getKeysByPattern(pattern).stream()
-				.map(key -> {
-					String[] parts = key.split(":");
-					return Long.parseLong(parts[parts.length - 1]);
-				})
+			migrateLegacyFailedKeysOnce();
+			return redisRepository.getHash(failedIndexKey(monthYear)).keySet().stream()
+				.map(Long::parseLong)
 				.collect(Collectors.toList());
 		} catch (Exception e) {
 			log.error("실패 사용자 ID 조회 실패: 월 = {}", monthYear, e);
@@ -71,8 +128,7 @@ public class ReviewRedisRepository {
 
 	public void removeFailedMessage(Long userId, String monthYear) {
 		try {
-			String key = FAILED_REVIEW_PREFIX + monthYear + ":" + userId;
-			redisRepository.deleteData(key);
+			redisRepository.deleteHashField(failedIndexKey(monthYear), userId.toString());
 			log.debug("실패 메시지 삭제: 사용자 ID = {}, 월 = {}", userId, monthYear);
 		} catch (Exception e) {
 			log.error("실패 메시지 삭제 실패: 사용자 ID = {}, 월 = {}", userId, monthYear, e);
@@ -80,10 +136,55 @@ public class ReviewRedisRepository {
 	}
 
 	public int getFailedMessageCount(String monthYear) {
-		return getFailedUserIds(monthYear).size();
+		try {
+			return (int) redisRepository.getHashSize(failedIndexKey(monthYear));
+		} catch (Exception e) {
+			log.error("실패 메시지 수 조회 실패: 월 = {}", monthYear, e);
+			return 0;
+		}
 	}
 
 	public boolean hasFailedMessages(String monthYear) {
-		return !getFailedUserIds(monthYear).isEmpty();
+		return getFailedMessageCount(monthYear) > 0;
+	}
+
+	/**
+	 * 인덱스 도입 이전에 저장된 개별 키(failed_review:{month}:{userId})를 SCAN 으로 찾아 월별 Hash 로 옮기고 삭제
+	 * - 빈 조회마다 SCAN 하지 않도록 전체 월을 한 번에 이전하고 완료 표시
+	 */
+	private void migrateLegacyFailedKeysOnce() {
+		if (legacyFailedKeysMigrated.get()) {
+			return;
+		}
+		synchronized (legacyFailedKeysMigrated) {
+			if (legacyFailedKeysMigrated.get()) {
+				return;
+			}
+			try {
+				List<String> legacyKeys = redisRepository.getKeysByPattern(FAILED_REVIEW_PREFIX + "*:*");
+				List<String> legacyValues = redisRepository.getDataList(legacyKeys);
+				Map<String, Map<String, String>> failuresByMonth = new HashMap<>();
+				for (int i = 0; i < legacyKeys.size(); i++) {
+					String[] parts = legacyKeys.get(i).substring(FAILED_REVIEW_PREFIX.length()).split(":");
+					// 이미 만료된 키는 옮기지 않음
+					if (parts.length == 2 && legacyValues.get(i) != null) {
+						failuresByMonth.computeIfAbsent(parts[0], month -> new HashMap<>())
+							.put(parts[1], legacyValues.get(i));
+					}
+				}
+				failuresByMonth.forEach((monthYear, failures) ->
+					redisRepository.saveHash(failedIndexKey(monthYear), failures, FAILED_DATA_EXPIRE_DAYS * 24 * 60 * 60));
+				redisRepository.deleteDataBatch(legacyKeys);
+				legacyFailedKeysMigrated.set(true);
+				log.info("레거시 실패 메시지 키 인덱스 이전 완료: 월 수 = {}", failuresByMonth.size());
+			} catch (Exception e) {
+				log.warn("레거시 실패 메시지 키 인덱스 이전 실패, 다음 조회에서 다시 시도합니다", e);
+			}
+		}
+	}
+
+	// 월별 실패 목록 (Hash, 사용자 ID -> "실패 시각|오류 메시지"), 상세와 목록이 같은 키라 만료 시점이 항상 같음
+	private String failedIndexKey(String monthYear) {
+		return FAILED_REVIEW_PREFIX + monthYear;
 	}
-}
\ No newline at end of file
+}
@@ -0,0 +1,44 @@
+package com.goormi.routine.domain.review.service;
+
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.goormi.routine.common.scheduler.job.JobDefinition;
+import com.goormi.routine.common.scheduler.job.JobPartition;
+import com.goormi.routine.common.scheduler.job.JobPartitionResult;
+import com.goormi.routine.domain.user.repository.UserRepository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 월간 회고 전송 작업, 사용자 ID 범위로 파티션을 나누어 전송
+ */
+@Component
+@RequiredArgsConstructor
+public class MonthlyReviewJob implements JobDefinition {
+
+	public static final String NAME = "monthly_review";
+
+	private final ReviewService reviewService;
+	private final UserRepository userRepository;
+
+	@Value("${scheduler.job.partition-size:1000}")
+	private long partitionSize;
+
+	@Override
+	public String getName() {
+		return NAME;
+	}
+
+	@Override
+	public List<JobPartition> createPartitions(String monthYear) {
+		return JobPartition.ofIdRange(userRepository.findMaxId(), partitionSize);
+	}
+
+	@Override
+	public JobPartitionResult process(JobPartition partition, String monthYear) {
+		return reviewService.sendMonthlyReviewMessages(partition.startId(), partition.endId(), monthYear);
+	}
+}
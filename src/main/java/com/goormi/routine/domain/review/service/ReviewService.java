@@ -1,10 +1,16 @@
 package com.goormi.routine.domain.review.service;
 
+import com.goormi.routine.common.scheduler.job.JobPartitionResult;
 import com.goormi.routine.domain.review.dto.MonthlyReviewResponse;
 import com.goormi.routine.domain.review.dto.UserReviewHistoryResponse;
 
 public interface ReviewService {
-	void sendMonthlyReviewMessages(String monthYear);
+	/**
+	 * 사용자 ID 범위 [fromUserId, toUserId] 에 대해 회고 전송, 실패한 사용자는 재전송 대상으로 기록
+	 * - 월 전체 전송은 MonthlyReviewJob 으로 파티션을 나누어 JobExecutor 에서 실행
+	 * @return 처리한 사용자 수와 전송에 실패한 사용자 수
+	 */
+	JobPartitionResult sendMonthlyReviewMessages(Long fromUserId, Long toUserId, String monthYear);
 	void sendUserReviewMessage(Long userId, String monthYear);
 	void retryFailedMessages(String monthYear);
 	int getFailedMessageCount(String monthYear);
@@ -2,29 +2,41 @@ package com.goormi.routine.domain.review.service;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.YearMonth;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.goormi.routine.common.scheduler.job.JobPartitionResult;
 import com.goormi.routine.domain.group.repository.GroupMemberRepository;
 import com.goormi.routine.domain.notification.entity.NotificationType;
 import com.goormi.routine.domain.notification.service.NotificationService;
-import com.goormi.routine.domain.ranking.service.RankingService;
+import com.goormi.routine.domain.ranking.repository.RankingRepository;
 import com.goormi.routine.domain.review.dto.MonthlyReviewResponse;
+import com.goormi.routine.domain.review.repository.MonthlyReviewRepository;
 import com.goormi.routine.domain.review.repository.ReviewRedisRepository;
 import com.goormi.routine.domain.user.entity.User;
 import com.goormi.routine.domain.user.repository.UserRepository;
 import com.goormi.routine.domain.userActivity.entity.ActivityType;
-import com.goormi.routine.domain.userActivity.entity.UserActivity;
+import com.goormi.routine.domain.userActivity.repository.DailyActivityRollupRepository;
 import com.goormi.routine.domain.userActivity.repository.UserActivityRepository;
-import com.goormi.routine.domain.personal_routines.domain.PersonalRoutine;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -35,41 +47,63 @@ import lombok.extern.slf4j.Slf4j;
 public class ReviewServiceImpl implements ReviewService{
 
 	private final UserRepository userRepository;
-	private final RankingService rankingService;
+	private final RankingRepository rankingRepository;
 	private final NotificationService notificationService;
 	private final GroupMemberRepository groupMemberRepository;
 	private final ReviewRedisRepository reviewRedisRepository;
 	private final UserActivityRepository userActivityRepository;
+	private final DailyActivityRollupRepository dailyActivityRollupRepository;
 	private final ObjectMapper objectMapper;
+	private final MonthlyReviewRepository monthlyReviewRepository;
 
-	@Override
-	public void sendMonthlyReviewMessages(String monthYear) {
-		String targetMonth = monthYear != null ? monthYear :
-			LocalDate.now().minusMonths(1).format(DateTimeFormatter.ofPattern("yyyy-MM"));
+	private final ConcurrentHashMap<String, CompletableFuture<MonthlyReviewResponse>> inFlightReviews =
+		new ConcurrentHashMap<>();
 
-		List<User> activeUsers = userRepository.findAll();
+	@Value("${review.batch.chunk-size:200}")
+	private int chunkSize;
 
-		int successCount = 0;
-		int failCount = 0;
+	@Override
+	public JobPartitionResult sendMonthlyReviewMessages(Long fromUserId, Long toUserId, String monthYear) {
+		long processedCount = 0;
+		long failedCount = 0;
+		Long lastId = fromUserId - 1;
+		while (true) {
+			List<Long> userIds = userRepository.findIdsBetween(lastId, toUserId, PageRequest.of(0, chunkSize));
+			if (userIds.isEmpty()) {
+				break;
+			}
+			lastId = userIds.get(userIds.size() - 1);
 
-		for (User user : activeUsers) {
-			try {
-				sendUserReviewMessage(user.getId(), targetMonth);
-				successCount++;
-			} catch (Exception e) {
-				failCount++;
-				log.error("사용자 회고 메시지 전송 실패: 사용자 ID = {}", user.getId(), e);
+			Map<Long, Exception> failures = sendReviewMessages(excludeDelivered(userIds, monthYear), monthYear);
+			failures.forEach((userId, e) -> {
+				log.error("사용자 회고 메시지 전송 실패: 사용자 ID = {}", userId, e);
 				// 실패한 사용자 정보를 Redis에 저장 (재전송용)
-				reviewRedisRepository.saveFailedMessage(user.getId(), targetMonth, e.getMessage());
-			}
+				reviewRedisRepository.saveFailedMessage(userId, monthYear, e.getMessage());
+			});
+			processedCount += userIds.size();
+			failedCount += failures.size();
 		}
+		return new JobPartitionResult(processedCount, failedCount);
+	}
 
-		log.info("월간 회고 메시지 전송 완료: 월 = {}, 성공 = {}, 실패 = {}",
-			targetMonth, successCount, failCount);
-
-		if (failCount > 0) {
-			throw new RuntimeException(String.format("일부 메시지 전송 실패: 성공 %d건, 실패 %d건", successCount, failCount));
+	/**
+	 * 이미 전송된 회고가 캐시에 있는 사용자 제외 (실패한 파티션을 다시 실행할 때 중복 알림 방지)
+	 */
+	private List<Long> excludeDelivered(List<Long> userIds, String monthYear) {
+		Set<Long> deliveredUserIds = reviewRedisRepository.getReviewDataBatch(userIds, monthYear).entrySet().stream()
+			.filter(entry -> {
+				MonthlyReviewResponse review = parseReviewData(entry.getValue());
+				return review != null && Boolean.TRUE.equals(review.getMessageSent());
+			})
+			.map(Map.Entry::getKey)
+			.collect(Collectors.toSet());
+
+		if (deliveredUserIds.isEmpty()) {
+			return userIds;
 		}
+		return userIds.stream()
+			.filter(userId -> !deliveredUserIds.contains(userId))
+			.toList();
 	}
 
 
@@ -79,22 +113,71 @@ public class ReviewServiceImpl implements ReviewService{
 			throw new IllegalArgumentException("사용자 ID는 필수입니다.");
 		}
 
-		MonthlyReviewResponse currentReview = calculateMonthlyReview(userId, monthYear);
+		deliverReview(calculateMonthlyReview(userId, monthYear));
+	}
+
+	/**
+	 * 청크 단위 회고 전송, 사용자별 실패를 반환
+	 */
+	private Map<Long, Exception> sendReviewMessages(List<Long> userIds, String monthYear) {
+		if (userIds.isEmpty()) {
+			return Map.of();
+		}
+		Map<Long, MonthlyReviewResponse> reviews = calculateMonthlyReviews(userIds, monthYear);
+
+		Map<Long, Exception> failures = new LinkedHashMap<>();
+		Map<Long, String> jsonDataByUserId = new LinkedHashMap<>();
+		for (Long userId : userIds) {
+			try {
+				MonthlyReviewResponse review = reviews.get(userId);
+				if (review == null) {
+					throw new IllegalArgumentException("사용자를 찾을 수 없습니다: " + userId);
+				}
+				review.setMessageContent(generateReviewMessage(review));
+				review.setMessageSent(true);
+				jsonDataByUserId.put(userId, objectMapper.writeValueAsString(review));
+			} catch (Exception e) {
+				failures.put(userId, e);
+			}
+		}
+
+		// 마감된 달 회고는 사용자별로 DB 에 보관하고(실패한 사용자만 제외), 캐시는 파이프라인 한 번으로 저장
+		persistClosedMonthReviews(jsonDataByUserId, monthYear).forEach((userId, e) -> {
+			failures.put(userId, e);
+			jsonDataByUserId.remove(userId);
+		});
+		try {
+			reviewRedisRepository.saveReviewDataBatch(jsonDataByUserId, monthYear);
+		} catch (Exception e) {
+			jsonDataByUserId.keySet().forEach(userId -> failures.put(userId, e));
+			return failures;
+		}
+
+		for (Long userId : jsonDataByUserId.keySet()) {
+			try {
+				notificationService.createNotification(NotificationType.MONTHLY_REVIEW, null, userId, null);
+				log.info("사용자 회고 메시지 전송 완료: 사용자 ID = {}, 월 = {}", userId, monthYear);
+			} catch (Exception e) {
+				failures.put(userId, e);
+			}
+		}
+		return failures;
+	}
 
+	private void deliverReview(MonthlyReviewResponse currentReview) {
 		String messageContent = generateReviewMessage(currentReview);
 		currentReview.setMessageContent(messageContent);
 		currentReview.setMessageSent(true);
 
-		saveReviewToRedis(currentReview);
+		saveReview(currentReview);
 
 		notificationService.createNotification(
 			NotificationType.MONTHLY_REVIEW,
 			null,
-			userId,
+			currentReview.getUserId(),
 			null);
 
-		log.info("사용자 회고 메시지 전송 완료: 사용자 ID = {}, 월 = {}", userId, monthYear);
-
+		log.info("사용자 회고 메시지 전송 완료: 사용자 ID = {}, 월 = {}", currentReview.getUserId(), currentReview.getMonthYear());
 	}
 
 
@@ -137,149 +220,239 @@ public class ReviewServiceImpl implements ReviewService{
 	}
 
 	private MonthlyReviewResponse calculateMonthlyReview(Long userId, String monthYear) {
+		MonthlyReviewResponse review;
+		try {
+			review = calculateMonthlyReviews(List.of(userId), monthYear).get(userId);
+		} catch (Exception e) {
+			log.error("월간 회고 계산 실패: 사용자 ID = {}, 월 = {}", userId, monthYear, e);
+			throw new RuntimeException("회고 계산 중 오류가 발생했습니다.", e);
+		}
+		if (review == null) {
+			throw new RuntimeException("회고 계산 중 오류가 발생했습니다.",
+				new IllegalArgumentException("사용자를 찾을 수 없습니다: " + userId));
+		}
+		return review;
+	}
+
+	/**
+	 * 여러 사용자의 월간 회고를 한 번에 계산
+	 * - 활동 타입별 횟수, 루틴별 완료 횟수, 총 점수, 참여 그룹 수를 각각 GROUP BY 쿼리 한 번으로 조회
+	 * - 지난 달 회고는 Redis 에서 한 번에 조회하고, 이후 계산은 모두 메모리에서 처리
+	 */
+	private Map<Long, MonthlyReviewResponse> calculateMonthlyReviews(List<Long> userIds, String monthYear) {
 		LocalDate startDate = LocalDate.parse(monthYear + "-01");
 		LocalDate endDate = startDate.plusMonths(1).minusDays(1);
 
-		// List<UserActivity> monthlyActivities = userActivityRepository
-		// 	.findByUserIdAndActivityDateBetween(userId, startDate, endDate);
+		Map<Long, User> users = userRepository.findAllById(userIds).stream()
+			.collect(Collectors.toMap(User::getId, Function.identity()));
 
-		long personalRoutineCountLong = userActivityRepository
-			.countByUserIdAndActivityTypeAndActivityDateBetween(
-				userId, ActivityType.PERSONAL_ROUTINE_COMPLETE, startDate, endDate);
-		int personalRoutineCount = (int)Math.min(personalRoutineCountLong, Integer.MAX_VALUE);
-
-		long groupAuthCountLong = userActivityRepository
-			.countByUserIdAndActivityTypeAndActivityDateBetween(
-				userId, ActivityType.GROUP_AUTH_COMPLETE, startDate, endDate);
-		int groupAuthCount = (int)Math.min(groupAuthCountLong, Integer.MAX_VALUE);
+		Map<Long, Map<ActivityType, Long>> countsByUser = new HashMap<>();
+		for (Object[] row : dailyActivityRollupRepository.sumByUserIdsGroupByActivityType(userIds, startDate, endDate)) {
+			countsByUser.computeIfAbsent((Long)row[0], id -> new EnumMap<>(ActivityType.class))
+				.put((ActivityType)row[1], ((Number)row[2]).longValue());
+		}
 
-		long dailyChecklistCountLong = userActivityRepository
-			.countByUserIdAndActivityTypeAndActivityDateBetween(
-				userId, ActivityType.DAILY_CHECKLIST, startDate, endDate);
-		int dailyChecklistCount = (int)Math.min(dailyChecklistCountLong, Integer.MAX_VALUE);
+		Map<Long, List<Object[]>> routineCountsByUser = userActivityRepository
+			.countRoutineCompletionsByUserIds(userIds, startDate, endDate).stream()
+			.collect(Collectors.groupingBy(row -> (Long)row[0]));
+
+		Map<Long, Long> scoresByUser = toLongMap(rankingRepository.sumScoreByUserIds(userIds));
+		Map<Long, Long> groupCountsByUser = toLongMap(groupMemberRepository.countActiveGroupsByUserIds(userIds));
+
+		String previousMonth = getPreviousMonth(monthYear);
+		Map<Long, String> previousData = previousMonth != null
+			? reviewRedisRepository.getReviewDataBatch(userIds, previousMonth)
+			: Map.of();
+
+		Map<Long, MonthlyReviewResponse> reviews = new HashMap<>();
+		users.forEach((userId, user) -> {
+			String previous = previousData.get(userId);
+			reviews.put(userId, buildMonthlyReview(
+				user,
+				monthYear,
+				countsByUser.getOrDefault(userId, Map.of()),
+				scoresByUser.getOrDefault(userId, 0L),
+				groupCountsByUser.getOrDefault(userId, 0L).intValue(),
+				calculatePersonalRoutineAchievementRate(userId, routineCountsByUser.getOrDefault(userId, List.of()), startDate, endDate),
+				previous != null ? parseReviewData(previous) : null));
+		});
+		return reviews;
+	}
 
+	private MonthlyReviewResponse buildMonthlyReview(User user, String monthYear, Map<ActivityType, Long> counts,
+		long currentScore, int currentGroups, int personalRoutineAchievementRate, MonthlyReviewResponse previousReview) {
+		int personalRoutineCount = toIntCount(counts.get(ActivityType.PERSONAL_ROUTINE_COMPLETE));
+		int groupAuthCount = toIntCount(counts.get(ActivityType.GROUP_AUTH_COMPLETE));
+		int dailyChecklistCount = toIntCount(counts.get(ActivityType.DAILY_CHECKLIST));
 		int totalAuthCount = personalRoutineCount + groupAuthCount + dailyChecklistCount;
 
-		try {
-			User user = userRepository.findById(userId)
-				.orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다: " + userId));
-
-			long currentScore = rankingService.getTotalScoreByUser(userId);
-			int currentGroups = groupMemberRepository.findActiveGroupsByUserId(userId).size();
+		int scoreDifference = 0;
+		int groupDifference = 0;
+		List<String> achievements = new ArrayList<>();
 
-			int personalRoutineAchievementRate = calculatePersonalRoutineAchievementRate(userId, monthYear);
+		if (previousReview != null) {
+			scoreDifference = (int)currentScore - previousReview.getTotalScore();
+			groupDifference = currentGroups - previousReview.getParticipatingGroups();
 
-			String previousMonth = getPreviousMonth(monthYear);
-			MonthlyReviewResponse previousReview = null;
-			if (previousMonth != null) {
-				String previousData = reviewRedisRepository.getReviewData(userId.toString(), previousMonth);
-				if (previousData != null) {
-					previousReview = parseReviewData(previousData);
-				}
+			if (scoreDifference > 0) {
+				achievements.add(String.format("지난 달보다 %d점 향상! (%d → %d)",
+					scoreDifference, previousReview.getTotalScore(), currentScore));
 			}
-
-			int scoreDifference = 0;
-			int groupDifference = 0;
-			List<String> achievements = new ArrayList<>();
-
-			if (previousReview != null) {
-				scoreDifference = (int)currentScore - previousReview.getTotalScore();
-				groupDifference = currentGroups - previousReview.getParticipatingGroups();
-
-				if (scoreDifference > 0) {
-					achievements.add(String.format("지난 달보다 %d점 향상! (%d → %d)",
-						scoreDifference, previousReview.getTotalScore(), currentScore));
-				}
-				if (groupDifference > 0) {
-					achievements.add(String.format("새로운 그룹 %d개 참여로 도전 영역 확장!", groupDifference));
-				}
-			} else {
-				achievements.add("루틴잇 첫 달 도전 완료! 🎉");
-				if (currentScore > 0) {
-					achievements.add(String.format("첫 달 %d점 달성!", currentScore));
-				}
+			if (groupDifference > 0) {
+				achievements.add(String.format("새로운 그룹 %d개 참여로 도전 영역 확장!", groupDifference));
+			}
+		} else {
+			achievements.add("루틴잇 첫 달 도전 완료! 🎉");
+			if (currentScore > 0) {
+				achievements.add(String.format("첫 달 %d점 달성!", currentScore));
 			}
+		}
 
-			return MonthlyReviewResponse.builder()
-				.userId(userId)
-				.nickname(user.getNickname())
-				.monthYear(monthYear)
-				.totalScore((int)currentScore)
-				.participatingGroups(currentGroups)
-				.personalRoutineAchievementRate(personalRoutineAchievementRate)
-				.totalAuthCount(Math.max(totalAuthCount, 0))
-				.personalRoutineCount(Math.max(personalRoutineCount, 0))
-				.groupAuthCount(Math.max(groupAuthCount, 0))
-				.dailyChecklistCount(Math.max(dailyChecklistCount, 0))
-				.achievements(achievements)
-				.scoreDifference(scoreDifference)
-				.groupDifference(groupDifference)
-				.createdAt(LocalDateTime.now())
-				.build();
+		return MonthlyReviewResponse.builder()
+			.userId(user.getId())
+			.nickname(user.getNickname())
+			.monthYear(monthYear)
+			.totalScore((int)currentScore)
+			.participatingGroups(currentGroups)
+			.personalRoutineAchievementRate(personalRoutineAchievementRate)
+			.totalAuthCount(Math.max(totalAuthCount, 0))
+			.personalRoutineCount(Math.max(personalRoutineCount, 0))
+			.groupAuthCount(Math.max(groupAuthCount, 0))
+			.dailyChecklistCount(Math.max(dailyChecklistCount, 0))
+			.achievements(achievements)
+			.scoreDifference(scoreDifference)
+			.groupDifference(groupDifference)
+			.createdAt(LocalDateTime.now())
+			.build();
+	}
 
-		} catch (Exception e) {
-			log.error("월간 회고 계산 실패: 사용자 ID = {}, 월 = {}", userId, monthYear, e);
-			throw new RuntimeException("회고 계산 중 오류가 발생했습니다.", e);
+	private int toIntCount(Long count) {
+		return count == null ? 0 : (int)Math.min(count, Integer.MAX_VALUE);
+	}
+
+	private Map<Long, Long> toLongMap(List<Object[]> rows) {
+		Map<Long, Long> result = new HashMap<>();
+		for (Object[] row : rows) {
+			result.put((Long)row[0], row[1] != null ? ((Number)row[1]).longValue() : 0L);
 		}
+		return result;
 	}
 
 	@Override
-	@Transactional(readOnly = true)
 	public MonthlyReviewResponse getMonthlyReview(Long userId, String monthYear) {
 		if (userId == null) {
 			throw new IllegalArgumentException("사용자 ID는 필수입니다.");
 		}
 
-		String reviewData = reviewRedisRepository.getReviewData(userId.toString(), monthYear);
+		String reviewData = reviewRedisRepository.getReviewDataAndRefresh(userId.toString(), monthYear);
+		if (reviewData != null) {
+			MonthlyReviewResponse cached = parseReviewData(reviewData);
+			if (cached != null) {
+				return cached;
+			}
+			log.error("회고 데이터 파싱 실패. 다시 조회합니다. 사용자 ID: {}, 월: {}", userId, monthYear);
+		}
 
-		if (reviewData == null) {
-			// Redis에 데이터가 없으면 새로 계산해서 반환 (저장하지 않음)
-			return calculateMonthlyReview(userId, monthYear);
+		return loadReviewOnce(userId, monthYear);
+	}
+
+	/**
+	 * 캐시 미스 시 같은 사용자/월에 대한 동시 조회는 한 번만 계산하고 결과를 공유
+	 */
+	private MonthlyReviewResponse loadReviewOnce(Long userId, String monthYear) {
+		String key = userId + ":" + monthYear;
+		CompletableFuture<MonthlyReviewResponse> created = new CompletableFuture<>();
+		CompletableFuture<MonthlyReviewResponse> inFlight = inFlightReviews.putIfAbsent(key, created);
+
+		if (inFlight != null) {
+			try {
+				return inFlight.join();
+			} catch (CompletionException e) {
+				if (e.getCause() instanceof RuntimeException cause) {
+					throw cause;
+				}
+				throw e;
+			}
 		}
 
 		try {
-			return parseReviewData(reviewData);
-		} catch (Exception e) {
-			log.error("회고 데이터 파싱 실패. 새로 계산합니다. 사용자 ID: {}, 월: {}", userId, monthYear, e);
-			return calculateMonthlyReview(userId, monthYear);
+			MonthlyReviewResponse review = loadReview(userId, monthYear);
+			created.complete(review);
+			return review;
+		} catch (RuntimeException e) {
+			created.completeExceptionally(e);
+			throw e;
+		} finally {
+			inFlightReviews.remove(key, created);
 		}
 	}
 
-	private int calculatePersonalRoutineAchievementRate(Long userId, String monthYear) {
+	private MonthlyReviewResponse loadReview(Long userId, String monthYear) {
+		if (!isClosedMonth(monthYear)) {
+			// 진행 중인 달은 계속 바뀌므로 저장하지 않고 계산해서 반환
+			return calculateMonthlyReview(userId, monthYear);
+		}
+
+		Optional<MonthlyReviewResponse> stored = monthlyReviewRepository.findByUserIdAndMonthYear(userId, monthYear)
+			.map(monthlyReview -> parseReviewData(monthlyReview.getReviewData()));
+		if (stored.isPresent()) {
+			reviewRedisRepository.saveReviewData(userId.toString(), monthYear, toJson(stored.get()));
+			return stored.get();
+		}
+
+		// 월 마감 배치 이전 가입자 등 저장된 회고가 없는 경우 한 번 계산해서 보관
+		MonthlyReviewResponse review = calculateMonthlyReview(userId, monthYear);
 		try {
-			LocalDate startDate = LocalDate.parse(monthYear + "-01");
-			LocalDate endDate = startDate.plusMonths(1).minusDays(1);
-
-			List<UserActivity> personalRoutineActivities = userActivityRepository
-				.findByUserIdAndActivityTypeAndActivityDateBetween(
-					userId,
-					ActivityType.PERSONAL_ROUTINE_COMPLETE,
-					startDate,
-					endDate
-				);
-
-			if (personalRoutineActivities.isEmpty()) {
-				return 0;
-			}
+			String jsonData = toJson(review);
+			monthlyReviewRepository.insertReviewDataIfAbsent(userId, monthYear, jsonData);
+			reviewRedisRepository.saveReviewData(userId.toString(), monthYear, jsonData);
+		} catch (Exception e) {
+			log.warn("회고 데이터 저장 실패: 사용자 ID = {}, 월 = {}, message = {}", userId, monthYear, e.getMessage());
+		}
+		return review;
+	}
 
-			Map<Long, List<UserActivity>> activitiesByRoutine = personalRoutineActivities.stream()
-				.filter(activity -> activity.getPersonalRoutine() != null)
-				.collect(Collectors.groupingBy(activity -> activity.getPersonalRoutine().getRoutineId().longValue()));
+	private boolean isClosedMonth(String monthYear) {
+		return YearMonth.parse(monthYear).isBefore(YearMonth.now());
+	}
 
-			if (activitiesByRoutine.isEmpty()) {
-				return 0;
+	/**
+	 * 마감된 달 회고를 사용자별 upsert 로 DB 에 저장하고, 저장에 실패한 사용자를 반환
+	 * - 사용자마다 따로 저장하므로 동시 조회로 먼저 저장된 회고가 있어도 청크 전체가 실패하지 않음
+	 * - 배치 전송본(메시지 포함)이 조회로 먼저 저장된 회고를 덮어씀
+	 */
+	private Map<Long, Exception> persistClosedMonthReviews(Map<Long, String> jsonDataByUserId, String monthYear) {
+		if (jsonDataByUserId.isEmpty() || !isClosedMonth(monthYear)) {
+			return Map.of();
+		}
+		Map<Long, Exception> failures = new LinkedHashMap<>();
+		jsonDataByUserId.forEach((userId, jsonData) -> {
+			try {
+				monthlyReviewRepository.upsertReviewData(userId, monthYear, jsonData);
+			} catch (Exception e) {
+				failures.put(userId, e);
 			}
+		});
+		return failures;
+	}
 
+	/**
+	 * 루틴별 완료 횟수(사용자 ID, 루틴 ID, 반복 요일, 횟수)로 평균 달성률 계산
+	 */
+	private int calculatePersonalRoutineAchievementRate(Long userId, List<Object[]> routineCounts,
+		LocalDate startDate, LocalDate endDate) {
+		try {
 			List<Double> achievementRates = new ArrayList<>();
 
-			for (Map.Entry<Long, List<UserActivity>> entry : activitiesByRoutine.entrySet()) {
-				List<UserActivity> activities = entry.getValue();
+			for (Object[] row : routineCounts) {
+				Integer routineId = (Integer)row[1];
+				String repeatDays = (String)row[2];
+				long completedCount = ((Number)row[3]).longValue();
 
-				PersonalRoutine routine = activities.get(0).getPersonalRoutine();
-				int targetCount = calculateMonthlyTargetCount(routine, startDate, endDate);
+				int targetCount = calculateMonthlyTargetCount(routineId, repeatDays, startDate, endDate);
 
 				if (targetCount > 0) {
-					double achievementRate = Math.min(100.0, (double) activities.size() / targetCount * 100);
+					double achievementRate = Math.min(100.0, (double) completedCount / targetCount * 100);
 					achievementRates.add(achievementRate);
 				}
 			}
@@ -293,9 +466,8 @@ public class ReviewServiceImpl implements ReviewService{
 		}
 	}
 
-	private int calculateMonthlyTargetCount(PersonalRoutine routine, LocalDate monthStart, LocalDate monthEnd) {
+	private int calculateMonthlyTargetCount(Integer routineId, String repeatDays, LocalDate monthStart, LocalDate monthEnd) {
 		try {
-			String repeatDays = routine.getRepeatDays();
 			if (repeatDays == null || repeatDays.length() != 7) {
 				return 0;
 			}
@@ -315,15 +487,24 @@ public class ReviewServiceImpl implements ReviewService{
 
 			return targetCount;
 		} catch (Exception e) {
-			log.warn("월간 목표 횟수 계산 실패: 루틴 ID = {}", routine.getRoutineId(), e);
+			log.warn("월간 목표 횟수 계산 실패: 루틴 ID = {}", routineId, e);
 			return 0;
 		}
 	}
 
-	private void saveReviewToRedis(MonthlyReviewResponse review) {
+	private void saveReview(MonthlyReviewResponse review) {
+		String jsonData = toJson(review);
+		Exception failure = persistClosedMonthReviews(Map.of(review.getUserId(), jsonData), review.getMonthYear())
+			.get(review.getUserId());
+		if (failure != null) {
+			throw new IllegalStateException("회고 데이터 저장 실패: 사용자 ID = " + review.getUserId(), failure);
+		}
+		reviewRedisRepository.saveReviewData(review.getUserId().toString(), review.getMonthYear(), jsonData);
+	}
+
+	private String toJson(MonthlyReviewResponse review) {
 		try {
-			String jsonData = objectMapper.writeValueAsString(review);
-			reviewRedisRepository.saveReviewData(review.getUserId().toString(), review.getMonthYear(), jsonData); // 변경된 부분
+			return objectMapper.writeValueAsString(review);
 		} catch (JsonProcessingException e) {
 			log.error("회고 데이터 JSON 변환 실패: 사용자 ID = {}, 월 = {}",
 				review.getUserId(), review.getMonthYear(), e);
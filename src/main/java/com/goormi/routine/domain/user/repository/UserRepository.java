@@ -1,9 +1,16 @@
 package com.goormi.routine.domain.user.repository;
 
 import com.goormi.routine.domain.user.entity.User;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -11,4 +18,18 @@ public interface UserRepository extends JpaRepository<User, Long> {
     Optional<User> findByKakaoId(String kakaoId);
     Optional<User> findByEmail(String email);
     boolean existsByNickname(String nickname);
+
+    // 배치 처리용 ID 키셋 페이징 (파티션 범위 내)
+    @Query("SELECT u.id FROM User u WHERE u.id > :lastId AND u.id <= :toId ORDER BY u.id")
+    List<Long> findIdsBetween(@Param("lastId") Long lastId, @Param("toId") Long toId, Pageable pageable);
+
+    // 배치 파티션 분할용
+    @Query("SELECT COALESCE(MAX(u.id), 0) FROM User u")
+    long findMaxId();
+
+    // 카카오 리프레시 토큰 교체 (호출한 트랜잭션과 별도로 커밋)
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    @Modifying
+    @Query("UPDATE User u SET u.kakaoRefreshToken = :refreshToken WHERE u.id = :userId")
+    int updateKakaoRefreshToken(@Param("userId") Long userId, @Param("refreshToken") String refreshToken);
 }
\ No newline at end of file
@@ -1,7 +1,9 @@
 package com.goormi.routine.domain.user.service;
 
 import com.goormi.routine.domain.auth.repository.RedisRepository;
+import com.goormi.routine.domain.auth.service.AuthenticatedPrincipalCache;
 import com.goormi.routine.domain.auth.service.JwtTokenProvider;
+import com.goormi.routine.domain.auth.service.TokenService;
 import com.goormi.routine.domain.ranking.service.RankingService;
 import com.goormi.routine.domain.user.dto.UserRequest;
 import com.goormi.routine.domain.user.dto.UserResponse;
@@ -18,6 +20,8 @@ public class UserServiceImpl implements UserService {
 	private final RedisRepository redisRepository;
 	private final JwtTokenProvider jwtTokenProvider;
 	private final RankingService rankingService;
+	private final AuthenticatedPrincipalCache authenticatedPrincipalCache;
+	private final TokenService tokenService;
 
 	@Override
 	public UserResponse getMyProfile(Long userId) {
@@ -51,9 +55,10 @@ public class UserServiceImpl implements UserService {
 		user.setActive(false);
 
 		userRepository.save(user);
+		authenticatedPrincipalCache.evict(userId);
 
 		long expiration = jwtTokenProvider.getRemainingExpiration(accessToken);
-		redisRepository.saveBlackList(accessToken, expiration);
+		tokenService.addToBlacklist(accessToken, expiration);
 
 		redisRepository.deleteRefreshToken(String.valueOf(userId));
 	}
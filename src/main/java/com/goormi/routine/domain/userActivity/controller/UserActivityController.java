@@ -1,6 +1,9 @@
 package com.goormi.routine.domain.userActivity.controller;
 
+import com.goormi.routine.domain.userActivity.dto.ActivityGalleryResponse;
 import com.goormi.routine.domain.userActivity.dto.MonthlyAttendanceDashboardResponse;
+import com.goormi.routine.domain.userActivity.dto.UserActivityBulkRequest;
+import com.goormi.routine.domain.userActivity.dto.UserActivityBulkResponse;
 import com.goormi.routine.domain.userActivity.dto.UserActivityRequest;
 import com.goormi.routine.domain.userActivity.dto.UserActivityResponse;
 import com.goormi.routine.domain.userActivity.service.UserActivityService;
@@ -55,6 +58,23 @@ public class UserActivityController {
         return ResponseEntity.ok(activities);
     }
 
+    @Operation(summary = "유저의 인증 사진 갤러리 조회 (커서 페이지네이션)",
+            description = "최신순으로 size 만큼 조회합니다. 다음 페이지는 응답의 nextCursor 를 cursor 로 전달합니다. 타유저는 isPublic이 true인 경우만 조회가능")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "갤러리 조회 성공"),
+            @ApiResponse(responseCode = "401", description = "인증되지 않은 사용자")
+    })
+    @GetMapping("/gallery")
+    public ResponseEntity<ActivityGalleryResponse> getUserGallery(
+            @AuthenticationPrincipal Long userId,
+            @RequestParam(required = false) Long targetUserId,
+            @RequestParam(required = false) Long cursor,
+            @RequestParam(defaultValue = "20") int size) {
+
+        Long id = targetUserId != null ? targetUserId : userId;
+        return ResponseEntity.ok(userActivityService.getActivityGallery(userId, id, cursor, size));
+    }
+
 
 
     @Operation(summary = "새로운 사용자 활동 생성", description = "인증된 사용자의 활동을 생성합니다.")
@@ -69,6 +89,19 @@ public class UserActivityController {
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
 
+    @Operation(summary = "사용자 활동 일괄 생성", description = "오프라인에서 쌓인 활동을 한 번에 생성합니다. 하나라도 유효하지 않으면 전체가 생성되지 않습니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "201", description = "활동 일괄 생성 성공"),
+            @ApiResponse(responseCode = "400", description = "유효하지 않은 활동 포함"),
+            @ApiResponse(responseCode = "401", description = "인증되지 않은 사용자")
+    })
+    @PostMapping("/bulk")
+    public ResponseEntity<UserActivityBulkResponse> createActivities(@AuthenticationPrincipal Long userId,
+                                                                     @RequestBody @Valid UserActivityBulkRequest request) {
+        UserActivityBulkResponse response = userActivityService.createBulk(userId, request.getActivities());
+        return ResponseEntity.status(HttpStatus.CREATED).body(response);
+    }
+
     @Operation(summary = "사용자 활동 수정", description = "특정 활동의 타입을 변경합니다.")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "활동 수정 성공"),
@@ -0,0 +1,24 @@
+package com.goormi.routine.domain.userActivity.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDate;
+
+// 엔티티를 로딩하지 않도록 JPQL 생성자 프로젝션으로 바로 조회
+@Getter
+@AllArgsConstructor
+public class ActivityGalleryItem {
+    @Schema(description = "활동 ID (다음 페이지 커서로 사용)")
+    private Long userActivityId;
+
+    @Schema(description = "인증 사진 URL")
+    private String thumbnailUrl;
+
+    @Schema(description = "활동 일자")
+    private LocalDate activityDate;
+
+    @Schema(description = "공개 여부")
+    private Boolean isPublic;
+}
@@ -0,0 +1,21 @@
+package com.goormi.routine.domain.userActivity.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@Builder
+public class ActivityGalleryResponse {
+
+    @Schema(description = "인증 사진 목록 (최신순)")
+    private List<ActivityGalleryItem> items;
+
+    @Schema(description = "다음 페이지 요청 시 전달할 커서 (마지막 페이지면 null)")
+    private Long nextCursor;
+
+    @Schema(description = "다음 페이지 존재 여부")
+    private boolean hasNext;
+}
@@ -0,0 +1,22 @@
+package com.goormi.routine.domain.userActivity.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserActivityBulkRequest {
+    @NotEmpty
+    @Size(max = 100)
+    @Schema(description = "생성할 활동 목록 (최대 100건)")
+    private List<UserActivityRequest> activities;
+}
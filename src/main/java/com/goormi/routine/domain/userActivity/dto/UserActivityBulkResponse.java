@@ -0,0 +1,17 @@
+package com.goormi.routine.domain.userActivity.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@Builder
+public class UserActivityBulkResponse {
+    @Schema(description = "생성된 활동 수")
+    private int createdCount;
+
+    @Schema(description = "생성된 활동 ID 목록 (요청 순서와 동일)")
+    private List<Long> userActivityIds;
+}
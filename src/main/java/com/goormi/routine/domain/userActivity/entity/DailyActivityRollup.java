@@ -0,0 +1,49 @@
+package com.goormi.routine.domain.userActivity.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDate;
+
+/**
+ * 사용자/그룹/일자/활동 타입별 활동 수 집계
+ * - 그룹과 무관한 활동(개인 루틴, 체크리스트)은 groupId = 0 으로 저장
+ */
+@Entity
+@Getter
+@Builder
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Table(name = "daily_activity_rollup",
+        uniqueConstraints = @UniqueConstraint(
+                name = "uk_daily_activity_rollup",
+                columnNames = {"user_id", "group_id", "activity_date", "activity_type"}),
+        indexes = {
+                @Index(name = "idx_daily_activity_rollup_group",
+                        columnList = "group_id, activity_type, activity_date"),
+                // 일자 단위 재집계가 해당 일자 행만 잠그도록 사용
+                @Index(name = "idx_daily_activity_rollup_date", columnList = "activity_date")
+        })
+public class DailyActivityRollup {
+
+    public static final Long NO_GROUP = 0L;
+
+    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "group_id", nullable = false)
+    private Long groupId;
+
+    @Column(name = "activity_date", nullable = false)
+    private LocalDate activityDate;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "activity_type", nullable = false)
+    private ActivityType activityType;
+
+    @Column(name = "activity_count", nullable = false)
+    private long activityCount;
+}
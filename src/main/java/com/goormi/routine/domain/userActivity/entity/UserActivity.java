@@ -15,6 +15,10 @@ import java.time.ZoneId;
 @Builder
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
+@Table(indexes = {
+        @Index(name = "idx_user_activity_gallery", columnList = "user_id, activity_type, id"),
+        @Index(name = "idx_user_activity_public_gallery", columnList = "user_id, activity_type, is_public, id")
+})
 public class UserActivity {
 
     @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -0,0 +1,201 @@
+package com.goormi.routine.domain.userActivity.repository;
+
+import com.goormi.routine.domain.userActivity.entity.ActivityType;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.RedisStringCommands;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.stereotype.Repository;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * 사용자 출석 비트맵 인덱스
+ * - 키: attendance:{userId}:{activityType}, 비트 오프셋: 1970-01-01 기준 일수(epoch day)
+ * - 조회 결과는 조회 시작일을 0번 비트로 하는 BitSet 으로 변환하여 반환
+ * - attendance:{userId}:version : 비트를 바꿀 때마다 증가, 재구성 중에 반영된 변경을 덮어쓰지 않도록 비교하는 데 사용
+ */
+@Slf4j
+@Repository
+@RequiredArgsConstructor
+public class AttendanceBitmapRepository {
+
+    private static final String ATTENDANCE_PREFIX = "attendance:";
+    private static final String INDEXED_SUFFIX = ":indexed";
+    private static final String VERSION_SUFFIX = ":version";
+    private static final String REBUILD_LOCK_SUFFIX = ":rebuilding";
+    private static final Duration REBUILD_LOCK_TTL = Duration.ofSeconds(30);
+    private static final Duration REBUILD_TEMP_TTL = Duration.ofMinutes(1);
+
+    // 비트 변경과 버전 증가를 한 번에 처리 (KEYS[1] 비트맵, KEYS[2] 버전, ARGV[1] 오프셋, ARGV[2] 1/0)
+    private static final RedisScript<Long> SET_ATTENDANCE_SCRIPT = new DefaultRedisScript<>(
+            "redis.call('SETBIT', KEYS[1], ARGV[1], ARGV[2]) " +
+            "return redis.call('INCR', KEYS[2])", Long.class);
+
+    // 재구성 시작 시점의 버전과 같을 때만 임시 키를 실제 키로 바꾸고 인덱스 표시, 다르면 임시 키만 지움
+    // KEYS[1] 버전, KEYS[2] 인덱스 표시, KEYS[3..] (실제 키, 임시 키) 쌍, ARGV[1] 시작 시점 버전 (없으면 빈 문자열)
+    private static final RedisScript<Long> COMMIT_REBUILD_SCRIPT = new DefaultRedisScript<>(
+            "local current = redis.call('GET', KEYS[1]) or '' " +
+            "if current ~= ARGV[1] then " +
+            "  for i = 3, #KEYS, 2 do redis.call('DEL', KEYS[i + 1]) end " +
+            "  return 0 " +
+            "end " +
+            "for i = 3, #KEYS, 2 do " +
+            "  if redis.call('EXISTS', KEYS[i + 1]) == 1 then " +
+            "    redis.call('RENAME', KEYS[i + 1], KEYS[i]) " +
+            "    redis.call('PERSIST', KEYS[i]) " +
+            "  else " +
+            "    redis.call('DEL', KEYS[i]) " +
+            "  end " +
+            "end " +
+            "redis.call('SET', KEYS[2], '1') " +
+            "return 1", Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+
+    public boolean isIndexed(Long userId) {
+        return Boolean.TRUE.equals(redisTemplate.hasKey(indexedKey(userId)));
+    }
+
+    public void invalidate(Long userId) {
+        redisTemplate.delete(indexedKey(userId));
+    }
+
+    public void setAttendance(Long userId, ActivityType activityType, LocalDate date, boolean attended) {
+        if (date == null || date.toEpochDay() < 0) {
+            return;
+        }
+        redisTemplate.execute(SET_ATTENDANCE_SCRIPT, List.of(key(userId, activityType), versionKey(userId)),
+                String.valueOf(date.toEpochDay()), attended ? "1" : "0");
+    }
+
+    /**
+     * 현재 비트맵 버전, 변경된 적이 없으면 빈 문자열
+     */
+    public String getVersion(Long userId) {
+        String version = redisTemplate.opsForValue().get(versionKey(userId));
+        return version != null ? version : "";
+    }
+
+    /**
+     * 같은 사용자의 재구성이 동시에 여러 번 실행되지 않도록 잠금 (여러 인스턴스 공통)
+     */
+    public boolean tryLockRebuild(Long userId) {
+        return Boolean.TRUE.equals(redisTemplate.opsForValue()
+                .setIfAbsent(rebuildLockKey(userId), "1", REBUILD_LOCK_TTL));
+    }
+
+    public void unlockRebuild(Long userId) {
+        redisTemplate.delete(rebuildLockKey(userId));
+    }
+
+    /**
+     * DB 에서 읽은 (활동 타입, 날짜) 목록으로 인덱스를 다시 만듦
+     * - 임시 키에 채운 뒤 버전이 expectedVersion 그대로일 때만 실제 키로 교체하고 인덱스 표시
+     * - DB 를 읽은 뒤 커밋된 활동이 비트를 바꿨다면 버전이 달라지므로 교체하지 않음 (그 비트를 지우지 않도록)
+     * @return 교체했으면 true, 도중에 변경이 있어 포기했으면 false
+     */
+    public boolean rebuildAttendances(Long userId, Collection<ActivityType> activityTypes,
+                                      Map<ActivityType, List<LocalDate>> datesByType, String expectedVersion) {
+        String tempSuffix = ":rebuild:" + UUID.randomUUID();
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            datesByType.forEach((activityType, dates) -> {
+                byte[] rawTempKey = (key(userId, activityType) + tempSuffix).getBytes(StandardCharsets.UTF_8);
+                for (LocalDate date : dates) {
+                    if (date != null && date.toEpochDay() >= 0) {
+                        connection.stringCommands().setBit(rawTempKey, date.toEpochDay(), true);
+                    }
+                }
+                connection.keyCommands().expire(rawTempKey, REBUILD_TEMP_TTL.getSeconds());
+            });
+            return null;
+        });
+
+        List<String> keys = new ArrayList<>();
+        keys.add(versionKey(userId));
+        keys.add(indexedKey(userId));
+        for (ActivityType activityType : activityTypes) {
+            keys.add(key(userId, activityType));
+            keys.add(key(userId, activityType) + tempSuffix);
+        }
+        Long committed = redisTemplate.execute(COMMIT_REBUILD_SCRIPT, keys, expectedVersion);
+        return Long.valueOf(1L).equals(committed);
+    }
+
+    /**
+     * 기간 [startDate, endDate] 의 비트를 활동 타입별로 조회 (단일 파이프라인)
+     * 반환되는 BitSet 의 i 번째 비트는 startDate.plusDays(i) 의 출석 여부
+     */
+    public Map<ActivityType, BitSet> getAttendances(Long userId, Collection<ActivityType> activityTypes,
+                                                    LocalDate startDate, LocalDate endDate) {
+        LocalDate start = startDate.toEpochDay() < 0 ? LocalDate.ofEpochDay(0) : startDate;
+        long startOffset = start.toEpochDay();
+        long endOffset = endDate.toEpochDay();
+        long startByte = startOffset / 8;
+        long endByte = endOffset / 8;
+
+        List<ActivityType> types = List.copyOf(activityTypes);
+        List<Object> results = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            RedisStringCommands commands = connection.stringCommands();
+            for (ActivityType activityType : types) {
+                commands.getRange(rawKey(userId, activityType), startByte, endByte);
+            }
+            return null;
+        }, RedisSerializer.byteArray());
+
+        // 1970-01-01 이전 구간은 인덱스 대상이 아니므로 시작일 보정분만큼 비트를 밀어서 반환
+        int shift = (int) (start.toEpochDay() - startDate.toEpochDay());
+        Map<ActivityType, BitSet> bitsByType = new EnumMap<>(ActivityType.class);
+        for (int i = 0; i < types.size(); i++) {
+            byte[] bytes = (byte[]) results.get(i);
+            BitSet bits = new BitSet();
+            if (bytes != null) {
+                for (long offset = startOffset; offset <= endOffset; offset++) {
+                    int byteIndex = (int) (offset / 8 - startByte);
+                    if (byteIndex >= bytes.length) {
+                        break;
+                    }
+                    // Redis 비트맵은 바이트의 최상위 비트가 0번 오프셋
+                    if ((bytes[byteIndex] & (0x80 >>> (offset % 8))) != 0) {
+                        bits.set((int) (offset - startOffset) + shift);
+                    }
+                }
+            }
+            bitsByType.put(types.get(i), bits);
+        }
+        return bitsByType;
+    }
+
+    private String indexedKey(Long userId) {
+        return ATTENDANCE_PREFIX + userId + INDEXED_SUFFIX;
+    }
+
+    private String versionKey(Long userId) {
+        return ATTENDANCE_PREFIX + userId + VERSION_SUFFIX;
+    }
+
+    private String rebuildLockKey(Long userId) {
+        return ATTENDANCE_PREFIX + userId + REBUILD_LOCK_SUFFIX;
+    }
+
+    private String key(Long userId, ActivityType activityType) {
+        return ATTENDANCE_PREFIX + userId + ":" + activityType.name();
+    }
+
+    private byte[] rawKey(Long userId, ActivityType activityType) {
+        return key(userId, activityType).getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,152 @@
+package com.goormi.routine.domain.userActivity.repository;
+
+import com.goormi.routine.domain.userActivity.entity.ActivityType;
+import com.goormi.routine.domain.userActivity.entity.DailyActivityRollup;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface DailyActivityRollupRepository extends JpaRepository<DailyActivityRollup, Long> {
+
+    @Modifying(flushAutomatically = true)
+    @Query("""
+      UPDATE DailyActivityRollup r
+      SET r.activityCount = r.activityCount + :delta
+      WHERE r.userId = :userId
+        AND r.groupId = :groupId
+        AND r.activityDate = :activityDate
+        AND r.activityType = :activityType
+      """)
+    int addCount(@Param("userId") Long userId,
+                 @Param("groupId") Long groupId,
+                 @Param("activityDate") LocalDate activityDate,
+                 @Param("activityType") ActivityType activityType,
+                 @Param("delta") long delta);
+
+    // 행이 없으면 만들고 있으면 더하는 원자적 upsert (동시에 첫 활동이 생겨도 유니크 키 충돌 없음)
+    @Modifying(flushAutomatically = true)
+    @Query(value = """
+      INSERT INTO daily_activity_rollup (user_id, group_id, activity_date, activity_type, activity_count)
+      VALUES (:userId, :groupId, :activityDate, :activityType, :delta)
+      ON DUPLICATE KEY UPDATE activity_count = activity_count + :delta
+      """, nativeQuery = true)
+    int upsertCount(@Param("userId") Long userId,
+                    @Param("groupId") Long groupId,
+                    @Param("activityDate") LocalDate activityDate,
+                    @Param("activityType") String activityType,
+                    @Param("delta") long delta);
+
+    @Query("""
+      SELECT COALESCE(SUM(r.activityCount), 0)
+      FROM DailyActivityRollup r
+      WHERE r.userId = :userId
+        AND r.activityType = :activityType
+        AND r.activityDate BETWEEN :startDate AND :endDate
+      """)
+    long sumByUserIdAndActivityType(@Param("userId") Long userId,
+                                    @Param("activityType") ActivityType activityType,
+                                    @Param("startDate") LocalDate startDate,
+                                    @Param("endDate") LocalDate endDate);
+
+    // 여러 사용자의 기간 내 (사용자, 활동 타입)별 횟수를 한 번에 집계
+    @Query("""
+      SELECT r.userId, r.activityType, SUM(r.activityCount)
+      FROM DailyActivityRollup r
+      WHERE r.userId IN :userIds
+        AND r.activityDate BETWEEN :startDate AND :endDate
+      GROUP BY r.userId, r.activityType
+      """)
+    List<Object[]> sumByUserIdsGroupByActivityType(@Param("userIds") Collection<Long> userIds,
+                                                   @Param("startDate") LocalDate startDate,
+                                                   @Param("endDate") LocalDate endDate);
+
+    // 기간 내 그룹 인증을 한 번 이상 한 JOINED 멤버 수
+    @Query("""
+      SELECT COUNT(DISTINCT r.userId)
+      FROM DailyActivityRollup r
+      WHERE r.groupId = :groupId
+        AND r.activityType = com.goormi.routine.domain.userActivity.entity.ActivityType.GROUP_AUTH_COMPLETE
+        AND r.activityDate BETWEEN :startDate AND :endDate
+        AND r.activityCount > 0
+        AND EXISTS (
+          SELECT 1 FROM GroupMember gm
+          WHERE gm.group.groupId = r.groupId
+            AND gm.user.id = r.userId
+            AND gm.status = com.goormi.routine.domain.group.entity.GroupMemberStatus.JOINED
+        )
+      """)
+    long countActiveMembersByGroupId(@Param("groupId") Long groupId,
+                                     @Param("startDate") LocalDate startDate,
+                                     @Param("endDate") LocalDate endDate);
+
+    // 기간 내 JOINED 멤버들의 그룹 인증 총 횟수
+    @Query("""
+      SELECT COALESCE(SUM(r.activityCount), 0)
+      FROM DailyActivityRollup r
+      WHERE r.groupId = :groupId
+        AND r.activityType = com.goormi.routine.domain.userActivity.entity.ActivityType.GROUP_AUTH_COMPLETE
+        AND r.activityDate BETWEEN :startDate AND :endDate
+        AND EXISTS (
+          SELECT 1 FROM GroupMember gm
+          WHERE gm.group.groupId = r.groupId
+            AND gm.user.id = r.userId
+            AND gm.status = com.goormi.routine.domain.group.entity.GroupMemberStatus.JOINED
+        )
+      """)
+    long sumAuthCountByGroupId(@Param("groupId") Long groupId,
+                               @Param("startDate") LocalDate startDate,
+                               @Param("endDate") LocalDate endDate);
+
+    default int countActiveByGroupId(Long groupId, String monthYear) {
+        YearMonth month = YearMonth.parse(monthYear);
+        return (int) countActiveMembersByGroupId(groupId, month.atDay(1), month.atEndOfMonth());
+    }
+
+    default int countAuthByGroupId(Long groupId, String monthYear) {
+        YearMonth month = YearMonth.parse(monthYear);
+        return (int) Math.min(sumAuthCountByGroupId(groupId, month.atDay(1), month.atEndOfMonth()), Integer.MAX_VALUE);
+    }
+
+    // 원본 user_activity 를 (사용자, 그룹, 타입) 단위로 집계하여 해당 일자 집계를 덮어씀 (없으면 생성)
+    // 지우고 다시 넣지 않으므로 실시간 upsertCount 와 유니크 키가 충돌하거나 두 번 더해지지 않음
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = """
+      INSERT INTO daily_activity_rollup (user_id, group_id, activity_date, activity_type, activity_count)
+      SELECT ua.user_id, COALESCE(gm.group_id, 0), ua.activity_date, ua.activity_type, COUNT(*)
+      FROM user_activity ua
+      LEFT JOIN group_member gm ON gm.member_id = ua.member_id
+      WHERE ua.activity_date = :activityDate
+        AND ua.activity_type IS NOT NULL
+        AND ua.user_id IS NOT NULL
+      GROUP BY ua.user_id, COALESCE(gm.group_id, 0), ua.activity_date, ua.activity_type
+      ON DUPLICATE KEY UPDATE activity_count = VALUES(activity_count)
+      """, nativeQuery = true)
+    int upsertRollupsFromActivities(@Param("activityDate") LocalDate activityDate);
+
+    // 원본 활동이 더 이상 없는 해당 일자 집계만 삭제
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = """
+      DELETE FROM daily_activity_rollup
+      WHERE activity_date = :activityDate
+        AND NOT EXISTS (
+          SELECT 1 FROM user_activity ua
+          LEFT JOIN group_member gm ON gm.member_id = ua.member_id
+          WHERE ua.user_id = daily_activity_rollup.user_id
+            AND COALESCE(gm.group_id, 0) = daily_activity_rollup.group_id
+            AND ua.activity_date = daily_activity_rollup.activity_date
+            AND ua.activity_type = daily_activity_rollup.activity_type
+        )
+      """, nativeQuery = true)
+    int deleteRollupsWithoutActivities(@Param("activityDate") LocalDate activityDate);
+}
@@ -0,0 +1,80 @@
+package com.goormi.routine.domain.userActivity.repository;
+
+import com.goormi.routine.domain.userActivity.entity.UserActivity;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * UserActivity 대량 저장
+ * - IDENTITY 전략에서는 Hibernate 배치 insert 가 비활성화되므로 JDBC 배치로 직접 저장
+ */
+@Repository
+@RequiredArgsConstructor
+public class UserActivityBulkRepository {
+
+    private static final String INSERT_SQL =
+            "INSERT INTO user_activity (user_id, activity_type, activity_date, created_at, updated_at, " +
+            "routine_id, member_id, image_url, is_public) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 활동 목록을 한 번의 배치로 저장하고 생성된 ID 를 순서대로 반환
+     */
+    public List<Long> insertAll(List<UserActivity> activities) {
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+
+        jdbcTemplate.batchUpdate(
+                connection -> connection.prepareStatement(INSERT_SQL, new String[]{"id"}),
+                new BatchPreparedStatementSetter() {
+                    @Override
+                    public void setValues(PreparedStatement ps, int i) throws SQLException {
+                        UserActivity activity = activities.get(i);
+                        ps.setLong(1, activity.getUser().getId());
+                        ps.setString(2, activity.getActivityType().name());
+                        ps.setDate(3, activity.getActivityDate() != null ? Date.valueOf(activity.getActivityDate()) : null);
+                        ps.setTimestamp(4, Timestamp.valueOf(activity.getCreatedAt()));
+                        ps.setTimestamp(5, Timestamp.valueOf(activity.getUpdatedAt()));
+                        if (activity.getPersonalRoutine() != null) {
+                            ps.setInt(6, activity.getPersonalRoutine().getRoutineId());
+                        } else {
+                            ps.setNull(6, Types.INTEGER);
+                        }
+                        if (activity.getGroupMember() != null) {
+                            ps.setLong(7, activity.getGroupMember().getMemberId());
+                        } else {
+                            ps.setNull(7, Types.BIGINT);
+                        }
+                        ps.setString(8, activity.getImageUrl());
+                        if (activity.getIsPublic() != null) {
+                            ps.setBoolean(9, activity.getIsPublic());
+                        } else {
+                            ps.setNull(9, Types.BOOLEAN);
+                        }
+                    }
+
+                    @Override
+                    public int getBatchSize() {
+                        return activities.size();
+                    }
+                },
+                keyHolder);
+
+        return keyHolder.getKeyList().stream()
+                .map(Map::values)
+                .map(values -> ((Number) values.iterator().next()).longValue())
+                .toList();
+    }
+}
@@ -3,9 +3,13 @@ package com.goormi.routine.domain.userActivity.repository;
 import com.goormi.routine.domain.group.entity.Group;
 import com.goormi.routine.domain.group.entity.GroupMember;
 import com.goormi.routine.domain.user.entity.User;
+import com.goormi.routine.domain.userActivity.dto.ActivityGalleryItem;
 import com.goormi.routine.domain.userActivity.entity.ActivityType;
 import com.goormi.routine.domain.userActivity.entity.UserActivity;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
@@ -42,4 +46,50 @@ public interface UserActivityRepository extends JpaRepository<UserActivity, Long
 
     long countByUserIdAndActivityTypeAndActivityDateBetween(Long userId, ActivityType activityType, LocalDate startDate, LocalDate endDate);
 
+    // 출석 비트맵 인덱스 재구성용 (활동 타입, 날짜) 목록
+    @Query("SELECT DISTINCT ua.activityType, ua.activityDate FROM UserActivity ua " +
+            "WHERE ua.user.id = :userId AND ua.activityDate IS NOT NULL AND ua.activityType IN :activityTypes")
+    List<Object[]> findDistinctActivityDates(@Param("userId") Long userId,
+                                             @Param("activityTypes") Collection<ActivityType> activityTypes);
+
+    @Query("SELECT ua.activityType, COUNT(ua) FROM UserActivity ua " +
+            "WHERE ua.user.id = :userId AND ua.activityDate BETWEEN :startDate AND :endDate " +
+            "GROUP BY ua.activityType")
+    List<Object[]> countByActivityTypeForPeriod(@Param("userId") Long userId,
+                                                @Param("startDate") LocalDate startDate,
+                                                @Param("endDate") LocalDate endDate);
+
+    // 여러 사용자의 기간 내 개인 루틴별 완료 횟수 (사용자 ID, 루틴 ID, 반복 요일, 횟수)
+    @Query("SELECT ua.user.id, pr.routineId, pr.repeatDays, COUNT(ua) FROM UserActivity ua JOIN ua.personalRoutine pr " +
+            "WHERE ua.user.id IN :userIds " +
+            "AND ua.activityType = com.goormi.routine.domain.userActivity.entity.ActivityType.PERSONAL_ROUTINE_COMPLETE " +
+            "AND ua.activityDate BETWEEN :startDate AND :endDate " +
+            "GROUP BY ua.user.id, pr.routineId, pr.repeatDays")
+    List<Object[]> countRoutineCompletionsByUserIds(@Param("userIds") Collection<Long> userIds,
+                                                    @Param("startDate") LocalDate startDate,
+                                                    @Param("endDate") LocalDate endDate);
+
+    // 인증 사진 갤러리 (키셋 페이지네이션, idx_user_activity_gallery 사용)
+    @Query("SELECT new com.goormi.routine.domain.userActivity.dto.ActivityGalleryItem(" +
+            "ua.id, ua.imageUrl, ua.activityDate, ua.isPublic) " +
+            "FROM UserActivity ua " +
+            "WHERE ua.user.id = :userId AND ua.activityType = :activityType " +
+            "AND ua.id < :cursor AND ua.imageUrl IS NOT NULL " +
+            "ORDER BY ua.id DESC")
+    List<ActivityGalleryItem> findGalleryItems(@Param("userId") Long userId,
+                                               @Param("activityType") ActivityType activityType,
+                                               @Param("cursor") Long cursor,
+                                               Pageable pageable);
+
+    // 공개 인증 사진 갤러리 (idx_user_activity_public_gallery 사용)
+    @Query("SELECT new com.goormi.routine.domain.userActivity.dto.ActivityGalleryItem(" +
+            "ua.id, ua.imageUrl, ua.activityDate, ua.isPublic) " +
+            "FROM UserActivity ua " +
+            "WHERE ua.user.id = :userId AND ua.activityType = :activityType AND ua.isPublic = true " +
+            "AND ua.id < :cursor AND ua.imageUrl IS NOT NULL " +
+            "ORDER BY ua.id DESC")
+    List<ActivityGalleryItem> findPublicGalleryItems(@Param("userId") Long userId,
+                                                     @Param("activityType") ActivityType activityType,
+                                                     @Param("cursor") Long cursor,
+                                                     Pageable pageable);
 }
@@ -0,0 +1,127 @@
+package com.goormi.routine.domain.userActivity.service;
+
+import com.goormi.routine.domain.userActivity.entity.ActivityType;
+import com.goormi.routine.domain.userActivity.repository.AttendanceBitmapRepository;
+import com.goormi.routine.domain.userActivity.repository.UserActivityRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Redis 출석 비트맵 인덱스 관리
+ * - 활동 생성/수정 시 트랜잭션 커밋 이후 비트를 갱신
+ * - 인덱스가 없는 사용자는 최초 조회 시 DB 에서 한 번 재구성 (사용자당 한 번에 하나만, 도중에 비트가 바뀌면 포기)
+ * - 재구성 중이거나 재구성을 포기한 조회는 DB 조회로 대체
+ * - Redis 장애 시 조회는 Optional.empty() 를 반환하여 DB 조회로 대체
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AttendanceIndexService {
+
+    public static final Set<ActivityType> INDEXED_TYPES = EnumSet.of(
+            ActivityType.PERSONAL_ROUTINE_COMPLETE, ActivityType.GROUP_AUTH_COMPLETE, ActivityType.DAILY_CHECKLIST);
+
+    private final AttendanceBitmapRepository attendanceBitmapRepository;
+    private final UserActivityRepository userActivityRepository;
+
+    public void recordAttendance(Long userId, ActivityType activityType, LocalDate activityDate) {
+        if (!INDEXED_TYPES.contains(activityType) || activityDate == null) {
+            return;
+        }
+        afterCommit(userId, () -> attendanceBitmapRepository.setAttendance(userId, activityType, activityDate, true));
+    }
+
+    /**
+     * 해당 날짜에 같은 타입의 활동이 남아있는지 DB 기준으로 다시 확인하여 비트를 맞춤
+     */
+    public void refreshAttendance(Long userId, ActivityType activityType, LocalDate activityDate) {
+        if (!INDEXED_TYPES.contains(activityType) || activityDate == null) {
+            return;
+        }
+        boolean attended = userActivityRepository.existsByUserIdAndActivityDateAndActivityTypeIn(
+                userId, activityDate, EnumSet.of(activityType));
+        afterCommit(userId, () -> attendanceBitmapRepository.setAttendance(userId, activityType, activityDate, attended));
+    }
+
+    public Optional<Map<ActivityType, BitSet>> findAttendances(Long userId, Collection<ActivityType> activityTypes,
+                                                               LocalDate startDate, LocalDate endDate) {
+        try {
+            if (!attendanceBitmapRepository.isIndexed(userId) && !rebuildIndex(userId)) {
+                return Optional.empty();
+            }
+            return Optional.of(attendanceBitmapRepository.getAttendances(userId, activityTypes, startDate, endDate));
+        } catch (Exception e) {
+            log.warn("출석 비트맵 조회 실패, DB 조회로 대체합니다: userId={}, message={}", userId, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * @return 인덱스를 재구성했으면 true, 다른 요청이 재구성 중이거나 도중에 비트가 바뀌어 포기했으면 false
+     */
+    private boolean rebuildIndex(Long userId) {
+        if (!attendanceBitmapRepository.tryLockRebuild(userId)) {
+            return false;
+        }
+        try {
+            // DB 를 읽기 전의 버전을 기억해 두고, 그 사이 커밋된 활동이 있으면 교체하지 않음
+            String version = attendanceBitmapRepository.getVersion(userId);
+            Map<ActivityType, List<LocalDate>> datesByType = new EnumMap<>(ActivityType.class);
+            for (Object[] row : userActivityRepository.findDistinctActivityDates(userId, INDEXED_TYPES)) {
+                datesByType.computeIfAbsent((ActivityType) row[0], type -> new ArrayList<>())
+                        .add((LocalDate) row[1]);
+            }
+            boolean rebuilt = attendanceBitmapRepository.rebuildAttendances(userId, INDEXED_TYPES, datesByType, version);
+            if (rebuilt) {
+                log.info("출석 비트맵 인덱스 재구성: userId={}, types={}", userId, datesByType.keySet());
+            } else {
+                log.info("재구성 중 출석 비트가 변경되어 다음 조회에서 다시 시도합니다: userId={}", userId);
+            }
+            return rebuilt;
+        } finally {
+            attendanceBitmapRepository.unlockRebuild(userId);
+        }
+    }
+
+    // 롤백된 활동이 인덱스에 남지 않도록 커밋 이후에 반영
+    // 갱신에 실패하면 인덱스 표시를 지워 다음 조회 때 DB 에서 재구성되도록 함
+    private void afterCommit(Long userId, Runnable task) {
+        Runnable safeTask = () -> {
+            try {
+                task.run();
+            } catch (Exception e) {
+                log.warn("출석 비트맵 갱신 실패: userId={}, message={}", userId, e.getMessage());
+                try {
+                    attendanceBitmapRepository.invalidate(userId);
+                } catch (Exception ignored) {
+                    // Redis 장애 시에는 조회 쪽에서 DB 로 대체
+                }
+            }
+        };
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    safeTask.run();
+                }
+            });
+        } else {
+            safeTask.run();
+        }
+    }
+}
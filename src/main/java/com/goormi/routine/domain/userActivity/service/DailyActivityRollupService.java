@@ -0,0 +1,78 @@
+package com.goormi.routine.domain.userActivity.service;
+
+import com.goormi.routine.domain.userActivity.entity.ActivityType;
+import com.goormi.routine.domain.userActivity.entity.DailyActivityRollup;
+import com.goormi.routine.domain.userActivity.entity.UserActivity;
+import com.goormi.routine.domain.userActivity.repository.DailyActivityRollupRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+
+/**
+ * 일별 활동 집계(daily_activity_rollup) 관리
+ * - 활동 생성/수정과 같은 트랜잭션에서 증분 반영
+ * - 기존 데이터는 backfill 로 일자 단위 재집계
+ */
+@Slf4j
+@Service
+@Transactional
+@RequiredArgsConstructor
+public class DailyActivityRollupService {
+
+    private final DailyActivityRollupRepository dailyActivityRollupRepository;
+
+    public void increment(UserActivity activity) {
+        apply(activity.getUser().getId(), resolveGroupId(activity),
+                activity.getActivityDate(), activity.getActivityType(), 1);
+    }
+
+    public void decrement(Long userId, Long groupId, LocalDate activityDate, ActivityType activityType) {
+        apply(userId, groupId, activityDate, activityType, -1);
+    }
+
+    public void apply(Long userId, Long groupId, LocalDate activityDate, ActivityType activityType, long delta) {
+        if (activityDate == null || activityType == null || activityType == ActivityType.NOT_COMPLETED || delta == 0) {
+            return;
+        }
+        Long rollupGroupId = groupId != null ? groupId : DailyActivityRollup.NO_GROUP;
+
+        if (delta > 0) {
+            // 조회 후 저장하면 동시 생성 시 uk_daily_activity_rollup 충돌로 호출한 트랜잭션까지 롤백되므로 upsert 한 번으로 반영
+            dailyActivityRollupRepository.upsertCount(userId, rollupGroupId, activityDate, activityType.name(), delta);
+            return;
+        }
+        dailyActivityRollupRepository.addCount(userId, rollupGroupId, activityDate, activityType, delta);
+    }
+
+    public Long resolveGroupId(UserActivity activity) {
+        if (activity.getGroupMember() == null) {
+            return DailyActivityRollup.NO_GROUP;
+        }
+        return activity.getGroupMember().getGroup().getGroupId();
+    }
+
+    /**
+     * 기간 내 집계를 원본 활동 기준으로 다시 계산
+     * - 운영 중 실시간 반영과 함께 실행되므로 기간 전체를 한 트랜잭션으로 묶지 않고 일자마다 짧은 트랜잭션으로 처리
+     * - 원본 기준 값으로 덮어쓴 뒤 원본이 없는 행만 지움 (전체 삭제 후 재적재하지 않음)
+     * @return 재계산(생성/갱신)한 집계 행 수
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public int backfill(LocalDate startDate, LocalDate endDate) {
+        if (endDate.isBefore(startDate)) {
+            throw new IllegalArgumentException("endDate must be on or after startDate");
+        }
+        int upserted = 0;
+        int deleted = 0;
+        for (LocalDate date = startDate; !date.isAfter(endDate); date = date.plusDays(1)) {
+            upserted += dailyActivityRollupRepository.upsertRollupsFromActivities(date);
+            deleted += dailyActivityRollupRepository.deleteRollupsWithoutActivities(date);
+        }
+        log.info("일별 활동 집계 재계산 완료: 기간 = {} ~ {}, 갱신 = {}, 삭제 = {}", startDate, endDate, upserted, deleted);
+        return upserted;
+    }
+}
@@ -1,6 +1,8 @@
 package com.goormi.routine.domain.userActivity.service;
 
+import com.goormi.routine.domain.userActivity.dto.ActivityGalleryResponse;
 import com.goormi.routine.domain.userActivity.dto.MonthlyAttendanceDashboardResponse;
+import com.goormi.routine.domain.userActivity.dto.UserActivityBulkResponse;
 import com.goormi.routine.domain.userActivity.dto.UserActivityRequest;
 import com.goormi.routine.domain.userActivity.dto.UserActivityResponse;
 
@@ -11,12 +13,16 @@ public interface UserActivityService {
 
     UserActivityResponse create(Long userId, UserActivityRequest request);
 
+    UserActivityBulkResponse createBulk(Long userId, List<UserActivityRequest> requests);
+
     UserActivityResponse updateActivity(Long userId, UserActivityRequest request);
 
     List<UserActivityResponse> getUserActivitiesPerDay(Long userId, LocalDate activityDate);
 
     List<UserActivityResponse> getImagesOfUserActivities(Long currentUserId, Long targetUserId);
 
+    ActivityGalleryResponse getActivityGallery(Long currentUserId, Long targetUserId, Long cursor, int size);
+
 
     //출석
     boolean hasAttendanceOn(Long userId, LocalDate date);
@@ -4,18 +4,25 @@ import com.goormi.routine.domain.group.entity.Group;
 import com.goormi.routine.domain.group.entity.GroupMember;
 import com.goormi.routine.domain.group.repository.GroupMemberRepository;
 import com.goormi.routine.domain.group.repository.GroupRepository;
-import com.goormi.routine.domain.ranking.service.RankingService;
+import com.goormi.routine.domain.group.service.GroupAuthStatusService;
+import com.goormi.routine.domain.ranking.service.RankingEventListener.GroupAuthCompletedEvent;
 import com.goormi.routine.domain.user.entity.User;
 import com.goormi.routine.domain.user.repository.UserRepository;
+import com.goormi.routine.domain.userActivity.dto.ActivityGalleryItem;
+import com.goormi.routine.domain.userActivity.dto.ActivityGalleryResponse;
 import com.goormi.routine.domain.userActivity.dto.MonthlyAttendanceDashboardResponse;
+import com.goormi.routine.domain.userActivity.dto.UserActivityBulkResponse;
 import com.goormi.routine.domain.userActivity.dto.UserActivityRequest;
 import com.goormi.routine.domain.userActivity.dto.UserActivityResponse;
 import com.goormi.routine.domain.userActivity.entity.ActivityType;
 import com.goormi.routine.domain.userActivity.entity.UserActivity;
+import com.goormi.routine.domain.userActivity.repository.UserActivityBulkRepository;
 import com.goormi.routine.domain.userActivity.repository.UserActivityRepository;
 import com.goormi.routine.domain.personal_routines.domain.PersonalRoutine;
 import com.goormi.routine.domain.personal_routines.repository.PersonalRoutineRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import com.goormi.routine.domain.userActivity.dto.MonthlyAttendanceDashboardResponse.AttendanceDayDto;
@@ -28,6 +35,8 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @Transactional
@@ -38,7 +47,11 @@ public class UserActivityServiceImpl implements UserActivityService{
     private final GroupRepository groupRepository;
     private final GroupMemberRepository groupMemberRepository;
     private final PersonalRoutineRepository personalRoutineRepository;
-    private final RankingService rankingService;
+    private final ApplicationEventPublisher applicationEventPublisher;
+    private final AttendanceIndexService attendanceIndexService;
+    private final DailyActivityRollupService dailyActivityRollupService;
+    private final GroupAuthStatusService groupAuthStatusService;
+    private final UserActivityBulkRepository userActivityBulkRepository;
 
     @Override
     public UserActivityResponse create(Long userId, UserActivityRequest request) {
@@ -56,9 +69,7 @@ public class UserActivityServiceImpl implements UserActivityService{
                     .orElseThrow(() -> new IllegalArgumentException("GroupMember not found"));
 
             userActivity = UserActivity.createActivity(user, groupMember, request.getImageUrl(), request.getIsPublic());
-
-            int monthlyAuthCount = calculateMonthlyAuthCount(userId);
-            rankingService.updateRankingScore(userId, request.getGroupId(), monthlyAuthCount);
+            groupAuthStatusService.markAuthed(group.getGroupId(), groupMember.getMemberId());
         }
         else if (request.getActivityType() == ActivityType.PERSONAL_ROUTINE_COMPLETE) {
             if (request.getPersonalRoutineId() == null) throw new IllegalArgumentException("PersonalRoutine Id is null");
@@ -71,8 +82,8 @@ public class UserActivityServiceImpl implements UserActivityService{
             userActivity = UserActivity.builder()
                     .user(user)
                     .activityType(ActivityType.DAILY_CHECKLIST)
-                    .activityDate(LocalDate.now())
-                    .createdAt(LocalDateTime.now())
+                    .activityDate(LocalDate.now(KST))
+                    .createdAt(LocalDateTime.now(KST))
                     .isPublic(false)
                     .build();
         } else{
@@ -80,27 +91,118 @@ public class UserActivityServiceImpl implements UserActivityService{
         }
 
         UserActivity saved = userActivityRepository.save(userActivity);
+        dailyActivityRollupService.increment(saved);
+        attendanceIndexService.recordAttendance(userId, saved.getActivityType(), saved.getActivityDate());
+
+        // 랭킹 점수는 커밋 이후 비동기로 반영
+        if (saved.getActivityType() == ActivityType.GROUP_AUTH_COMPLETE) {
+            applicationEventPublisher.publishEvent(
+                    new GroupAuthCompletedEvent(userId, request.getGroupId(), saved.getId()));
+        }
 
         return convertToResponse(saved);
     }
 
 
-    private int calculateMonthlyAuthCount(Long userId) {
-        try {
-            // 현재 월을 yyyy-MM 형식으로 가져옴
-            LocalDate startDate = LocalDate.now().withDayOfMonth(1);
-            LocalDate endDate = startDate.plusMonths(1).minusDays(1);
+    private static final int MAX_BULK_SIZE = 100;
+    private static final ZoneId KST = ZoneId.of("Asia/Seoul");
 
-            return (int) userActivityRepository
-                .countByUserIdAndActivityTypeAndCreatedAtBetween(
-                    userId,
-                    ActivityType.GROUP_AUTH_COMPLETE,
-                    startDate.atStartOfDay(),
-                    endDate.atTime(23, 59, 59)
-                );
-        } catch (Exception e) {
-            return 0;
+    @Override
+    public UserActivityBulkResponse createBulk(Long userId, List<UserActivityRequest> requests) {
+        if (requests == null || requests.isEmpty()) throw new IllegalArgumentException("Activities are empty");
+        if (requests.size() > MAX_BULK_SIZE) throw new IllegalArgumentException("Too many activities (max " + MAX_BULK_SIZE + ")");
+
+        User user = userRepository.findById(userId)
+                .orElseThrow(() -> new IllegalArgumentException("User not found"));
+
+        // 참조 대상은 건별 조회 대신 종류별로 한 번씩 모아서 조회
+        Set<Long> groupIds = new HashSet<>();
+        Set<Integer> routineIds = new HashSet<>();
+        for (UserActivityRequest request : requests) {
+            if (request.getActivityType() == ActivityType.GROUP_AUTH_COMPLETE) {
+                if (request.getGroupId() == null) throw new IllegalArgumentException("GroupId is null");
+                groupIds.add(request.getGroupId());
+            } else if (request.getActivityType() == ActivityType.PERSONAL_ROUTINE_COMPLETE) {
+                if (request.getPersonalRoutineId() == null) throw new IllegalArgumentException("PersonalRoutine Id is null");
+                routineIds.add(request.getPersonalRoutineId());
+            } else if (request.getActivityType() != ActivityType.DAILY_CHECKLIST) {
+                throw new IllegalArgumentException("Invalid request");
+            }
         }
+
+        Map<Long, GroupMember> membersByGroupId = groupIds.isEmpty() ? Map.of()
+                : groupMemberRepository.findAllByUserIdAndGroupIdIn(userId, groupIds).stream()
+                        .collect(Collectors.toMap(member -> member.getGroup().getGroupId(), Function.identity()));
+        if (!membersByGroupId.keySet().containsAll(groupIds)) throw new IllegalArgumentException("GroupMember not found");
+
+        Map<Integer, PersonalRoutine> routinesById = routineIds.isEmpty() ? Map.of()
+                : personalRoutineRepository.findAllById(routineIds).stream()
+                        .collect(Collectors.toMap(PersonalRoutine::getRoutineId, Function.identity()));
+        if (!routinesById.keySet().containsAll(routineIds)) throw new IllegalArgumentException("Personal Routine not found");
+
+        LocalDate today = LocalDate.now(KST);
+        LocalDateTime now = LocalDateTime.now(KST);
+        List<UserActivity> activities = requests.stream()
+                .map(request -> buildBulkActivity(user, request, membersByGroupId, routinesById, today, now))
+                .toList();
+
+        List<Long> ids = userActivityBulkRepository.insertAll(activities);
+
+        // 일별 집계는 (그룹, 타입) 단위로 합산해서 한 번씩 반영
+        Map<Long, Map<ActivityType, Long>> countsByGroup = activities.stream()
+                .collect(Collectors.groupingBy(dailyActivityRollupService::resolveGroupId,
+                        Collectors.groupingBy(UserActivity::getActivityType, Collectors.counting())));
+        countsByGroup.forEach((groupId, counts) -> counts.forEach((type, count) ->
+                dailyActivityRollupService.apply(userId, groupId, today, type, count)));
+
+        activities.stream().map(UserActivity::getActivityType).distinct()
+                .forEach(type -> attendanceIndexService.recordAttendance(userId, type, today));
+
+        // 랭킹은 그룹별로 인증 수를 합산한 이벤트 한 번으로 반영 (반영 여부는 마지막 활동 ID 기준으로 기록)
+        Map<Long, Long> lastActivityIdByGroup = new HashMap<>();
+        Map<Long, Integer> authCountByGroup = new HashMap<>();
+        for (int i = 0; i < activities.size(); i++) {
+            GroupMember member = activities.get(i).getGroupMember();
+            if (member != null) {
+                lastActivityIdByGroup.put(member.getGroup().getGroupId(), ids.get(i));
+                authCountByGroup.merge(member.getGroup().getGroupId(), 1, Integer::sum);
+            }
+        }
+        membersByGroupId.forEach((groupId, member) -> {
+            groupAuthStatusService.markAuthed(groupId, member.getMemberId());
+            applicationEventPublisher.publishEvent(new GroupAuthCompletedEvent(userId, groupId,
+                    lastActivityIdByGroup.get(groupId), authCountByGroup.get(groupId)));
+        });
+
+        return UserActivityBulkResponse.builder()
+                .createdCount(ids.size())
+                .userActivityIds(ids)
+                .build();
+    }
+
+    private UserActivity buildBulkActivity(User user, UserActivityRequest request,
+                                           Map<Long, GroupMember> membersByGroupId,
+                                           Map<Integer, PersonalRoutine> routinesById,
+                                           LocalDate today, LocalDateTime now) {
+        UserActivity.UserActivityBuilder builder = UserActivity.builder()
+                .user(user)
+                .activityType(request.getActivityType())
+                .activityDate(today)
+                .createdAt(now)
+                .updatedAt(now);
+
+        return switch (request.getActivityType()) {
+            case GROUP_AUTH_COMPLETE -> builder
+                    .groupMember(membersByGroupId.get(request.getGroupId()))
+                    .imageUrl(request.getImageUrl())
+                    .isPublic(request.getIsPublic())
+                    .build();
+            case PERSONAL_ROUTINE_COMPLETE -> builder
+                    .personalRoutine(routinesById.get(request.getPersonalRoutineId()))
+                    .isPublic(request.getIsPublic())
+                    .build();
+            default -> builder.isPublic(false).build();
+        };
     }
 
     @Override
@@ -114,7 +216,23 @@ public class UserActivityServiceImpl implements UserActivityService{
         if (!Objects.equals(user.getId(), userActivity.getUser().getId())) {
             throw new IllegalArgumentException("권한이 없습니다.");
         }
+        ActivityType previousType = userActivity.getActivityType();
+        LocalDate previousDate = userActivity.getActivityDate();
+
         userActivity.updateActivity(request.getActivityType(), request.getIsPublic());
+
+        // 타입/날짜가 바뀐 경우 일별 집계를 옮기고, 이전 비트는 다른 활동이 남아있는지 확인 후 정리
+        if (previousType != userActivity.getActivityType() || !Objects.equals(previousDate, userActivity.getActivityDate())) {
+            Long groupId = dailyActivityRollupService.resolveGroupId(userActivity);
+            dailyActivityRollupService.decrement(userId, groupId, previousDate, previousType);
+            dailyActivityRollupService.increment(userActivity);
+            if (previousType == ActivityType.GROUP_AUTH_COMPLETE || userActivity.getActivityType() == ActivityType.GROUP_AUTH_COMPLETE) {
+                groupAuthStatusService.reset(groupId);
+            }
+
+            attendanceIndexService.refreshAttendance(userId, previousType, previousDate);
+            attendanceIndexService.recordAttendance(userId, userActivity.getActivityType(), userActivity.getActivityDate());
+        }
         return convertToResponse(userActivity);
     }
 
@@ -155,6 +273,35 @@ public class UserActivityServiceImpl implements UserActivityService{
     }
 
 
+    private static final int MAX_GALLERY_PAGE_SIZE = 50;
+
+    @Override
+    @Transactional(readOnly = true)
+    public ActivityGalleryResponse getActivityGallery(Long currentUserId, Long targetUserId, Long cursor, int size) {
+        if (!userRepository.existsById(targetUserId)) {
+            throw new IllegalArgumentException("Target user not found");
+        }
+
+        int pageSize = Math.max(1, Math.min(size, MAX_GALLERY_PAGE_SIZE));
+        long cursorId = cursor != null ? cursor : Long.MAX_VALUE;
+        // 다음 페이지 존재 여부 확인을 위해 한 건 더 조회
+        PageRequest limit = PageRequest.of(0, pageSize + 1);
+
+        // 본인이 아니면 공개된 사진만 조회 (SQL 에서 필터링)
+        List<ActivityGalleryItem> items = targetUserId.equals(currentUserId)
+                ? userActivityRepository.findGalleryItems(targetUserId, ActivityType.GROUP_AUTH_COMPLETE, cursorId, limit)
+                : userActivityRepository.findPublicGalleryItems(targetUserId, ActivityType.GROUP_AUTH_COMPLETE, cursorId, limit);
+
+        boolean hasNext = items.size() > pageSize;
+        List<ActivityGalleryItem> page = hasNext ? items.subList(0, pageSize) : items;
+
+        return ActivityGalleryResponse.builder()
+                .items(page)
+                .nextCursor(hasNext ? page.get(page.size() - 1).getUserActivityId() : null)
+                .hasNext(hasNext)
+                .build();
+    }
+
     private UserActivityResponse convertToResponse(UserActivity activity) {
         if (activity.getPersonalRoutine() != null) {
             return UserActivityResponse.fromPersonalActivity(activity);
@@ -186,7 +333,7 @@ public class UserActivityServiceImpl implements UserActivityService{
     @Transactional(readOnly = true)
     public int getTotalAttendanceDays(Long userId, LocalDate startDate, LocalDate endDate) {
         // 기본값 처리
-        LocalDate end = (endDate != null) ? endDate : LocalDate.now(ZoneId.of("Asia/Seoul"));
+        LocalDate end = (endDate != null) ? endDate : LocalDate.now(KST);
         LocalDate start = (startDate != null) ? startDate : LocalDate.of(1970, 1, 1);
 
         // 기간 역전 방지
@@ -194,7 +341,16 @@ public class UserActivityServiceImpl implements UserActivityService{
             throw new IllegalArgumentException("endDate must be on or after startDate");
         }
 
-        // 기간 내 '출석 인정' 타입들의 활동을 모두 가져온 뒤, activityDate 기준으로 distinct
+        // 출석 비트맵 인덱스에서 '출석 인정' 타입들의 비트를 OR 하여 일수 계산
+        Optional<Map<ActivityType, BitSet>> indexed =
+                attendanceIndexService.findAttendances(userId, ATTENDANCE_TYPES, start, end);
+        if (indexed.isPresent()) {
+            BitSet attended = new BitSet();
+            indexed.get().values().forEach(attended::or);
+            return attended.cardinality();
+        }
+
+        // 인덱스를 사용할 수 없으면 기간 내 활동을 모두 가져온 뒤, activityDate 기준으로 distinct
         List<UserActivity> records = userActivityRepository
                 .findByUserIdAndActivityTypeInAndActivityDateBetween(
                         userId, ATTENDANCE_TYPES.stream().toList(), start, end
@@ -228,29 +384,16 @@ public class UserActivityServiceImpl implements UserActivityService{
         LocalDate start = ym.atDay(1);
         LocalDate end = ym.atEndOfMonth();
 
-        // 월 범위 모든 활동
-        List<UserActivity> records = userActivityRepository.findByUserIdAndActivityDateBetween(id, start, end);
-
-        // 날짜별 타입 집계 + 타입별 카운트
-        Map<LocalDate, Set<ActivityType>> typesByDay = new HashMap<>();
-        int personalCount = 0;
-        int groupCount = 0;
-        int checklistCount = 0;
-
-        for (UserActivity ua : records) {
-            LocalDate d = ua.getActivityDate();
-            if (d == null) continue;
+        // 날짜별 타입 집계 (출석 비트맵 인덱스 우선) + 타입별 카운트
+        Map<LocalDate, Set<ActivityType>> typesByDay = loadActivityTypesByDay(id, start, end);
 
-            typesByDay.computeIfAbsent(d, k -> EnumSet.noneOf(ActivityType.class))
-                    .add(ua.getActivityType());
-
-            switch (ua.getActivityType()) {
-                case PERSONAL_ROUTINE_COMPLETE -> personalCount++;
-                case GROUP_AUTH_COMPLETE -> groupCount++;
-                case DAILY_CHECKLIST -> checklistCount++;
-                default -> {}
-            }
+        Map<ActivityType, Long> countsByType = new EnumMap<>(ActivityType.class);
+        for (Object[] row : userActivityRepository.countByActivityTypeForPeriod(id, start, end)) {
+            countsByType.put((ActivityType) row[0], (Long) row[1]);
         }
+        int personalCount = countsByType.getOrDefault(ActivityType.PERSONAL_ROUTINE_COMPLETE, 0L).intValue();
+        int groupCount = countsByType.getOrDefault(ActivityType.GROUP_AUTH_COMPLETE, 0L).intValue();
+        int checklistCount = countsByType.getOrDefault(ActivityType.DAILY_CHECKLIST, 0L).intValue();
 
         // 1~말일까지 캘린더 구성
         List<AttendanceDayDto> calendar = IntStream.rangeClosed(1, ym.lengthOfMonth())
@@ -297,6 +440,30 @@ public class UserActivityServiceImpl implements UserActivityService{
                 .build();
     }
 
+    private Map<LocalDate, Set<ActivityType>> loadActivityTypesByDay(Long userId, LocalDate start, LocalDate end) {
+        Map<LocalDate, Set<ActivityType>> typesByDay = new HashMap<>();
+
+        Optional<Map<ActivityType, BitSet>> indexed =
+                attendanceIndexService.findAttendances(userId, AttendanceIndexService.INDEXED_TYPES, start, end);
+        if (indexed.isPresent()) {
+            indexed.get().forEach((type, bits) ->
+                    bits.stream().forEach(offset ->
+                            typesByDay.computeIfAbsent(start.plusDays(offset), k -> EnumSet.noneOf(ActivityType.class))
+                                    .add(type)));
+            return typesByDay;
+        }
+
+        // 인덱스를 사용할 수 없으면 월 범위 모든 활동을 조회
+        for (UserActivity ua : userActivityRepository.findByUserIdAndActivityDateBetween(userId, start, end)) {
+            LocalDate d = ua.getActivityDate();
+            if (d == null) continue;
+
+            typesByDay.computeIfAbsent(d, k -> EnumSet.noneOf(ActivityType.class))
+                    .add(ua.getActivityType());
+        }
+        return typesByDay;
+    }
+
     // === [추가] streak 계산 유틸 ===
     private int calcLongestStreak(Set<LocalDate> attended) {
         if (attended.isEmpty()) return 0;
@@ -0,0 +1,125 @@
+package com.goormi.routine.common.scheduler.job;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.goormi.routine.common.scheduler.repository.JobRunRedisRepository;
+import com.goormi.routine.common.scheduler.service.SchedulerLeaseManager;
+
+/**
+ * ci 프로필에는 Redis 가 없으므로 실행 현황 저장소와 임대 관리자를 목으로 두고 실행 상태 집계를 확인
+ */
+class JobExecutorTest {
+
+	private static final String JOB_NAME = "test_job";
+	private static final String PERIOD = "2025-01";
+
+	private final JobPartition first = new JobPartition(0, 1, 100);
+	private final JobPartition second = new JobPartition(1, 101, 200);
+
+	private JobDefinition job;
+	private JobRunRedisRepository jobRunRedisRepository;
+	private JobExecutor jobExecutor;
+
+	@BeforeEach
+	void setUp() {
+		job = mock(JobDefinition.class);
+		when(job.getName()).thenReturn(JOB_NAME);
+		jobRunRedisRepository = mock(JobRunRedisRepository.class);
+		SchedulerLeaseManager schedulerLeaseManager = mock(SchedulerLeaseManager.class);
+		when(schedulerLeaseManager.currentLeaseCheck()).thenReturn(() -> true);
+
+		jobExecutor = new JobExecutor(List.of(job), jobRunRedisRepository, schedulerLeaseManager);
+		ReflectionTestUtils.setField(jobExecutor, "workers", 2);
+		ReflectionTestUtils.setField(jobExecutor, "maxAttempts", 2);
+		jobExecutor.init();
+	}
+
+	@AfterEach
+	void tearDown() {
+		jobExecutor.shutdown();
+	}
+
+	@Test
+	@DisplayName("파티션 안의 개별 실패는 집계되어 실행이 PARTIAL 로 기록되고 완료 처리를 하지 않음")
+	void run_partial_when_items_fail() {
+		// given
+		when(job.createPartitions(PERIOD)).thenReturn(List.of(first, second));
+		when(job.process(first, PERIOD)).thenReturn(new JobPartitionResult(100, 2));
+		when(job.process(second, PERIOD)).thenReturn(JobPartitionResult.of(100));
+
+		// when
+		JobExecutor.JobRunResult result = jobExecutor.run(JOB_NAME, PERIOD);
+
+		// then
+		assertThat(result.state()).isEqualTo("PARTIAL");
+		assertThat(result.failedPartitions()).isZero();
+		assertThat(result.processed()).isEqualTo(200);
+		assertThat(result.failedItems()).isEqualTo(2);
+		verify(jobRunRedisRepository).startRun(JOB_NAME, PERIOD, List.of(first, second));
+		verify(jobRunRedisRepository).updatePartition(eq(JOB_NAME), eq(PERIOD), eq(first), eq("PARTIAL"), eq(1),
+			eq(100L), anyLong(), anyString());
+		verify(job, times(1)).process(first, PERIOD);
+		verify(job, never()).onCompleted(anyString());
+	}
+
+	@Test
+	@DisplayName("예외로 실패한 파티션은 max-attempts 까지만 다시 실행하고 실행을 FAILED 로 기록")
+	void run_failed_after_max_attempts() {
+		// given
+		when(job.createPartitions(PERIOD)).thenReturn(List.of(first, second));
+		when(job.process(first, PERIOD)).thenReturn(JobPartitionResult.of(100));
+		when(job.process(second, PERIOD)).thenThrow(new IllegalStateException("db down"));
+
+		// when
+		JobExecutor.JobRunResult result = jobExecutor.run(JOB_NAME, PERIOD);
+
+		// then
+		assertThat(result.state()).isEqualTo("FAILED");
+		assertThat(result.succeededPartitions()).isEqualTo(1);
+		assertThat(result.failedPartitions()).isEqualTo(1);
+		verify(job, times(2)).process(second, PERIOD);
+		verify(job, never()).onCompleted(anyString());
+	}
+
+	@Test
+	@DisplayName("실패 파티션 재실행은 지정한 기간의 실행 현황만 읽고 갱신")
+	void retryFailed_uses_period() {
+		// given
+		when(jobRunRedisRepository.getSummary(JOB_NAME, PERIOD)).thenReturn(Map.of(
+			"parameter", PERIOD, "totalPartitions", "2", "processed", "100", "failedItems", "0"));
+		when(jobRunRedisRepository.findPartitionsByState(JOB_NAME, PERIOD, "FAILED")).thenReturn(List.of(second));
+		when(job.process(second, PERIOD)).thenReturn(JobPartitionResult.of(100));
+
+		// when
+		JobExecutor.JobRunResult result = jobExecutor.retryFailed(JOB_NAME, PERIOD);
+
+		// then
+		assertThat(result.state()).isEqualTo("COMPLETED");
+		assertThat(result.succeededPartitions()).isEqualTo(2);
+		assertThat(result.processed()).isEqualTo(200);
+		verify(jobRunRedisRepository, never()).getLatestParameter(anyString());
+		verify(jobRunRedisRepository, never()).updateSummary(eq(JOB_NAME), eq("2025-02"), anyMap());
+		verify(jobRunRedisRepository).updatePartition(eq(JOB_NAME), eq(PERIOD), eq(second), eq("SUCCESS"), anyInt(),
+			eq(100L), anyLong(), anyString());
+		verify(job).onCompleted(PERIOD);
+	}
+}
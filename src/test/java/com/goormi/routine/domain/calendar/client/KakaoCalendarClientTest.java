@@ -0,0 +1,276 @@
+package com.goormi.routine.domain.calendar.client;
+
+import com.goormi.routine.domain.calendar.dto.KakaoCalendarDto.GetCalendarsResponse;
+import com.goormi.routine.domain.calendar.dto.KakaoCalendarDto.GetEventsRequest;
+import com.goormi.routine.domain.calendar.exception.KakaoApiException;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 로컬 HTTP 서버(JDK HttpServer)를 카카오 API 대신 띄워 클라이언트 동작을 확인
+ * - 응답 지연/429 응답을 흉내 내어 타임아웃, 속도 제한, 서킷 브레이커 동작을 확인
+ */
+public class KakaoCalendarClientTest {
+
+    private static final String CALENDARS_JSON = "{\"calendars\":[{\"id\":\"user_1\",\"name\":\"루틴\"},{\"id\":\"user_2\",\"name\":\"그룹\"}]}";
+
+    private HttpServer server;
+    private ExecutorService serverExecutor;
+    private ConnectionProvider connectionProvider;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger maxInFlight = new AtomicInteger();
+    private final AtomicInteger requestCount = new AtomicInteger();
+    private volatile long responseDelayMs = 0;
+    private volatile int responseStatus = 200;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        serverExecutor = Executors.newCachedThreadPool();
+        server.setExecutor(serverExecutor);
+        server.createContext("/calendars", exchange -> respond(exchange, CALENDARS_JSON));
+        server.createContext("/events", exchange -> respond(exchange, "{\"events\":[]}"));
+        server.start();
+
+        connectionProvider = ConnectionProvider.builder("kakao-api-test").maxConnections(50).build();
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+        serverExecutor.shutdownNow();
+        connectionProvider.dispose();
+    }
+
+    @Test
+    @DisplayName("서브캘린더 목록 조회 - 응답 파싱")
+    void getCalendars() {
+        // given
+        KakaoCalendarClient client = createClient(5000, 10, 100);
+
+        // when
+        GetCalendarsResponse response = client.getCalendars(1L, "token");
+
+        // then
+        assertThat(response.calendars()).hasSize(2);
+        assertThat(response.calendars()[0].id()).isEqualTo("user_1");
+    }
+
+    @Test
+    @DisplayName("동시 호출 수 제한 - 설정한 개수 이상 동시에 요청하지 않음")
+    void limitConcurrency() {
+        // given
+        responseDelayMs = 100;
+        KakaoCalendarClient client = createClient(5000, 2, 100);
+
+        // when
+        Long completed = Flux.range(0, 10)
+                .flatMap(i -> client.getCalendarsAsync(1L, "token"))
+                .count()
+                .block();
+
+        // then
+        assertThat(completed).isEqualTo(10);
+        assertThat(maxInFlight.get()).isLessThanOrEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("응답 지연 시 타임아웃으로 실패")
+    void responseTimeout() {
+        // given
+        responseDelayMs = 1000;
+        KakaoCalendarClient client = createClient(200, 10, 100);
+        GetEventsRequest request = new GetEventsRequest("user_1", "2025-01-01T00:00:00Z", "2025-01-31T00:00:00Z");
+
+        // when & then
+        assertThatThrownBy(() -> client.getEventsAsync(1L, "token", request).block())
+                .isInstanceOf(Exception.class);
+    }
+
+    @Test
+    @DisplayName("대기열이 가득 차면 즉시 실패")
+    void rejectWhenQueueFull() {
+        // given
+        responseDelayMs = 500;
+        KakaoCalendarClient client = createClient(5000, 1, 1);
+        Mono<GetCalendarsResponse> first = client.getCalendarsAsync(1L, "token").cache();
+        first.subscribe();
+
+        // when & then
+        assertThatThrownBy(() -> client.getCalendarsAsync(1L, "token").block())
+                .isInstanceOf(KakaoApiException.class);
+        assertThat(first.block().calendars()).hasSize(2);
+    }
+
+    @Test
+    @DisplayName("호출자가 취소한 대기 중 호출은 서버로 보내지 않음")
+    void skipCancelledPendingCall() throws InterruptedException {
+        // given
+        responseDelayMs = 300;
+        KakaoCalendarClient client = createClient(5000, 1, 10);
+        Mono<GetCalendarsResponse> first = client.getCalendarsAsync(1L, "token").cache();
+        first.subscribe();
+
+        // when
+        assertThatThrownBy(() -> client.getCalendarsAsync(1L, "token").block(Duration.ofMillis(50)))
+                .isInstanceOf(IllegalStateException.class);
+        first.block();
+        Thread.sleep(200);
+
+        // then
+        assertThat(requestCount.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("사용자별 속도 제한 - 같은 사용자의 호출은 간격을 두고 실행")
+    void rateLimitPerUser() {
+        // given
+        KakaoApiRateLimiter rateLimiter = new KakaoApiRateLimiter(100, 100, 5, 1, 5000);
+        KakaoCalendarClient client = createClient(5000, rateLimiter, new KakaoApiCircuitBreaker(100, 100, 50, 30000, 1));
+
+        // when
+        long startedAt = System.currentTimeMillis();
+        Long completed = Flux.range(0, 3)
+                .flatMap(i -> client.getCalendarsAsync(1L, "userA"))
+                .count()
+                .block();
+        long elapsed = System.currentTimeMillis() - startedAt;
+
+        // then
+        assertThat(completed).isEqualTo(3);
+        assertThat(elapsed).isGreaterThanOrEqualTo(350);
+        assertThat(rateLimiter.getMetrics().get("delayed")).isEqualTo(2L);
+    }
+
+    @Test
+    @DisplayName("속도 제한 대기 시간이 최대 대기 시간을 넘으면 호출하지 않고 실패")
+    void rejectWhenRateLimitWaitTooLong() {
+        // given
+        KakaoApiRateLimiter rateLimiter = new KakaoApiRateLimiter(100, 100, 1, 1, 100);
+        KakaoCalendarClient client = createClient(5000, rateLimiter, new KakaoApiCircuitBreaker(100, 100, 50, 30000, 1));
+        client.getCalendars(1L, "userA");
+
+        // when & then
+        assertThatThrownBy(() -> client.getCalendarsAsync(1L, "userA").block())
+                .isInstanceOf(KakaoApiException.class)
+                .extracting("errorCode").isEqualTo("RATE_LIMITED");
+        assertThat(requestCount.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("429 응답이 이어지면 서킷이 열리고 이후 호출은 서버로 보내지 않음")
+    void openCircuitOnThrottling() {
+        // given
+        responseStatus = 429;
+        KakaoApiRateLimiter rateLimiter = new KakaoApiRateLimiter(1000, 1000, 1000, 1000, 5000);
+        KakaoApiCircuitBreaker circuitBreaker = new KakaoApiCircuitBreaker(4, 4, 50, 60000, 1);
+        KakaoCalendarClient client = createClient(5000, rateLimiter, circuitBreaker);
+
+        // when
+        for (int i = 0; i < 4; i++) {
+            assertThatThrownBy(() -> client.getCalendarsAsync(1L, "token").block())
+                    .isInstanceOf(WebClientResponseException.class);
+        }
+
+        // then
+        assertThat(circuitBreaker.getState()).isEqualTo(KakaoApiCircuitBreaker.State.OPEN);
+        assertThatThrownBy(() -> client.getCalendarsAsync(1L, "token").block())
+                .isInstanceOf(KakaoApiException.class)
+                .extracting("errorCode").isEqualTo("CIRCUIT_OPEN");
+        assertThat(requestCount.get()).isEqualTo(4);
+        assertThat(rateLimiter.getMetrics().get("throttledResponses")).isEqualTo(4L);
+    }
+
+    @Test
+    @DisplayName("응답 지연으로 열린 서킷은 대기 후 시험 호출이 성공하면 닫힘")
+    void closeCircuitAfterHalfOpenProbe() throws InterruptedException {
+        // given
+        responseDelayMs = 500;
+        KakaoApiCircuitBreaker circuitBreaker = new KakaoApiCircuitBreaker(2, 2, 50, 300, 1);
+        KakaoCalendarClient client = createClient(100,
+                new KakaoApiRateLimiter(1000, 1000, 1000, 1000, 5000), circuitBreaker);
+        for (int i = 0; i < 2; i++) {
+            assertThatThrownBy(() -> client.getCalendarsAsync(1L, "token").block()).isInstanceOf(Exception.class);
+        }
+        assertThat(circuitBreaker.getState()).isEqualTo(KakaoApiCircuitBreaker.State.OPEN);
+
+        // when
+        responseDelayMs = 0;
+        Thread.sleep(400);
+
+        // then
+        assertThat(circuitBreaker.getState()).isEqualTo(KakaoApiCircuitBreaker.State.HALF_OPEN);
+        assertThat(client.getCalendarsAsync(1L, "token").block().calendars()).hasSize(2);
+        assertThat(circuitBreaker.getState()).isEqualTo(KakaoApiCircuitBreaker.State.CLOSED);
+    }
+
+    private KakaoCalendarClient createClient(long responseTimeoutMs, int maxConcurrency, int maxPending) {
+        String baseUrl = "http://localhost:" + server.getAddress().getPort();
+        return new KakaoCalendarClient(
+                WebClientConfig.kakaoWebClient(baseUrl, connectionProvider, 1000, responseTimeoutMs),
+                new KakaoApiConcurrencyLimiter(maxConcurrency, maxPending),
+                new KakaoApiRateLimiter(1000, 1000, 1000, 1000, 5000),
+                new KakaoApiCircuitBreaker(100, 100, 50, 30000, 1),
+                responseTimeoutMs, 5000);
+    }
+
+    private KakaoCalendarClient createClient(long responseTimeoutMs, KakaoApiRateLimiter rateLimiter,
+                                             KakaoApiCircuitBreaker circuitBreaker) {
+        String baseUrl = "http://localhost:" + server.getAddress().getPort();
+        return new KakaoCalendarClient(
+                WebClientConfig.kakaoWebClient(baseUrl, connectionProvider, 1000, responseTimeoutMs),
+                new KakaoApiConcurrencyLimiter(10, 100), rateLimiter, circuitBreaker,
+                responseTimeoutMs, 5000);
+    }
+
+    private void respond(HttpExchange exchange, String body) throws IOException {
+        requestCount.incrementAndGet();
+        int current = inFlight.incrementAndGet();
+        maxInFlight.accumulateAndGet(current, Math::max);
+        try {
+            if (responseDelayMs > 0) {
+                Thread.sleep(responseDelayMs);
+            }
+            int status = responseStatus;
+            if (status != 200) {
+                // 카카오 제한 응답 흉내 (Retry-After 0 이면 앱 버킷을 멈추지 않음)
+                body = "{\"code\":-10,\"msg\":\"API limit has been exceeded.\"}";
+                exchange.getResponseHeaders().add("Retry-After", "0");
+            }
+            byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json;charset=UTF-8");
+            exchange.sendResponseHeaders(status, bytes.length);
+            try (OutputStream os = exchange.getResponseBody()) {
+                os.write(bytes);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (IOException e) {
+            // 클라이언트가 타임아웃으로 연결을 끊은 경우
+        } finally {
+            inFlight.decrementAndGet();
+            exchange.close();
+        }
+    }
+}
@@ -0,0 +1,133 @@
+package com.goormi.routine.domain.calendar.service;
+
+import com.goormi.routine.domain.calendar.entity.CalendarOutbox;
+import com.goormi.routine.domain.calendar.entity.CalendarOutbox.Operation;
+import com.goormi.routine.domain.calendar.entity.CalendarOutbox.Status;
+import com.goormi.routine.domain.calendar.repository.CalendarOutboxRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * ci 프로필에서는 캘린더 연동 빈이 꺼져 있으므로 서비스를 직접 생성하여 아웃박스 상태 전이를 확인
+ */
+@SpringBootTest
+@ActiveProfiles("ci")
+@Transactional
+class CalendarOutboxServiceTest {
+
+    @Autowired
+    private CalendarOutboxRepository calendarOutboxRepository;
+
+    private CalendarOutboxService calendarOutboxService;
+
+    @BeforeEach
+    void setUp() {
+        calendarOutboxService = new CalendarOutboxService(calendarOutboxRepository);
+        ReflectionTestUtils.setField(calendarOutboxService, "maxAttempts", 3);
+        ReflectionTestUtils.setField(calendarOutboxService, "backoffBaseMs", 1000L);
+        ReflectionTestUtils.setField(calendarOutboxService, "backoffMaxMs", 60000L);
+        ReflectionTestUtils.setField(calendarOutboxService, "lockTimeoutMs", 60000L);
+    }
+
+    @Test
+    @DisplayName("대기 중인 같은 작업은 한 번만 저장")
+    void enqueue_coalesce() {
+        // when
+        calendarOutboxService.enqueue(Operation.GROUP_SCHEDULE_UPDATE, 1L, 10L, null);
+        calendarOutboxService.enqueue(Operation.GROUP_SCHEDULE_UPDATE, 1L, 10L, null);
+        calendarOutboxService.enqueue(Operation.GROUP_SCHEDULE_UPDATE, 1L, 11L, null);
+
+        // then
+        assertThat(calendarOutboxRepository.countByStatus(Status.PENDING)).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("처리할 차례가 된 작업만 선점하고, 선점한 작업은 다시 가져가지 않음")
+    void claimDue() {
+        // given
+        CalendarOutbox due = calendarOutboxRepository.save(CalendarOutbox.create(Operation.PERSONAL_CREATE, 1L, 1L, null));
+        CalendarOutbox later = CalendarOutbox.create(Operation.PERSONAL_CREATE, 1L, 2L, null);
+        later.markRetry(LocalDateTime.now().plusHours(1), "이전 실패");
+        calendarOutboxRepository.saveAndFlush(later);
+
+        // when
+        List<CalendarOutbox> claimed = calendarOutboxService.claimDue(10);
+        List<CalendarOutbox> claimedAgain = calendarOutboxService.claimDue(10);
+
+        // then
+        assertThat(claimed).extracting(CalendarOutbox::getId).containsExactly(due.getId());
+        assertThat(claimed.get(0).getStatus()).isEqualTo(Status.PROCESSING);
+        assertThat(claimed.get(0).getAttempts()).isEqualTo(1);
+        assertThat(claimedAgain).isEmpty();
+    }
+
+    @Test
+    @DisplayName("실패한 작업은 시도 횟수에 따라 간격을 늘려 다시 예약")
+    void fail_backoff() {
+        // given
+        Long id = calendarOutboxRepository.save(CalendarOutbox.create(Operation.PERSONAL_UPDATE, 1L, 1L, null)).getId();
+
+        // when: 첫 번째 실패
+        calendarOutboxService.claimDue(10);
+        LocalDateTime firstFailedAt = LocalDateTime.now();
+        calendarOutboxService.fail(id, new RuntimeException("카카오 응답 지연"));
+        CalendarOutbox afterFirst = calendarOutboxRepository.findById(id).orElseThrow();
+
+        // then: 1초 (+최대 20%) 뒤로 예약되고, 그 전에는 선점되지 않음
+        assertThat(afterFirst.getStatus()).isEqualTo(Status.PENDING);
+        assertThat(afterFirst.getLastError()).contains("카카오 응답 지연");
+        assertThat(afterFirst.getNextAttemptAt())
+                .isAfterOrEqualTo(firstFailedAt.plusNanos(1_000_000_000L))
+                .isBefore(firstFailedAt.plusNanos(1_300_000_000L));
+        assertThat(calendarOutboxService.claimDue(10)).isEmpty();
+
+        // when: 두 번째 실패 (예약 시각을 당겨서 바로 선점)
+        afterFirst.markRetry(LocalDateTime.now().minusSeconds(1), afterFirst.getLastError());
+        calendarOutboxRepository.saveAndFlush(afterFirst);
+        calendarOutboxService.claimDue(10);
+        LocalDateTime secondFailedAt = LocalDateTime.now();
+        calendarOutboxService.fail(id, new RuntimeException("카카오 응답 지연"));
+        CalendarOutbox afterSecond = calendarOutboxRepository.findById(id).orElseThrow();
+
+        // then: 간격이 2배로 늘어남
+        assertThat(afterSecond.getAttempts()).isEqualTo(2);
+        assertThat(afterSecond.getNextAttemptAt())
+                .isAfterOrEqualTo(secondFailedAt.plusNanos(2_000_000_000L))
+                .isBefore(secondFailedAt.plusNanos(2_600_000_000L));
+    }
+
+    @Test
+    @DisplayName("최대 시도 횟수를 넘기면 DEAD 로 옮기고 더 이상 선점하지 않음")
+    void fail_deadLetter() {
+        // given
+        Long id = calendarOutboxRepository.save(CalendarOutbox.create(Operation.PERSONAL_DELETE, 1L, 1L, "event-1")).getId();
+
+        // when
+        for (int attempt = 1; attempt <= 3; attempt++) {
+            CalendarOutbox outbox = calendarOutboxRepository.findById(id).orElseThrow();
+            outbox.markRetry(LocalDateTime.now().minusSeconds(1), outbox.getLastError());
+            calendarOutboxRepository.saveAndFlush(outbox);
+
+            assertThat(calendarOutboxService.claimDue(10)).hasSize(1);
+            calendarOutboxService.fail(id, new IllegalStateException("삭제 실패 " + attempt));
+        }
+
+        // then
+        CalendarOutbox dead = calendarOutboxRepository.findById(id).orElseThrow();
+        assertThat(dead.getStatus()).isEqualTo(Status.DEAD);
+        assertThat(dead.getAttempts()).isEqualTo(3);
+        assertThat(dead.getLastError()).contains("삭제 실패 3");
+        assertThat(calendarOutboxService.claimDue(10)).isEmpty();
+    }
+}
@@ -13,6 +13,7 @@ import com.goormi.routine.domain.notification.dto.NotificationResponse;
 import com.goormi.routine.domain.notification.entity.Notification;
 import com.goormi.routine.domain.notification.entity.NotificationType;
 import com.goormi.routine.domain.notification.repository.NotificationRepository;
+import com.goormi.routine.domain.notification.repository.NotificationSenderRepository;
 import com.goormi.routine.domain.user.entity.User;
 import com.goormi.routine.domain.user.repository.UserRepository;
 import org.junit.jupiter.api.BeforeEach;
@@ -39,6 +40,8 @@ class NotificationServiceTest {
     @Autowired
     private NotificationRepository notificationRepository;
     @Autowired
+    private NotificationSenderRepository notificationSenderRepository;
+    @Autowired
     private UserRepository userRepository;
     @Autowired
     private GroupService groupService;
@@ -113,6 +116,47 @@ class NotificationServiceTest {
         assertThat(notifications).hasSize(1);
     }
 
+    @Test
+    @DisplayName("짧은 시간 내 그룹 인증 요청 알림은 하나로 합쳐짐")
+    void coalesceGroupTodayAuthRequestNotification() {
+        // given
+        NotificationType type = NotificationType.GROUP_TODAY_AUTH_REQUEST;
+        notificationService.createNotification(type, user.getId(), leader.getId(), savedGroup.getGroupId());
+
+        // when
+        NotificationResponse response = notificationService.createNotification(type, leader.getId(), leader.getId(), savedGroup.getGroupId());
+
+        // then
+        assertThat(response.getAggregateCount()).isEqualTo(2);
+        assertThat(response.getContent()).isEqualTo(leader.getNickname() + "님 외 1명이 " + savedGroup.getGroupName() + "의 그룹 인증을 요청했습니다.");
+
+        List<NotificationResponse> responses = notificationService.getNotificationsByNotificationType(leader.getId(), type);
+        assertThat(responses).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("같은 발신자의 반복 인증 요청은 인원 수에 더하지 않고, 합치기 구간은 첫 알림 시각 기준")
+    void coalesceGroupTodayAuthRequestNotification_distinctSenders() {
+        // given
+        NotificationType type = NotificationType.GROUP_TODAY_AUTH_REQUEST;
+        NotificationResponse first = notificationService.createNotification(type, user.getId(), leader.getId(), savedGroup.getGroupId());
+
+        // when
+        NotificationResponse repeated = notificationService.createNotification(type, user.getId(), leader.getId(), savedGroup.getGroupId());
+        NotificationResponse other = notificationService.createNotification(type, leader.getId(), leader.getId(), savedGroup.getGroupId());
+        NotificationResponse repeatedAgain = notificationService.createNotification(type, user.getId(), leader.getId(), savedGroup.getGroupId());
+
+        // then
+        assertThat(repeated.getAggregateCount()).isEqualTo(1);
+        assertThat(other.getAggregateCount()).isEqualTo(2);
+        assertThat(repeatedAgain.getAggregateCount()).isEqualTo(2);
+        assertThat(repeatedAgain.getId()).isEqualTo(first.getId());
+        assertThat(repeatedAgain.getCreatedAt()).isEqualTo(first.getCreatedAt());
+        assertThat(notificationSenderRepository.existsByNotificationIdAndSenderId(first.getId(), user.getId())).isTrue();
+        assertThat(notificationSenderRepository.existsByNotificationIdAndSenderId(first.getId(), leader.getId())).isTrue();
+        assertThat(notificationSenderRepository.count()).isEqualTo(2);
+    }
+
     @Test
     @DisplayName("수신자 ID로 알림 목록 조회")
     void getNotificationsByReceiver() {
@@ -0,0 +1,65 @@
+package com.goormi.routine.domain.ranking.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.goormi.routine.common.scheduler.job.JobPartition;
+import com.goormi.routine.domain.group.repository.GroupRepository;
+import com.goormi.routine.domain.ranking.repository.RankingRepository;
+
+class MonthlyRankingResetJobTest {
+
+	private RankingService rankingService;
+	private RankingRepository rankingRepository;
+	private GroupRepository groupRepository;
+	private MonthlyRankingResetJob monthlyRankingResetJob;
+
+	@BeforeEach
+	void setUp() {
+		rankingService = mock(RankingService.class);
+		rankingRepository = mock(RankingRepository.class);
+		groupRepository = mock(GroupRepository.class);
+		monthlyRankingResetJob = new MonthlyRankingResetJob(rankingService, rankingRepository, groupRepository);
+		ReflectionTestUtils.setField(monthlyRankingResetJob, "partitionSize", 10L);
+	}
+
+	@Test
+	@DisplayName("이미 초기화한 달이면 파티션을 만들지 않음")
+	void createPartitions_skip_when_already_reset() {
+		// given
+		when(rankingService.isMonthlyResetNeeded("2025-01")).thenReturn(false);
+
+		// when
+		List<JobPartition> partitions = monthlyRankingResetJob.createPartitions("2025-01");
+
+		// then
+		assertThat(partitions).isEmpty();
+		verify(groupRepository, never()).findMaxGroupId();
+	}
+
+	@Test
+	@DisplayName("초기화 전인 달이면 그룹 ID 범위로 파티션을 나눔")
+	void createPartitions_when_reset_needed() {
+		// given
+		when(rankingService.isMonthlyResetNeeded("2025-01")).thenReturn(true);
+		when(rankingRepository.count()).thenReturn(1L);
+		when(groupRepository.findMaxGroupId()).thenReturn(25L);
+
+		// when
+		List<JobPartition> partitions = monthlyRankingResetJob.createPartitions("2025-01");
+
+		// then
+		assertThat(partitions).containsExactly(
+			new JobPartition(0, 1, 10), new JobPartition(1, 11, 20), new JobPartition(2, 21, 25));
+	}
+}
@@ -0,0 +1,122 @@
+package com.goormi.routine.domain.ranking.service;
+
+import com.goormi.routine.domain.calendar.service.CalendarIntegrationService;
+import com.goormi.routine.domain.group.dto.request.GroupCreateRequest;
+import com.goormi.routine.domain.group.entity.GroupType;
+import com.goormi.routine.domain.group.service.GroupService;
+import com.goormi.routine.domain.ranking.entity.Ranking;
+import com.goormi.routine.domain.ranking.repository.RankingRepository;
+import com.goormi.routine.domain.user.entity.User;
+import com.goormi.routine.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("ci")
+@Transactional
+public class RankingServiceTest {
+    @Autowired
+    private RankingService rankingService;
+    @Autowired
+    private RankingRepository rankingRepository;
+    @Autowired
+    private GroupService groupService;
+    @Autowired
+    private UserRepository userRepository;
+
+    // 캘린더 통합 서비스를 Mock으로 대체하여 실제 이벤트 처리 방지
+    @MockitoBean
+    private CalendarIntegrationService calendarIntegrationService;
+
+    private User user;
+    private User otherUser;
+    private Long groupId;
+
+    @BeforeEach
+    void setUp() {
+        user = userRepository.save(User.builder()
+                .kakaoId("rankingUser")
+                .email("ranking@kakao.com")
+                .nickname("rankingUser")
+                .build());
+        otherUser = userRepository.save(User.builder()
+                .kakaoId("otherUser")
+                .email("other@kakao.com")
+                .nickname("otherUser")
+                .build());
+
+        GroupCreateRequest request = GroupCreateRequest.builder()
+                .groupName("ranking group")
+                .groupDescription("ranking group description")
+                .groupType(GroupType.FREE)
+                .maxMembers(3)
+                .isAlarm(false)
+                .build();
+        groupId = groupService.createGroup(user.getId(), request).getGroupId();
+    }
+
+    @Test
+    @DisplayName("사용자 총 점수 조회 - 그룹 랭킹 점수만 합산")
+    void getTotalScoreByUser() {
+        // given
+        saveRanking(1L, user.getId(), groupId, 30, "2025-01");
+        saveRanking(2L, user.getId(), groupId, 50, "2025-02");
+        saveRanking(3L, user.getId(), null, 100, "2025-02");
+        saveRanking(4L, otherUser.getId(), groupId, 70, "2025-02");
+
+        // when
+        long totalScore = rankingService.getTotalScoreByUser(user.getId());
+
+        // then
+        assertThat(totalScore).isEqualTo(80);
+    }
+
+    @Test
+    @DisplayName("사용자 총 점수 조회 - 랭킹이 없으면 0")
+    void getTotalScoreByUser_empty() {
+        // when
+        long totalScore = rankingService.getTotalScoreByUser(otherUser.getId());
+
+        // then
+        assertThat(totalScore).isZero();
+    }
+
+    @Test
+    @DisplayName("그룹 점수 반영 - 같은 월 랭킹 행 하나에 점수가 누적됨")
+    void updateGroupScore_accumulates() {
+        // given
+        String monthYear = LocalDate.now().format(DateTimeFormatter.ofPattern("yyyy-MM"));
+
+        // when
+        rankingService.updateGroupScore(otherUser.getId(), groupId, 10, monthYear);
+        rankingService.updateGroupScore(otherUser.getId(), groupId, 25, monthYear);
+
+        // then
+        Ranking ranking = rankingRepository.findByUserIdAndGroupIdAndMonthYear(otherUser.getId(), groupId, monthYear)
+                .orElseThrow();
+        assertThat(ranking.getScore()).isEqualTo(35);
+    }
+
+    private void saveRanking(Long rankingId, Long userId, Long groupId, int score, String monthYear) {
+        rankingRepository.save(Ranking.builder()
+                .rankingId(rankingId)
+                .userId(userId)
+                .groupId(groupId)
+                .score(score)
+                .monthYear(monthYear)
+                .updatedAt(LocalDateTime.now())
+                .build());
+    }
+}
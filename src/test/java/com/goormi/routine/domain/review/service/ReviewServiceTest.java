@@ -0,0 +1,107 @@
+package com.goormi.routine.domain.review.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.YearMonth;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.goormi.routine.common.scheduler.job.JobPartitionResult;
+import com.goormi.routine.domain.calendar.service.CalendarIntegrationService;
+import com.goormi.routine.domain.notification.service.NotificationService;
+import com.goormi.routine.domain.review.dto.MonthlyReviewResponse;
+import com.goormi.routine.domain.review.entity.MonthlyReview;
+import com.goormi.routine.domain.review.repository.MonthlyReviewRepository;
+import com.goormi.routine.domain.review.repository.ReviewRedisRepository;
+import com.goormi.routine.domain.user.entity.User;
+import com.goormi.routine.domain.user.repository.UserRepository;
+
+@SpringBootTest
+@ActiveProfiles("ci")
+@Transactional
+class ReviewServiceTest {
+
+	@Autowired
+	private ReviewService reviewService;
+	@Autowired
+	private MonthlyReviewRepository monthlyReviewRepository;
+	@Autowired
+	private UserRepository userRepository;
+	@Autowired
+	private ObjectMapper objectMapper;
+
+	// ci 프로필에는 Redis 가 없으므로 회고 캐시를 Mock 으로 대체
+	@MockitoBean
+	private ReviewRedisRepository reviewRedisRepository;
+	@MockitoBean
+	private NotificationService notificationService;
+	@MockitoBean
+	private CalendarIntegrationService calendarIntegrationService;
+
+	private User user;
+	private String closedMonth;
+
+	@BeforeEach
+	void setUp() {
+		user = userRepository.save(User.builder()
+			.kakaoId("reviewUser")
+			.email("review@kakao.com")
+			.nickname("reviewUser")
+			.build());
+		closedMonth = YearMonth.now().minusMonths(1).toString();
+		when(reviewRedisRepository.getReviewDataBatch(anyList(), anyString())).thenReturn(Map.of());
+	}
+
+	@Test
+	@DisplayName("월 마감 배치 전에 조회로 저장된 회고가 있어도 배치는 실패하지 않고 메시지를 채워 넣음")
+	void sendMonthlyReviewMessages_fills_message_on_viewed_review() throws Exception {
+		// given
+		when(reviewRedisRepository.getReviewDataAndRefresh(user.getId().toString(), closedMonth)).thenReturn(null);
+		MonthlyReviewResponse viewed = reviewService.getMonthlyReview(user.getId(), closedMonth);
+		assertThat(viewed.getMessageContent()).isNull();
+
+		// when
+		JobPartitionResult result = reviewService.sendMonthlyReviewMessages(user.getId(), user.getId(), closedMonth);
+
+		// then
+		assertThat(result.failed()).isZero();
+		verify(reviewRedisRepository, never()).saveFailedMessage(eq(user.getId()), any(), any());
+		MonthlyReview stored = monthlyReviewRepository.findByUserIdAndMonthYear(user.getId(), closedMonth).orElseThrow();
+		MonthlyReviewResponse storedReview = objectMapper.readValue(stored.getReviewData(), MonthlyReviewResponse.class);
+		assertThat(storedReview.getMessageContent()).isNotBlank();
+		assertThat(storedReview.getMessageSent()).isTrue();
+	}
+
+	@Test
+	@DisplayName("배치 전송본이 저장된 뒤의 조회는 저장된 회고를 덮어쓰지 않음")
+	void getMonthlyReview_keeps_batch_review() throws Exception {
+		// given
+		reviewService.sendMonthlyReviewMessages(user.getId(), user.getId(), closedMonth);
+		when(reviewRedisRepository.getReviewDataAndRefresh(user.getId().toString(), closedMonth)).thenReturn(null);
+
+		// when
+		MonthlyReviewResponse review = reviewService.getMonthlyReview(user.getId(), closedMonth);
+
+		// then
+		assertThat(review.getMessageSent()).isTrue();
+		assertThat(monthlyReviewRepository.findAll().stream()
+			.filter(monthlyReview -> user.getId().equals(monthlyReview.getUserId()))
+			.count()).isEqualTo(1);
+	}
+}
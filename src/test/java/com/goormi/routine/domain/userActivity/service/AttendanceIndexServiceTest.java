@@ -0,0 +1,178 @@
+package com.goormi.routine.domain.userActivity.service;
+
+import com.goormi.routine.domain.userActivity.entity.ActivityType;
+import com.goormi.routine.domain.userActivity.repository.AttendanceBitmapRepository;
+import com.goormi.routine.domain.userActivity.repository.UserActivityRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisKeyCommands;
+import org.springframework.data.redis.connection.RedisStringCommands;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * ci 프로필에는 Redis 가 없으므로 RedisTemplate 을 목으로 두고 재구성 명령 순서와 DB 대체 동작을 확인
+ */
+class AttendanceIndexServiceTest {
+
+    private static final Long USER_ID = 1L;
+
+    private StringRedisTemplate redisTemplate;
+    private RedisConnection connection;
+    private RedisKeyCommands keyCommands;
+    private RedisStringCommands stringCommands;
+    private ValueOperations<String, String> valueOperations;
+    private UserActivityRepository userActivityRepository;
+    private AttendanceIndexService attendanceIndexService;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        redisTemplate = mock(StringRedisTemplate.class);
+        connection = mock(RedisConnection.class);
+        keyCommands = mock(RedisKeyCommands.class);
+        stringCommands = mock(RedisStringCommands.class);
+        valueOperations = mock(ValueOperations.class);
+        userActivityRepository = mock(UserActivityRepository.class);
+        when(connection.keyCommands()).thenReturn(keyCommands);
+        when(connection.stringCommands()).thenReturn(stringCommands);
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+
+        attendanceIndexService = new AttendanceIndexService(
+                new AttendanceBitmapRepository(redisTemplate), userActivityRepository);
+    }
+
+    @Test
+    @DisplayName("인덱스 재구성 시 임시 키에 DB 기준 비트를 채우고, 시작 시점 버전과 함께 교체 스크립트 실행")
+    @SuppressWarnings("unchecked")
+    void findAttendances_rebuild_into_temp_keys() {
+        // given
+        LocalDate date = LocalDate.of(2025, 3, 2);
+        givenRebuild(date, 1L);
+
+        // when
+        Optional<Map<ActivityType, BitSet>> result = attendanceIndexService.findAttendances(
+                USER_ID, Set.of(ActivityType.GROUP_AUTH_COMPLETE), date, date);
+
+        // then
+        assertThat(result).isPresent();
+        verify(stringCommands).setBit(
+                argThat(rawKey -> new String(rawKey, StandardCharsets.UTF_8)
+                        .startsWith("attendance:1:GROUP_AUTH_COMPLETE:rebuild:")),
+                eq(date.toEpochDay()), eq(true));
+        verify(stringCommands, never()).setBit(eq(rawKey("attendance:1:GROUP_AUTH_COMPLETE")), anyLong(), eq(true));
+
+        ArgumentCaptor<List<String>> keys = ArgumentCaptor.forClass(List.class);
+        verify(redisTemplate).execute(any(RedisScript.class), keys.capture(), eq("3"));
+        assertThat(keys.getValue()).startsWith("attendance:1:version", "attendance:1:indexed");
+        for (ActivityType activityType : AttendanceIndexService.INDEXED_TYPES) {
+            assertThat(keys.getValue()).contains("attendance:1:" + activityType.name());
+        }
+        verify(redisTemplate).delete("attendance:1:rebuilding");
+    }
+
+    @Test
+    @DisplayName("재구성 도중 출석 비트가 바뀌어 교체하지 못하면 DB 조회로 대체")
+    void findAttendances_rebuild_aborted_when_version_changed() {
+        // given
+        LocalDate date = LocalDate.of(2025, 3, 2);
+        givenRebuild(date, 0L);
+
+        // when
+        Optional<Map<ActivityType, BitSet>> result = attendanceIndexService.findAttendances(
+                USER_ID, Set.of(ActivityType.GROUP_AUTH_COMPLETE), date, date);
+
+        // then
+        assertThat(result).isEmpty();
+        verify(redisTemplate).delete("attendance:1:rebuilding");
+    }
+
+    @Test
+    @DisplayName("다른 요청이 재구성 중이면 다시 재구성하지 않고 DB 조회로 대체")
+    void findAttendances_skip_rebuild_when_locked() {
+        // given
+        when(redisTemplate.hasKey("attendance:1:indexed")).thenReturn(false);
+        when(valueOperations.setIfAbsent(eq("attendance:1:rebuilding"), eq("1"), any(Duration.class)))
+                .thenReturn(false);
+
+        // when
+        Optional<Map<ActivityType, BitSet>> result = attendanceIndexService.findAttendances(
+                USER_ID, AttendanceIndexService.INDEXED_TYPES, LocalDate.now().minusDays(7), LocalDate.now());
+
+        // then
+        assertThat(result).isEmpty();
+        verify(userActivityRepository, never()).findDistinctActivityDates(anyLong(), anyCollection());
+        verify(redisTemplate, never()).delete("attendance:1:rebuilding");
+    }
+
+    @Test
+    @DisplayName("Redis 장애 시 예외 대신 Optional.empty() 를 반환하여 DB 조회로 대체")
+    @SuppressWarnings("unchecked")
+    void findAttendances_fallback_on_redis_failure() {
+        // given
+        when(redisTemplate.hasKey(anyString())).thenThrow(new RedisConnectionFailureException("connection refused"));
+
+        // when
+        Optional<Map<ActivityType, BitSet>> result = attendanceIndexService.findAttendances(
+                USER_ID, AttendanceIndexService.INDEXED_TYPES, LocalDate.now().minusDays(7), LocalDate.now());
+
+        // then
+        assertThat(result).isEmpty();
+        verify(redisTemplate, never()).executePipelined(any(RedisCallback.class));
+        verify(stringCommands, never()).setBit(any(byte[].class), anyLong(), eq(true));
+    }
+
+    @SuppressWarnings("unchecked")
+    private void givenRebuild(LocalDate date, Long scriptResult) {
+        List<Object[]> rows = new ArrayList<>();
+        rows.add(new Object[]{ActivityType.GROUP_AUTH_COMPLETE, date});
+        when(redisTemplate.hasKey("attendance:1:indexed")).thenReturn(false);
+        when(valueOperations.setIfAbsent(eq("attendance:1:rebuilding"), eq("1"), any(Duration.class)))
+                .thenReturn(true);
+        when(valueOperations.get("attendance:1:version")).thenReturn("3");
+        when(userActivityRepository.findDistinctActivityDates(USER_ID, AttendanceIndexService.INDEXED_TYPES))
+                .thenReturn(rows);
+        when(redisTemplate.executePipelined(any(RedisCallback.class))).thenAnswer(invocation -> {
+            ((RedisCallback<Object>) invocation.getArgument(0)).doInRedis(connection);
+            return List.of();
+        });
+        when(redisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class))).thenReturn(scriptResult);
+        when(redisTemplate.executePipelined(any(RedisCallback.class), any(RedisSerializer.class)))
+                .thenReturn(new ArrayList<>(Collections.singletonList(null)));
+    }
+
+    private byte[] rawKey(String key) {
+        return key.getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,105 @@
+package com.goormi.routine.domain.userActivity.service;
+
+import com.goormi.routine.domain.calendar.service.CalendarIntegrationService;
+import com.goormi.routine.domain.userActivity.entity.ActivityType;
+import com.goormi.routine.domain.userActivity.entity.DailyActivityRollup;
+import com.goormi.routine.domain.userActivity.repository.DailyActivityRollupRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 여러 스레드가 각자 트랜잭션을 커밋해야 하므로 테스트 트랜잭션 없이 실행하고 직접 정리
+ */
+@SpringBootTest
+@ActiveProfiles("ci")
+class DailyActivityRollupServiceTest {
+
+    private static final Long USER_ID = 900_001L;
+    private static final Long GROUP_ID = 900_002L;
+
+    @Autowired
+    private DailyActivityRollupService dailyActivityRollupService;
+    @Autowired
+    private DailyActivityRollupRepository dailyActivityRollupRepository;
+
+    @MockitoBean
+    private CalendarIntegrationService calendarIntegrationService;
+
+    @AfterEach
+    void tearDown() {
+        dailyActivityRollupRepository.deleteAll(findRollups());
+    }
+
+    @Test
+    @DisplayName("같은 날 첫 활동이 동시에 들어와도 집계 행은 하나이고 횟수가 모두 반영됨")
+    void apply_concurrent_first_increment() throws Exception {
+        // given
+        int threads = 8;
+        int incrementsPerThread = 25;
+        LocalDate today = LocalDate.now();
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+
+        // when
+        List<Future<?>> futures = new ArrayList<>();
+        for (int i = 0; i < threads; i++) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                for (int j = 0; j < incrementsPerThread; j++) {
+                    dailyActivityRollupService.apply(USER_ID, GROUP_ID, today, ActivityType.GROUP_AUTH_COMPLETE, 1);
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> future : futures) {
+            // 유니크 키 충돌이 나면 여기서 예외가 전파됨
+            future.get(30, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        // then
+        List<DailyActivityRollup> rollups = findRollups();
+        assertThat(rollups).hasSize(1);
+        assertThat(rollups.get(0).getActivityCount()).isEqualTo((long) threads * incrementsPerThread);
+    }
+
+    @Test
+    @DisplayName("감소는 기존 집계 행에만 반영되고 행을 새로 만들지 않음")
+    void apply_decrement() {
+        // given
+        LocalDate today = LocalDate.now();
+        dailyActivityRollupService.apply(USER_ID, GROUP_ID, today, ActivityType.GROUP_AUTH_COMPLETE, 2);
+
+        // when
+        dailyActivityRollupService.apply(USER_ID, GROUP_ID, today, ActivityType.GROUP_AUTH_COMPLETE, -1);
+        dailyActivityRollupService.apply(USER_ID, GROUP_ID, today.minusDays(1), ActivityType.GROUP_AUTH_COMPLETE, -1);
+
+        // then
+        List<DailyActivityRollup> rollups = findRollups();
+        assertThat(rollups).hasSize(1);
+        assertThat(rollups.get(0).getActivityCount()).isEqualTo(1);
+    }
+
+    private List<DailyActivityRollup> findRollups() {
+        return dailyActivityRollupRepository.findAll().stream()
+                .filter(rollup -> USER_ID.equals(rollup.getUserId()))
+                .toList();
+    }
+}
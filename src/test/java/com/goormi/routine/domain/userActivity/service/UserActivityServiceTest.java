@@ -13,17 +13,21 @@ import com.goormi.routine.domain.group.service.GroupMemberService;
 import com.goormi.routine.domain.group.service.GroupService;
 import com.goormi.routine.domain.user.entity.User;
 import com.goormi.routine.domain.user.repository.UserRepository;
+import com.goormi.routine.domain.userActivity.dto.UserActivityBulkResponse;
 import com.goormi.routine.domain.userActivity.dto.UserActivityRequest;
 import com.goormi.routine.domain.userActivity.dto.UserActivityResponse;
 import com.goormi.routine.domain.userActivity.entity.ActivityType;
 import com.goormi.routine.domain.userActivity.entity.UserActivity;
+import com.goormi.routine.domain.userActivity.repository.DailyActivityRollupRepository;
 import com.goormi.routine.domain.userActivity.repository.UserActivityRepository;
 import com.goormi.routine.domain.personal_routines.domain.PersonalRoutine;
 import com.goormi.routine.domain.personal_routines.dto.PersonalRoutineRequest;
 import com.goormi.routine.domain.personal_routines.dto.PersonalRoutineResponse;
 import com.goormi.routine.domain.personal_routines.repository.PersonalRoutineRepository;
 import com.goormi.routine.domain.personal_routines.service.PersonalRoutineService;
-import jakarta.transaction.Transactional;
+import com.goormi.routine.domain.ranking.repository.RankingRepository;
+import com.goormi.routine.domain.ranking.service.RankingEventListener.GroupAuthCompletedEvent;
+import com.goormi.routine.domain.ranking.service.RankingService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -31,11 +35,16 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.event.ApplicationEvents;
+import org.springframework.test.context.event.RecordApplicationEvents;
+import org.springframework.transaction.annotation.Transactional;
 import com.goormi.routine.domain.calendar.service.CalendarIntegrationService;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -44,6 +53,7 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 @SpringBootTest
 @ActiveProfiles("ci")
 @Transactional
+@RecordApplicationEvents
 class UserActivityServiceTest {
 
     @Autowired
@@ -64,6 +74,14 @@ class UserActivityServiceTest {
     private PersonalRoutineService personalRoutineService;
     @Autowired
     private PersonalRoutineRepository personalRoutineRepository;
+    @Autowired
+    private RankingService rankingService;
+    @Autowired
+    private RankingRepository rankingRepository;
+    @Autowired
+    private DailyActivityRollupRepository dailyActivityRollupRepository;
+    @Autowired
+    private ApplicationEvents applicationEvents;
     
     // 캘린더 통합 서비스를 Mock으로 대체하여 실제 이벤트 처리 방지
     @MockitoBean
@@ -176,6 +194,103 @@ class UserActivityServiceTest {
         assertThat(exception.getMessage()).isEqualTo("PersonalRoutine Id is null");
     }
 
+    @Test
+    @DisplayName("활동 일괄 생성 성공")
+    void create_bulk_activities_success() {
+        // given
+        List<UserActivityRequest> requests = List.of(
+                UserActivityRequest.builder()
+                        .activityType(ActivityType.GROUP_AUTH_COMPLETE)
+                        .groupId(savedGroup.getGroupId())
+                        .imageUrl("image")
+                        .build(),
+                UserActivityRequest.builder()
+                        .activityType(ActivityType.PERSONAL_ROUTINE_COMPLETE)
+                        .personalRoutineId(savedRoutine.getRoutineId())
+                        .build(),
+                UserActivityRequest.builder()
+                        .activityType(ActivityType.DAILY_CHECKLIST)
+                        .build());
+
+        // when
+        UserActivityBulkResponse response = userActivityService.createBulk(user.getId(), requests);
+
+        // then
+        assertThat(response.getCreatedCount()).isEqualTo(3);
+        assertThat(response.getUserActivityIds()).hasSize(3);
+        assertThat(userActivityService.getUserActivitiesPerDay(user.getId(), LocalDate.now(java.time.ZoneId.of("Asia/Seoul")))).hasSize(3);
+    }
+
+    @Test
+    @DisplayName("그룹 인증을 일괄 생성해도 같은 횟수를 개별 생성한 것과 랭킹 점수가 같음")
+    void create_bulk_ranking_score_same_as_single() {
+        // given
+        int authCount = 3;
+        String monthYear = LocalDate.now().format(DateTimeFormatter.ofPattern("yyyy-MM"));
+
+        // when: 리더는 개별 생성 (생성할 때마다 이벤트 처리), 멤버는 일괄 생성
+        for (int i = 0; i < authCount; i++) {
+            userActivityService.create(leader.getId(), UserActivityRequest.builder()
+                    .activityType(ActivityType.GROUP_AUTH_COMPLETE)
+                    .activityDate(LocalDate.now())
+                    .groupId(savedGroup.getGroupId())
+                    .build());
+            replayRankingEvents();
+        }
+
+        List<UserActivityRequest> requests = new ArrayList<>();
+        for (int i = 0; i < authCount; i++) {
+            requests.add(UserActivityRequest.builder()
+                    .activityType(ActivityType.GROUP_AUTH_COMPLETE)
+                    .groupId(savedGroup.getGroupId())
+                    .build());
+        }
+        userActivityService.createBulk(user.getId(), requests);
+        replayRankingEvents();
+
+        // then
+        int singleScore = rankingRepository.findByUserIdAndGroupIdAndMonthYear(
+                leader.getId(), savedGroup.getGroupId(), monthYear).orElseThrow().getScore();
+        int bulkScore = rankingRepository.findByUserIdAndGroupIdAndMonthYear(
+                user.getId(), savedGroup.getGroupId(), monthYear).orElseThrow().getScore();
+        assertThat(singleScore).isGreaterThanOrEqualTo(authCount * 10);
+        assertThat(bulkScore).isEqualTo(singleScore);
+    }
+
+    /**
+     * 테스트 트랜잭션은 커밋되지 않아 AFTER_COMMIT 리스너가 실행되지 않으므로, 발행된 이벤트를 리스너와 같은 방식으로 반영
+     */
+    private void replayRankingEvents() {
+        LocalDate startDate = LocalDate.now().withDayOfMonth(1);
+        LocalDate endDate = startDate.plusMonths(1).minusDays(1);
+        applicationEvents.stream(GroupAuthCompletedEvent.class).forEach(event -> {
+            int monthlyAuthCount = (int) dailyActivityRollupRepository.sumByUserIdAndActivityType(
+                    event.getUserId(), ActivityType.GROUP_AUTH_COMPLETE, startDate, endDate);
+            rankingService.updateRankingScore(event.getUserId(), event.getGroupId(), monthlyAuthCount,
+                    event.getActivityCount());
+        });
+        applicationEvents.clear();
+    }
+
+    @Test
+    @DisplayName("활동 일괄 생성 실패 - 가입하지 않은 그룹이 포함된 경우 전체 실패")
+    void create_bulk_activities_fail_with_unknown_group() {
+        // given
+        List<UserActivityRequest> requests = List.of(
+                UserActivityRequest.builder()
+                        .activityType(ActivityType.DAILY_CHECKLIST)
+                        .build(),
+                UserActivityRequest.builder()
+                        .activityType(ActivityType.GROUP_AUTH_COMPLETE)
+                        .groupId(-1L)
+                        .build());
+
+        // when & then
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> userActivityService.createBulk(user.getId(), requests));
+        assertThat(exception.getMessage()).isEqualTo("GroupMember not found");
+    }
+
     @Test
     @DisplayName("개인 루틴 활동 생성 후 업데이트 성공")
     void update_personal_routine_activity_success() {